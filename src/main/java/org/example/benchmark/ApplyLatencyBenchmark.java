@@ -0,0 +1,72 @@
+package org.example.benchmark;
+
+import ch.qos.logback.classic.Level;
+import org.example.functions.ArrayTabulatedFunction;
+import org.example.functions.SortedArraySearch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Random;
+
+// Замер задержки apply у ArrayTabulatedFunction в зависимости от размера таблицы (10 .. 10^7 точек).
+// Запуск: java -cp ... org.example.benchmark.ApplyLatencyBenchmark [число запросов]
+public class ApplyLatencyBenchmark {
+    private static final Logger logger = LoggerFactory.getLogger(ApplyLatencyBenchmark.class);
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURE_ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int queries = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        logger.info("Запуск ApplyLatencyBenchmark, запросов на замер: {}", queries);
+        // DEBUG-логирование в apply исказит замеры, поэтому на время бенчмарка оставляем только предупреждения
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("org.example")).setLevel(Level.WARN);
+
+        System.out.printf("%10s %16s %16s %16s%n", "points", "apply ns/op", "binary ns/op", "interp. ns/op");
+        for (int size = 10; size <= 10_000_000; size *= 10) {
+            int count = size;
+            ArrayTabulatedFunction function = new ArrayTabulatedFunction(Math::sin, 0.0, 100.0, count);
+            double[] xValues = new double[count];
+            for (int i = 0; i < count; i++) {
+                xValues[i] = function.getX(i);
+            }
+
+            double[] queryPoints = new double[queries];
+            Random random = new Random(42);
+            for (int i = 0; i < queries; i++) {
+                queryPoints[i] = 100.0 * random.nextDouble();
+            }
+
+            double apply = measure(queryPoints, x -> function.apply(x));
+            double binary = measure(queryPoints, x -> SortedArraySearch.lowerBound(xValues, 0, count, x));
+            double interpolation = measure(queryPoints, x -> SortedArraySearch.interpolationLowerBound(xValues, 0, count, x));
+            System.out.printf("%10d %16.1f %16.1f %16.1f%n", count, apply, binary, interpolation);
+        }
+    }
+
+    // Среднее время одного вызова в наносекундах по лучшему из MEASURE_ROUNDS прогонов
+    private static double measure(double[] queryPoints, java.util.function.DoubleUnaryOperator operation) {
+        double sink = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            for (double x : queryPoints) {
+                sink += operation.applyAsDouble(x);
+            }
+        }
+
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (double x : queryPoints) {
+                sink += operation.applyAsDouble(x);
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        // Результат используется, чтобы JIT не выбросил вычисления
+        if (sink == 42.4242) {
+            System.out.println(sink);
+        }
+        return (double) best / queryPoints.length;
+    }
+}
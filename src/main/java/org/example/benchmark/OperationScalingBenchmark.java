@@ -0,0 +1,74 @@
+package org.example.benchmark;
+
+import ch.qos.logback.classic.Level;
+import org.example.functions.ArrayTabulatedFunction;
+import org.example.functions.TabulatedFunction;
+import org.example.operations.TabulatedFunctionOperationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ForkJoinPool;
+
+// Масштабирование параллельного режима TabulatedFunctionOperationService по числу ядер: от 1 до всех доступных.
+// Запуск: java -cp ... org.example.benchmark.OperationScalingBenchmark [число точек]
+public class OperationScalingBenchmark {
+    private static final Logger logger = LoggerFactory.getLogger(OperationScalingBenchmark.class);
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURE_ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        logger.info("Запуск OperationScalingBenchmark: {} точек, до {} ядер", count, cores);
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("org.example")).setLevel(Level.WARN);
+
+        // Разные массивы X, чтобы каждый прогон честно сверял сетки
+        TabulatedFunction a = new ArrayTabulatedFunction(Math::sin, 0.0, 100.0, count);
+        TabulatedFunction b = new ArrayTabulatedFunction(Math::cos, 0.0, 100.0, count);
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+
+        double sequential = measure(service, a, b);
+        System.out.printf("%8s %12s %10s%n", "threads", "add ms", "speedup");
+        System.out.printf("%8s %12.2f %10.2f%n", "seq", sequential, 1.0);
+
+        for (int threads = 1; threads <= cores; threads = nextThreads(threads, cores)) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                service.setParallelPool(pool);
+                double parallel = measure(service, a, b);
+                System.out.printf("%8d %12.2f %10.2f%n", threads, parallel, sequential / parallel);
+            } finally {
+                service.setParallelPool(null);
+                pool.shutdown();
+            }
+        }
+    }
+
+    // 1, 2, 4, ... и в конце ровно cores
+    private static int nextThreads(int threads, int cores) {
+        if (threads == cores) {
+            return cores + 1;
+        }
+        return Math.min(threads * 2, cores);
+    }
+
+    // Лучшее время одной операции в миллисекундах
+    private static double measure(TabulatedFunctionOperationService service, TabulatedFunction a, TabulatedFunction b) {
+        double sink = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            sink += service.add(a, b).getY(0);
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            long start = System.nanoTime();
+            sink += service.add(a, b).getY(0);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        if (sink == 42.4242) {
+            System.out.println(sink);
+        }
+        return best / 1e6;
+    }
+}
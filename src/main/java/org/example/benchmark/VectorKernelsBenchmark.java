@@ -0,0 +1,78 @@
+package org.example.benchmark;
+
+import ch.qos.logback.classic.Level;
+import org.example.kernels.DoubleKernels;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Random;
+
+// Сравнение скалярных и векторных ядер DoubleKernels на поэлементном сложении и интерполяции.
+// Векторный путь включается только при запуске с --add-modules jdk.incubator.vector.
+public class VectorKernelsBenchmark {
+    private static final Logger logger = LoggerFactory.getLogger(VectorKernelsBenchmark.class);
+
+    // Векторные интринсики компилируются JIT не сразу, поэтому прогрев считается в элементах, а не в прогонах
+    private static final long WARMUP_ELEMENTS = 50_000_000L;
+    private static final int MEASURE_ROUNDS = 10;
+
+    private interface Kernel {
+        void run(DoubleKernels kernels);
+    }
+
+    public static void main(String[] args) {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("org.example")).setLevel(Level.WARN);
+        DoubleKernels scalar = DoubleKernels.scalar();
+        DoubleKernels selected = DoubleKernels.get();
+        if (!selected.isVectorized()) {
+            logger.warn("Векторные ядра недоступны - запустите с --add-modules jdk.incubator.vector");
+        }
+
+        System.out.printf("%10s %12s %14s %14s %10s%n", "size", "kernel", "scalar ns/el", "selected ns/el", "speedup");
+        for (int size = 1_000; size <= 10_000_000; size *= 10) {
+            Random random = new Random(42);
+            double[] a = new double[size];
+            double[] b = new double[size];
+            double[] out = new double[size];
+            int[] floor = new int[size];
+            double[] tableX = new double[size + 1];
+            double[] tableY = new double[size + 1];
+            for (int i = 0; i <= size; i++) {
+                tableX[i] = i;
+                tableY[i] = random.nextDouble();
+            }
+            for (int i = 0; i < size; i++) {
+                a[i] = random.nextDouble();
+                b[i] = random.nextDouble() + 1;
+                floor[i] = i;
+                a[i] += i; // a - заодно точки внутри интервалов [i, i + 1]
+            }
+
+            int n = size;
+            report(n, "add", scalar, selected, kernels -> kernels.add(a, b, out, 0, n));
+            report(n, "div", scalar, selected, kernels -> kernels.div(a, b, out, 0, n));
+            report(n, "interpolate", scalar, selected, kernels -> kernels.interpolate(a, floor, tableX, tableY, out, 0, n));
+        }
+    }
+
+    private static void report(int size, String name, DoubleKernels scalar, DoubleKernels selected, Kernel kernel) {
+        double scalarTime = measure(size, scalar, kernel);
+        double selectedTime = measure(size, selected, kernel);
+        System.out.printf("%10d %12s %14.3f %14.3f %10.2f%n", size, name, scalarTime, selectedTime, scalarTime / selectedTime);
+    }
+
+    // Лучшее время на элемент в наносекундах
+    private static double measure(int size, DoubleKernels kernels, Kernel kernel) {
+        long warmupRounds = Math.max(5, WARMUP_ELEMENTS / size);
+        for (long round = 0; round < warmupRounds; round++) {
+            kernel.run(kernels);
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            long start = System.nanoTime();
+            kernel.run(kernels);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return (double) best / size;
+    }
+}
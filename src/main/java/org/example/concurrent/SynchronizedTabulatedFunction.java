@@ -1,14 +1,16 @@
 package org.example.concurrent;
 
+import org.example.functions.DoubleBinaryConsumer;
 import org.example.functions.Point;
+import org.example.functions.PointCursor;
 import org.example.functions.TabulatedFunction;
-import org.example.operations.TabulatedFunctionOperationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.function.DoubleBinaryOperator;
 
 public class SynchronizedTabulatedFunction implements TabulatedFunction {
     private static final Logger logger = LoggerFactory.getLogger(SynchronizedTabulatedFunction.class);
@@ -81,18 +83,39 @@ public class SynchronizedTabulatedFunction implements TabulatedFunction {
         return result;
     }
 
+    // Весь обход выполняется под блокировкой
+    @Override
+    public synchronized void forEachPoint(DoubleBinaryConsumer action) {
+        function.forEachPoint(action);
+    }
+
+    // Весь проход выполняется под блокировкой
+    @Override
+    public synchronized void replaceAllY(DoubleBinaryOperator operator) {
+        function.replaceAllY(operator);
+    }
+
     @Override
     public Iterator<Point> iterator() {
-        Point[] pointsCopy;
+        // Снимок точек в примитивных массивах; объекты Point создаются только по мере обхода
+        double[] xCopy;
+        double[] yCopy;
         synchronized (this) {
-            pointsCopy = TabulatedFunctionOperationService.asPoints(function);
+            int count = function.getCount();
+            xCopy = new double[count];
+            yCopy = new double[count];
+            PointCursor cursor = function.cursor();
+            while (cursor.next()) {
+                xCopy[cursor.getIndex()] = cursor.getX();
+                yCopy[cursor.getIndex()] = cursor.getY();
+            }
         }
         return new Iterator<Point>() {
             private int index = 0;
 
             @Override
             public boolean hasNext() {
-                return index < pointsCopy.length;
+                return index < xCopy.length;
             }
 
             @Override
@@ -100,7 +123,9 @@ public class SynchronizedTabulatedFunction implements TabulatedFunction {
                 if (!hasNext()) {
                     throw new NoSuchElementException();
                 }
-                return pointsCopy[index++];
+                Point point = new Point(xCopy[index], yCopy[index]);
+                index++;
+                return point;
             }
         };
     }
@@ -51,13 +51,13 @@ public abstract class AbstractTabulatedFunction implements TabulatedFunction {
         sb.append(" size = ");
         sb.append(getCount());
 
-        for (Point point : this) {
+        forEachPoint((x, y) -> {
             sb.append("\n[");
-            sb.append(point.x);
+            sb.append(x);
             sb.append("; ");
-            sb.append(point.y);
+            sb.append(y);
             sb.append("]");
-        }
+        });
 
         return sb.toString();
     }
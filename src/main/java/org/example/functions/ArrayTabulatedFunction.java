@@ -2,8 +2,10 @@ package org.example.functions;
 
 import java.util.Arrays;
 import java.io.Serializable;
+import java.util.function.DoubleBinaryOperator;
 
 import org.example.exceptions.*;
+import org.example.kernels.DoubleKernels;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -14,9 +16,29 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
     private int capacity; // Добавленное поле для запаса памяти
     private double[] xValues;
     private double[] yValues;
+    // true, если массив xValues общий с другой функцией на той же сетке (см. withYValues);
+    // перед изменением X такой массив копируется
+    private boolean sharedX;
+    // Скомпилированный режим (см. setCompiled): таблица наклонов строится лениво
+    // и выбрасывается при любом изменении точек
+    private boolean compiled;
+    private transient volatile CompiledLinearTable compiledTable;
 
     private static final Logger log = LoggerFactory.getLogger(ArrayTabulatedFunction.class);
 
+    // С такого размера пакета applyAll переходит на векторные ядра (если они доступны)
+    private static final int VECTOR_BATCH_THRESHOLD = 256;
+    // Векторный путь обрабатывает пакет порциями такого размера в рабочих буферах потока
+    private static final int VECTOR_CHUNK = 1024;
+    private static final ThreadLocal<VectorScratch> VECTOR_SCRATCH = ThreadLocal.withInitial(VectorScratch::new);
+
+    // Буферы одной порции векторного applyAll: интервалы точек и точки, посчитанные отдельно
+    private static final class VectorScratch {
+        final int[] floor = new int[VECTOR_CHUNK];
+        final int[] special = new int[VECTOR_CHUNK];
+        final double[] specialValues = new double[VECTOR_CHUNK];
+    }
+
     public ArrayTabulatedFunction(double[] xValues, double[] yValues) {
         if (xValues.length < 2) {
             throw new IllegalArgumentException("Длина таблицы должна быть не менее 2 точек");
@@ -55,6 +77,90 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
         log.debug("Создан ArrayTabulatedFunction дискретизацией: размер={}, диапазон=[{}, {}], шаг={}", this.count, xFrom, xTo, step);
     }
 
+    // Функция на общей сетке: массивы не копируются
+    private ArrayTabulatedFunction(double[] xValues, double[] yValues, int count) {
+        this.count = count;
+        this.capacity = count;
+        this.xValues = xValues;
+        this.yValues = yValues;
+        this.sharedX = true;
+    }
+
+    // Новая функция с теми же X и значениями yValues. Массив X становится общим для обеих функций
+    // и копируется при первой вставке или удалении в любой из них, а yValues переходит
+    // во владение новой функции без копирования - вызывающий не должен его больше изменять.
+    public ArrayTabulatedFunction withYValues(double[] yValues) {
+        if (yValues.length != count) {
+            throw new DifferentLengthOfArraysException("Длинна X и Y различна");
+        }
+        sharedX = true;
+        log.debug("Создан ArrayTabulatedFunction на общей сетке: размер={}", count);
+        return new ArrayTabulatedFunction(xValues, yValues, count);
+    }
+
+    // true, если у функций один и тот же массив X (одна сетка), сравнивать X поэлементно не нужно
+    public boolean hasSameGrid(ArrayTabulatedFunction other) {
+        return xValues == other.xValues && count == other.count;
+    }
+
+    // Массивы хранения без копирования - для пакетных операций над таблицами.
+    // Значимы первые getCount() элементов; после insert/remove массивы устаревают.
+    // Y принадлежат только этой функции и их можно менять на месте (см. yValuesChanged),
+    // X (возможно, общий с другими функциями) - нельзя.
+    public double[] xValuesView() {
+        return xValues;
+    }
+
+    // Получение массива не трогает скомпилированную таблицу, поэтому чтение через него ничего не стоит
+    public double[] yValuesView() {
+        return yValues;
+    }
+
+    // Тот, кто изменил Y на месте через yValuesView, вызывает этот метод после записи:
+    // таблица наклонов скомпилированного режима сбрасывается и строится заново при следующем вычислении
+    public void yValuesChanged() {
+        invalidateCompiled();
+    }
+
+    // В скомпилированном режиме apply и applyAll считают по заранее посчитанным наклонам интервалов
+    // (одна операция fma на точку, без деления). Выгоден для таблиц, которые часто читаются и редко меняются:
+    // после setY, insert, remove или yValuesChanged наклоны пересчитываются при следующем вычислении.
+    // Интервалы нулевой ширины в этом режиме не приводят к исключению.
+    public void setCompiled(boolean compiled) {
+        this.compiled = compiled;
+        compiledTable = null;
+        log.debug("Скомпилированный режим интерполяции {}", compiled ? "включён" : "выключен");
+    }
+
+    public boolean isCompiled() {
+        return compiled;
+    }
+
+    private CompiledLinearTable compiledTable() {
+        CompiledLinearTable table = compiledTable;
+        if (table == null) {
+            table = new CompiledLinearTable(xValues, yValues, count);
+            compiledTable = table;
+            log.debug("Построена таблица наклонов: {} интервалов", count - 1);
+        }
+        return table;
+    }
+
+    private void invalidateCompiled() {
+        if (compiledTable != null) {
+            compiledTable = null;
+        }
+    }
+
+    // Собственная копия X перед его изменением
+    private void unshareX() {
+        if (sharedX) {
+            xValues = Arrays.copyOf(xValues, capacity);
+            sharedX = false;
+            log.debug("Сетка X скопирована перед изменением, размер={}", count);
+        }
+    }
+
     @Override
     public int getCount() {
         return count;
@@ -82,14 +188,15 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
             throw new IllegalArgumentException("Индекс " + index + " выходит за границы [0, " + (count - 1) + "]");
         }
         yValues[index] = y;
+        invalidateCompiled();
     }
 
     @Override
     public int indexOfX(double x) {
-        for (int i = 0; i < count; i++) {
-            if (xValues[i] == x) {
-                return i;
-            }
+        // X отсортирован, поэтому достаточно двоичного поиска
+        int index = SortedArraySearch.lowerBound(xValues, 0, count, x);
+        if (index < count && xValues[index] == x) {
+            return index;
         }
         return -1;
     }
@@ -119,12 +226,122 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
         if (x < xValues[0]) {
             throw new IllegalArgumentException("x = " + x + " меньше левой границы " + xValues[0]);
         }
-        for (int i = 1; i < count; i++) {
-            if (xValues[i] >= x) {
-                return i - 1;
+        // Первый индекс i >= 1, для которого xValues[i] >= x; левая граница интервала - i - 1
+        int index = SortedArraySearch.lowerBound(xValues, 1, count, x);
+        if (index == count) {
+            return count;
+        }
+        return index - 1;
+    }
+
+    // Точное совпадение и интервал интерполяции находятся за один проход поиска
+    @Override
+    public double apply(double x) {
+        if (compiled) {
+            return compiledTable().apply(x);
+        }
+        if (x < xValues[0]) {
+            log.debug("apply: x={} < левая граница={}, экстраполяция влево", x, xValues[0]);
+            return extrapolateLeft(x);
+        }
+        if (x > xValues[count - 1]) {
+            log.debug("apply: x={} > правая граница={}, экстраполяция вправо", x, xValues[count - 1]);
+            return extrapolateRight(x);
+        }
+        if (Double.isNaN(x)) {
+            return Double.NaN;
+        }
+
+        int index = SortedArraySearch.interpolationLowerBound(xValues, 0, count, x);
+        if (xValues[index] == x) {
+            log.debug("apply: точное совпадение по индексу={}, x={}, y={}", index, x, yValues[index]);
+            return yValues[index];
+        }
+        log.debug("apply: интерполяция x={} с floorIndex={}", x, index - 1);
+        return interpolate(x, index - 1);
+    }
+
+    // Пакетное вычисление: для возрастающих xs поиск интервала сводится к проходу слиянием по таблице
+    @Override
+    public void applyAll(double[] xs, double[] out) {
+        MathFunction.checkBatchLength(xs, out);
+        log.debug("applyAll: вычисление в {} точках", xs.length);
+        if (compiled) {
+            compiledTable().applyAll(xs, out);
+            return;
+        }
+
+        DoubleKernels kernels = DoubleKernels.get();
+        if (kernels.isVectorized() && xs.length >= VECTOR_BATCH_THRESHOLD) {
+            applyAllVectorized(xs, out, kernels);
+            return;
+        }
+
+        double left = xValues[0];
+        double right = xValues[count - 1];
+        int index = 0;
+        for (int i = 0; i < xs.length; i++) {
+            double x = xs[i];
+            if (x < left) {
+                out[i] = extrapolateLeft(x);
+            } else if (x > right) {
+                out[i] = extrapolateRight(x);
+            } else if (Double.isNaN(x)) {
+                out[i] = Double.NaN;
+            } else {
+                index = SortedArraySearch.lowerBoundFrom(xValues, count, index, x);
+                if (xValues[index] == x) {
+                    out[i] = yValues[index];
+                } else {
+                    out[i] = interpolate(x, xValues[index - 1], xValues[index], yValues[index - 1], yValues[index]);
+                }
+            }
+        }
+    }
+
+    // Сначала проходом слияния находятся интервалы, затем все внутренние точки порции интерполируются
+    // одним векторным вызовом. Точки вне таблицы, точные совпадения и NaN досчитываются отдельно.
+    // Буферы порции берутся из ThreadLocal, поэтому путь не выделяет память и безопасен при параллельных вызовах.
+    // Интервал уже 1e-10 проверяется так же, как в скалярном пути, - результат не зависит от наличия модуля.
+    private void applyAllVectorized(double[] xs, double[] out, DoubleKernels kernels) {
+        VectorScratch scratch = VECTOR_SCRATCH.get();
+        int[] floor = scratch.floor;
+        int[] special = scratch.special;
+        double[] specialValues = scratch.specialValues;
+
+        double left = xValues[0];
+        double right = xValues[count - 1];
+        int index = 0;
+        for (int from = 0; from < xs.length; from += VECTOR_CHUNK) {
+            int to = Math.min(from + VECTOR_CHUNK, xs.length);
+            int specialCount = 0;
+            for (int i = from; i < to; i++) {
+                double x = xs[i];
+                floor[i - from] = 0;
+                if (x < left || x > right || Double.isNaN(x)) {
+                    specialValues[specialCount] = apply(x);
+                    special[specialCount++] = i;
+                    continue;
+                }
+                index = SortedArraySearch.lowerBoundFrom(xValues, count, index, x);
+                if (xValues[index] == x) {
+                    specialValues[specialCount] = yValues[index];
+                    special[specialCount++] = i;
+                } else if (xValues[index] - xValues[index - 1] < 1e-10) {
+                    // Бросает то же исключение, что и скалярный путь
+                    interpolate(x, xValues[index - 1], xValues[index], yValues[index - 1], yValues[index]);
+                } else {
+                    floor[i - from] = index - 1;
+                }
+            }
+
+            // Для особых точек floor = 0 - ядро посчитает для них мусор, который затем перезаписывается
+            kernels.interpolate(xs, floor, xValues, yValues, out, from, to);
+
+            for (int k = 0; k < specialCount; k++) {
+                out[special[k]] = specialValues[k];
             }
         }
-        return count;
     }
 
     @Override
@@ -165,6 +382,7 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
 
     @Override
     public void insert(double x, double y) {
+        invalidateCompiled();
         int index = indexOfX(x);
 
         // Если x уже существует, заменяем y
@@ -179,14 +397,13 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
             capacity += 5; // Увеличиваем запас памяти
             xValues = Arrays.copyOf(xValues, capacity);
             yValues = Arrays.copyOf(yValues, capacity);
+            sharedX = false;
             log.debug("insert: увеличена вместимость до {}", capacity);
         }
+        unshareX();
 
         // Находим позицию для вставки
-        int insertIndex = 0;
-        while (insertIndex < count && xValues[insertIndex] < x) {
-            insertIndex++;
-        }
+        int insertIndex = SortedArraySearch.lowerBound(xValues, 0, count, x);
 
         // Сдвигаем элементы вправо
         System.arraycopy(xValues, insertIndex, xValues, insertIndex + 1, count - insertIndex);
@@ -209,6 +426,9 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
             throw new IllegalStateException("Нельзя удалить элемент из таблицы с менее чем 2 точками");
         }
 
+        unshareX();
+        invalidateCompiled();
+
         // Сдвигаем элементы влево, начиная с позиции после удаляемого элемента
         if (index < count - 1) {
             System.arraycopy(xValues, index + 1, xValues, index, count - index - 1);
@@ -225,6 +445,64 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
         log.debug("remove: удалён индекс={}, новый размер={}", index, count);
     }
 
+    @Override
+    public void forEachPoint(DoubleBinaryConsumer action) {
+        for (int i = 0; i < count; i++) {
+            action.accept(xValues[i], yValues[i]);
+        }
+    }
+
+    @Override
+    public PointCursor cursor() {
+        return new PointCursor() {
+            private int index = -1;
+
+            @Override
+            public boolean next() {
+                if (index + 1 >= count) {
+                    index = count;
+                    return false;
+                }
+                index++;
+                return true;
+            }
+
+            @Override
+            public int getIndex() {
+                return index;
+            }
+
+            @Override
+            public double getX() {
+                return xValues[index];
+            }
+
+            @Override
+            public double getY() {
+                return yValues[index];
+            }
+
+            @Override
+            public void setY(double value) {
+                yValues[index] = value;
+                invalidateCompiled();
+            }
+
+            @Override
+            public void reset() {
+                index = -1;
+            }
+        };
+    }
+
+    @Override
+    public void replaceAllY(DoubleBinaryOperator operator) {
+        for (int i = 0; i < count; i++) {
+            yValues[i] = operator.applyAsDouble(xValues[i], yValues[i]);
+        }
+        invalidateCompiled();
+    }
+
     @Override
     public java.util.Iterator<Point> iterator() {
         return new java.util.Iterator<Point>() {
@@ -0,0 +1,66 @@
+package org.example.functions;
+
+// Кусочно-линейная интерполяция по заранее посчитанным наклонам интервалов.
+// Значение на интервале k - одна операция fma(slope[k], x - x[k], y[k]): без деления, без проверки
+// ширины интервала и без ветвей, бросающих исключения. Форма с x - x[k] выбрана вместо
+// slope·x + intercept: пересечение с осью далеко от таблицы теряет точность при больших |x|.
+// Массивы x и y не копируются; владелец таблицы отвечает за то, чтобы выбросить её после их изменения.
+final class CompiledLinearTable {
+    private final double[] xValues;
+    private final double[] yValues;
+    private final double[] slopes;
+    private final int count;
+
+    CompiledLinearTable(double[] xValues, double[] yValues, int count) {
+        this.xValues = xValues;
+        this.yValues = yValues;
+        this.count = count;
+        this.slopes = new double[count - 1];
+        for (int i = 0; i < count - 1; i++) {
+            double width = xValues[i + 1] - xValues[i];
+            // Интервал нулевой ширины никогда не выбирается поиском - наклон не важен, лишь бы не NaN
+            slopes[i] = width == 0 ? 0 : (yValues[i + 1] - yValues[i]) / width;
+        }
+    }
+
+    private double line(double x, int interval) {
+        return Math.fma(slopes[interval], x - xValues[interval], yValues[interval]);
+    }
+
+    double apply(double x) {
+        if (x < xValues[0]) {
+            return line(x, 0);
+        }
+        if (x > xValues[count - 1]) {
+            return line(x, count - 2);
+        }
+        if (Double.isNaN(x)) {
+            return Double.NaN;
+        }
+        int index = SortedArraySearch.interpolationLowerBound(xValues, 0, count, x);
+        if (xValues[index] == x) {
+            return yValues[index];
+        }
+        return line(x, index - 1);
+    }
+
+    // Для возрастающих xs поиск интервала - проход слиянием по таблице
+    void applyAll(double[] xs, double[] out) {
+        double left = xValues[0];
+        double right = xValues[count - 1];
+        int index = 0;
+        for (int i = 0; i < xs.length; i++) {
+            double x = xs[i];
+            if (x < left) {
+                out[i] = line(x, 0);
+            } else if (x > right) {
+                out[i] = line(x, count - 2);
+            } else if (Double.isNaN(x)) {
+                out[i] = Double.NaN;
+            } else {
+                index = SortedArraySearch.lowerBoundFrom(xValues, count, index, x);
+                out[i] = xValues[index] == x ? yValues[index] : line(x, index - 1);
+            }
+        }
+    }
+}
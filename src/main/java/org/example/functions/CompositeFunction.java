@@ -21,4 +21,24 @@ public class CompositeFunction implements MathFunction {
     public double apply(double x) {
         return secondFunction.apply(firstFunction.apply(x));
     }
+
+    // Композиция, дифференцируемая на дуальных числах, если обе части это умеют, иначе обычная
+    public static CompositeFunction of(MathFunction first, MathFunction second) {
+        if (first instanceof DifferentiableFunction && second instanceof DifferentiableFunction) {
+            return new DifferentiableCompositeFunction((DifferentiableFunction) first, (DifferentiableFunction) second);
+        }
+        return new CompositeFunction(first, second);
+    }
+
+    // Обе функции считаются пакетом; промежуточные значения по возможности хранятся прямо в out
+    @Override
+    public void applyAll(double[] xs, double[] out) {
+        MathFunction.checkBatchLength(xs, out);
+        double[] buffer = out.length == xs.length ? out : new double[xs.length];
+        firstFunction.applyAll(xs, buffer);
+        secondFunction.applyAll(buffer, buffer);
+        if (buffer != out) {
+            System.arraycopy(buffer, 0, out, 0, xs.length);
+        }
+    }
 }
\ No newline at end of file
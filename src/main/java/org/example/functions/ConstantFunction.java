@@ -1,9 +1,11 @@
 package org.example.functions;
 
+import java.util.Arrays;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class ConstantFunction implements MathFunction {
+public class ConstantFunction implements DifferentiableFunction {
     private final double constant;
     private static final Logger log = LoggerFactory.getLogger(ConstantFunction.class);
 
@@ -16,4 +18,15 @@ public class ConstantFunction implements MathFunction {
     public double apply(double x){
         return constant;
     }
+
+    @Override
+    public Dual apply(Dual x) {
+        return Dual.constant(constant);
+    }
+
+    @Override
+    public void applyAll(double[] xs, double[] out) {
+        MathFunction.checkBatchLength(xs, out);
+        Arrays.fill(out, 0, xs.length, constant);
+    }
 }
@@ -0,0 +1,33 @@
+package org.example.functions;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Композиция двух дифференцируемых функций. Создаётся andThen (через CompositeFunction.of),
+// когда обе части реализуют DifferentiableFunction, поэтому apply(Dual) всегда определён.
+public class DifferentiableCompositeFunction extends CompositeFunction implements DifferentiableFunction {
+    private static final Logger log = LoggerFactory.getLogger(DifferentiableCompositeFunction.class);
+
+    private final DifferentiableFunction firstFunction;
+    private final DifferentiableFunction secondFunction;
+
+    public DifferentiableCompositeFunction(DifferentiableFunction first, DifferentiableFunction second) {
+        super(first, second);
+        this.firstFunction = first;
+        this.secondFunction = second;
+        log.debug("Композиция дифференцируема на дуальных числах");
+    }
+
+    // apply(double) наследуется от CompositeFunction, а не берётся из DifferentiableFunction:
+    // обычное вычисление не должно платить за дуальные числа
+    @Override
+    public double apply(double x) {
+        return super.apply(x);
+    }
+
+    // Цепное правило получается само: дуальное число проходит через обе функции
+    @Override
+    public Dual apply(Dual x) {
+        return secondFunction.apply(firstFunction.apply(x));
+    }
+}
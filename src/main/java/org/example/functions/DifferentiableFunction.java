@@ -0,0 +1,25 @@
+package org.example.functions;
+
+// Функция, которую можно вычислить на дуальных числах: apply(Dual.variable(x)) за одно
+// вычисление даёт и f(x), и f'(x). Достаточно реализовать apply(Dual), например
+// DifferentiableFunction f = x -> x.sqr().add(1);
+public interface DifferentiableFunction extends MathFunction {
+
+    Dual apply(Dual x);
+
+    @Override
+    default double apply(double x) {
+        return apply(Dual.constant(x)).getValue();
+    }
+
+    // Производная в точке x
+    default double derivative(double x) {
+        return apply(Dual.variable(x)).getDerivative();
+    }
+
+    // Можно ли вычислить функцию на дуальных числах; andThen над двумя такими функциями
+    // создаёт DifferentiableCompositeFunction, так что проверка типа охватывает и композиции
+    static boolean isDifferentiable(MathFunction function) {
+        return function instanceof DifferentiableFunction;
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.functions;
+
+// Приёмник пары чисел (x, y) без упаковки в объекты
+@FunctionalInterface
+public interface DoubleBinaryConsumer {
+    void accept(double x, double y);
+}
@@ -0,0 +1,117 @@
+package org.example.functions;
+
+// Дуальное число value + derivative·ε, где ε² = 0.
+// Арифметика над такими числами одновременно считает значение функции и её производную
+// (прямой режим автоматического дифференцирования) - без разностных шагов и потери точности.
+public final class Dual {
+    private final double value;
+    private final double derivative;
+
+    public Dual(double value, double derivative) {
+        this.value = value;
+        this.derivative = derivative;
+    }
+
+    // Независимая переменная: dx/dx = 1
+    public static Dual variable(double x) {
+        return new Dual(x, 1.0);
+    }
+
+    // Константа: производная равна нулю
+    public static Dual constant(double c) {
+        return new Dual(c, 0.0);
+    }
+
+    public double getValue() {
+        return value;
+    }
+
+    public double getDerivative() {
+        return derivative;
+    }
+
+    public Dual add(Dual other) {
+        return new Dual(value + other.value, derivative + other.derivative);
+    }
+
+    public Dual add(double c) {
+        return new Dual(value + c, derivative);
+    }
+
+    public Dual subtract(Dual other) {
+        return new Dual(value - other.value, derivative - other.derivative);
+    }
+
+    public Dual subtract(double c) {
+        return new Dual(value - c, derivative);
+    }
+
+    public Dual multiply(Dual other) {
+        return new Dual(value * other.value, derivative * other.value + value * other.derivative);
+    }
+
+    public Dual multiply(double c) {
+        return new Dual(value * c, derivative * c);
+    }
+
+    public Dual divide(Dual other) {
+        double quotient = value / other.value;
+        return new Dual(quotient, (derivative - quotient * other.derivative) / other.value);
+    }
+
+    public Dual divide(double c) {
+        return new Dual(value / c, derivative / c);
+    }
+
+    public Dual negate() {
+        return new Dual(-value, -derivative);
+    }
+
+    public Dual sqr() {
+        return new Dual(value * value, 2 * value * derivative);
+    }
+
+    public Dual sqrt() {
+        double root = Math.sqrt(value);
+        return new Dual(root, derivative / (2 * root));
+    }
+
+    public Dual exp() {
+        double exp = Math.exp(value);
+        return new Dual(exp, exp * derivative);
+    }
+
+    public Dual log() {
+        return new Dual(Math.log(value), derivative / value);
+    }
+
+    public Dual sin() {
+        return new Dual(Math.sin(value), Math.cos(value) * derivative);
+    }
+
+    public Dual cos() {
+        return new Dual(Math.cos(value), -Math.sin(value) * derivative);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Dual)) {
+            return false;
+        }
+        Dual other = (Dual) o;
+        return Double.compare(value, other.value) == 0 && Double.compare(derivative, other.derivative) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(value) + Double.hashCode(derivative);
+    }
+
+    @Override
+    public String toString() {
+        return value + " + " + derivative + "ε";
+    }
+}
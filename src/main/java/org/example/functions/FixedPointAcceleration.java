@@ -0,0 +1,13 @@
+package org.example.functions;
+
+// Способ ускорения итераций x = phi(x) в IterativeMethodFunction
+public enum FixedPointAcceleration {
+    // Простая итерация x(k+1) = phi(x(k)), одно вычисление phi на шаг
+    NONE,
+    // Δ²-процесс Эйткена поверх простой итерации: та же последовательность, ускоряется только оценка
+    AITKEN,
+    // Стеффенсен: Эйткен с перезапуском из ускоренной точки, два вычисления phi на шаг, сходимость квадратичная
+    STEFFENSEN,
+    // Смешивание Андерсона: шаг по последним depth невязкам (регуляризованные МНК), одно вычисление phi на шаг
+    ANDERSON
+}
@@ -3,12 +3,25 @@ package org.example.functions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class IdentityFunction implements MathFunction {
+public class IdentityFunction implements DifferentiableFunction {
     private static final Logger log = LoggerFactory.getLogger(IdentityFunction.class);
     @Override
     public double apply(double x) {
         log.info("создан объект класса ConstantFunction");
         return x;
     }
+
+    @Override
+    public Dual apply(Dual x) {
+        return x;
+    }
+
+    @Override
+    public void applyAll(double[] xs, double[] out) {
+        MathFunction.checkBatchLength(xs, out);
+        if (xs != out) {
+            System.arraycopy(xs, 0, out, 0, xs.length);
+        }
+    }
 }
 
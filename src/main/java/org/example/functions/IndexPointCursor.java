@@ -0,0 +1,47 @@
+package org.example.functions;
+
+// Курсор по умолчанию: обход по индексам через getX/getY/setY функции
+class IndexPointCursor implements PointCursor {
+    private final TabulatedFunction function;
+    private int index = -1;
+
+    IndexPointCursor(TabulatedFunction function) {
+        this.function = function;
+    }
+
+    @Override
+    public boolean next() {
+        int count = function.getCount();
+        if (index + 1 >= count) {
+            index = count;
+            return false;
+        }
+        index++;
+        return true;
+    }
+
+    @Override
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public double getX() {
+        return function.getX(index);
+    }
+
+    @Override
+    public double getY() {
+        return function.getY(index);
+    }
+
+    @Override
+    public void setY(double value) {
+        function.setY(index, value);
+    }
+
+    @Override
+    public void reset() {
+        index = -1;
+    }
+}
@@ -5,14 +5,19 @@ import org.slf4j.LoggerFactory;
 
 public class IterativeMethodFunction implements MathFunction {
     private static final Logger log = LoggerFactory.getLogger(IterativeMethodFunction.class);
+
+    public static final int DEFAULT_ANDERSON_DEPTH = 3;
+    // Относительный вес регуляризации в нормальных уравнениях Андерсона
+    private static final double ANDERSON_REGULARIZATION = 1e-10;
+
     private final MathFunction phi;
     private final int maxIterations;
     private final double tolerance;
+    private final FixedPointAcceleration acceleration;
+    private final int andersonDepth;
 
     public IterativeMethodFunction(MathFunction phi, int maxIterations, double tolerance) {
-        this.phi = phi;
-        this.maxIterations = maxIterations;
-        this.tolerance = tolerance;
+        this(phi, maxIterations, tolerance, FixedPointAcceleration.NONE);
     }
 
     // Конструктор с дефолтными параметрами
@@ -20,23 +25,313 @@ public class IterativeMethodFunction implements MathFunction {
         this(phi, 1000, 1e-10);
     }
 
+    public IterativeMethodFunction(MathFunction phi, int maxIterations, double tolerance,
+                                   FixedPointAcceleration acceleration) {
+        this(phi, maxIterations, tolerance, acceleration, DEFAULT_ANDERSON_DEPTH);
+    }
+
+    // maxIterations - наибольшее число шагов метода при любой схеме ускорения (у Стеффенсена шаг
+    // стоит до двух вычислений phi, у остальных схем - одного); andersonDepth - сколько последних
+    // невязок учитывает смешивание Андерсона
+    public IterativeMethodFunction(MathFunction phi, int maxIterations, double tolerance,
+                                   FixedPointAcceleration acceleration, int andersonDepth) {
+        if (acceleration == null) {
+            throw new IllegalArgumentException("Способ ускорения не задан");
+        }
+        if (andersonDepth < 1) {
+            throw new IllegalArgumentException("Глубина памяти Андерсона должна быть положительной: " + andersonDepth);
+        }
+        this.phi = phi;
+        this.maxIterations = maxIterations;
+        this.tolerance = tolerance;
+        this.acceleration = acceleration;
+        this.andersonDepth = andersonDepth;
+    }
+
+    public FixedPointAcceleration getAcceleration() {
+        return acceleration;
+    }
+
+    public int getAndersonDepth() {
+        return andersonDepth;
+    }
+
+    // Итог одного решения
+    public static final class Solution {
+        private final double root;
+        private final int iterations;
+        private final int evaluations;
+        private final double residual;
+        private final boolean converged;
+
+        Solution(double root, int iterations, int evaluations, double residual, boolean converged) {
+            this.root = root;
+            this.iterations = iterations;
+            this.evaluations = evaluations;
+            this.residual = residual;
+            this.converged = converged;
+        }
+
+        public double getRoot() {
+            return root;
+        }
+
+        // Число выполненных шагов метода, включая последний - и при сходимости, и без неё
+        public int getIterations() {
+            return iterations;
+        }
+
+        // Сколько раз была вызвана phi
+        public int getEvaluations() {
+            return evaluations;
+        }
+
+        // |phi(x) - x| для последнего приближения x, в котором вычислялась phi
+        public double getResidual() {
+            return residual;
+        }
+
+        public boolean isConverged() {
+            return converged;
+        }
+
+        @Override
+        public String toString() {
+            return "Solution{root=" + root + ", iterations=" + iterations + ", evaluations=" + evaluations
+                    + ", residual=" + residual + ", converged=" + converged + "}";
+        }
+    }
+
     @Override
     public double apply(double x0) {
+        return solve(x0).getRoot();
+    }
+
+    public Solution solve(double x0) {
+        Solution solution;
+        switch (acceleration) {
+            case AITKEN:
+                solution = solveAitken(x0);
+                break;
+            case STEFFENSEN:
+                solution = solveSteffensen(x0);
+                break;
+            case ANDERSON:
+                solution = solveAnderson(x0);
+                break;
+            default:
+                solution = solvePicard(x0);
+                break;
+        }
+
+        if (solution.isConverged()) {
+            log.debug("Итерационный метод ({}) сошёлся за {} итераций: x*={} (старт={})",
+                    acceleration, solution.getIterations(), solution.getRoot(), x0);
+        } else {
+            log.warn("Итерационный метод ({}) не сошёлся за maxIterations={}, последнее x={} (старт={})",
+                    acceleration, maxIterations, solution.getRoot(), x0);
+        }
+        return solution;
+    }
+
+    private Solution solvePicard(double x0) {
         double xCurrent = x0;
         double xNext;
+        double residual;
         int iterations = 0;
 
         do {
             xNext = phi.apply(xCurrent);
-            if (Math.abs(xNext - xCurrent) < tolerance) {
-        log.debug("Итерационный метод сошёлся за {} итераций: x*={} (старт={})", iterations, xNext, x0);
-                return xNext;
+            iterations++;
+            residual = Math.abs(xNext - xCurrent);
+            if (residual < tolerance) {
+                return new Solution(xNext, iterations, iterations, residual, true);
             }
             xCurrent = xNext;
-            iterations++;
         } while (iterations < maxIterations);
 
-        log.warn("Итерационный метод не сошёлся за maxIterations={}, последнее x={} (старт={})", maxIterations, xNext, x0);
-        return xNext;
+        return new Solution(xNext, iterations, iterations, residual, false);
+    }
+
+    // Последовательность простой итерации не меняется; по трём соседним членам строится
+    // ускоренная оценка x(n) - (Δx(n))² / Δ²x(n), и сходимость проверяется по ней.
+    // Шаг - очередной член последовательности, одно вычисление phi
+    private Solution solveAitken(double x0) {
+        double x1 = phi.apply(x0);
+        int iterations = 1;
+        double residual = Math.abs(x1 - x0);
+        if (residual < tolerance) {
+            return new Solution(x1, iterations, iterations, residual, true);
+        }
+
+        double previousEstimate = Double.NaN;
+        while (iterations < maxIterations) {
+            double x2 = phi.apply(x1);
+            iterations++;
+            residual = Math.abs(x2 - x1);
+            if (residual < tolerance) {
+                return new Solution(x2, iterations, iterations, residual, true);
+            }
+
+            double denominator = x2 - 2 * x1 + x0;
+            double estimate = denominator == 0 ? x2 : x0 - (x1 - x0) * (x1 - x0) / denominator;
+            // Оценки тоже сходятся примерно с коэффициентом сжатия q, поэтому их разность
+            // сравнивается с tolerance·(1 - q), иначе остановка преждевременна
+            double ratio = Math.min(Math.abs((x2 - x1) / (x1 - x0)), 1.0);
+            if (Math.abs(estimate - previousEstimate) < tolerance * (1 - ratio)) {
+                return new Solution(estimate, iterations, iterations, residual, true);
+            }
+            previousEstimate = estimate;
+            x0 = x1;
+            x1 = x2;
+        }
+        return new Solution(Double.isNaN(previousEstimate) ? x1 : previousEstimate,
+                iterations, iterations, residual, false);
+    }
+
+    // Каждый шаг: y = phi(x), проверка невязки |y - x|, затем z = phi(y) и x = x - (y - x)² / (z - 2y + x).
+    // Последний разрешённый шаг останавливается на проверке: его z уже не понадобится
+    private Solution solveSteffensen(double x0) {
+        double x = x0;
+        int evaluations = 0;
+        int iterations = 0;
+
+        while (true) {
+            double y = phi.apply(x);
+            evaluations++;
+            iterations++;
+            double residual = Math.abs(y - x);
+            if (residual < tolerance) {
+                return new Solution(y, iterations, evaluations, residual, true);
+            }
+            if (iterations >= maxIterations) {
+                return new Solution(y, iterations, evaluations, residual, false);
+            }
+            double z = phi.apply(y);
+            evaluations++;
+
+            double denominator = z - 2 * y + x;
+            double next = denominator == 0 ? z : x - (y - x) * (y - x) / denominator;
+            if (!Double.isFinite(next)) {
+                // Вырожденный знаменатель - откатываемся к простой итерации
+                next = z;
+            }
+            x = next;
+        }
+    }
+
+    // Смешивание Андерсона (тип II) для f(x) = phi(x) - x: x(k+1) = g(k) - ΔG·γ, где γ минимизирует
+    // |f(k) - ΔF·γ|² + λ|γ|² по последним m разностям. Для скаляра ΔFᵀΔF вырождена при m > 1,
+    // регуляризация даёт решение с наименьшей нормой; при m = 1 это метод секущих.
+    private Solution solveAnderson(double x0) {
+        int depth = andersonDepth;
+        double[] deltaF = new double[depth];
+        double[] deltaG = new double[depth];
+        double[] normal = new double[depth * depth];
+        double[] rhs = new double[depth];
+        int stored = 0;
+        int head = 0;
+
+        double x = x0;
+        double previousF = Double.NaN;
+        double previousG = Double.NaN;
+        int iterations = 0;
+
+        while (true) {
+            double g = phi.apply(x);
+            iterations++;
+            double f = g - x;
+            double residual = Math.abs(f);
+            if (residual < tolerance) {
+                return new Solution(g, iterations, iterations, residual, true);
+            }
+            if (iterations >= maxIterations) {
+                return new Solution(g, iterations, iterations, residual, false);
+            }
+
+            if (!Double.isNaN(previousF)) {
+                deltaF[head] = f - previousF;
+                deltaG[head] = g - previousG;
+                head = (head + 1) % depth;
+                stored = Math.min(stored + 1, depth);
+            }
+            previousF = f;
+            previousG = g;
+
+            double next = g;
+            if (stored > 0) {
+                double[] gamma = solveRegularized(deltaF, stored, f, normal, rhs);
+                if (gamma != null) {
+                    double correction = 0;
+                    for (int j = 0; j < stored; j++) {
+                        correction += deltaG[j] * gamma[j];
+                    }
+                    next = g - correction;
+                }
+            }
+            if (!Double.isFinite(next)) {
+                // Сбрасываем историю и продолжаем простой итерацией
+                next = g;
+                stored = 0;
+                head = 0;
+            }
+            x = next;
+        }
+    }
+
+    // Решает (ΔFᵀΔF + λI)γ = ΔFᵀf методом Холецкого; null, если все разности нулевые
+    private static double[] solveRegularized(double[] deltaF, int m, double f, double[] a, double[] b) {
+        double trace = 0;
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < m; j++) {
+                a[i * m + j] = deltaF[i] * deltaF[j];
+            }
+            b[i] = deltaF[i] * f;
+            trace += a[i * m + i];
+        }
+        if (trace == 0 || !Double.isFinite(trace)) {
+            return null;
+        }
+        double lambda = ANDERSON_REGULARIZATION * trace / m;
+        for (int i = 0; i < m; i++) {
+            a[i * m + i] += lambda;
+        }
+
+        // Разложение A = LLᵀ на месте (нижний треугольник)
+        for (int j = 0; j < m; j++) {
+            double diagonal = a[j * m + j];
+            for (int k = 0; k < j; k++) {
+                diagonal -= a[j * m + k] * a[j * m + k];
+            }
+            if (diagonal <= 0) {
+                return null;
+            }
+            double root = Math.sqrt(diagonal);
+            a[j * m + j] = root;
+            for (int i = j + 1; i < m; i++) {
+                double value = a[i * m + j];
+                for (int k = 0; k < j; k++) {
+                    value -= a[i * m + k] * a[j * m + k];
+                }
+                a[i * m + j] = value / root;
+            }
+        }
+
+        double[] gamma = new double[m];
+        for (int i = 0; i < m; i++) {
+            double value = b[i];
+            for (int k = 0; k < i; k++) {
+                value -= a[i * m + k] * gamma[k];
+            }
+            gamma[i] = value / a[i * m + i];
+        }
+        for (int i = m - 1; i >= 0; i--) {
+            double value = gamma[i];
+            for (int k = i + 1; k < m; k++) {
+                value -= a[k * m + i] * gamma[k];
+            }
+            gamma[i] = value / a[i * m + i];
+        }
+        return gamma;
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,8 @@
 import org.example.exceptions.*;
 
 import java.io.Serializable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleBinaryOperator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,6 +15,10 @@ import org.slf4j.LoggerFactory;
         public Node prev;
         public double x;
         public double y;
+        // Экспресс-полосы индексированного списка с пропусками: forward[l] - следующий узел на уровне l
+        // (null после последнего), span[l] - на сколько позиций он отстоит от текущего узла
+        Node[] forward;
+        int[] span;
 
         public Node(double x, double y) {
             this.x = x;
@@ -24,6 +30,23 @@ import org.slf4j.LoggerFactory;
     protected int count;
     private static final long serialVersionUID = 1L; // Поле для сериализации
 
+    // Поверх кольцевого списка поддерживается индексированный список с пропусками,
+    // поэтому поиск по индексу и по X работает за O(log n)
+    private static final int MAX_LEVEL = 32;
+    private final Node header = createHeader(); // фиктивный узел с позицией -1, хранит верхние полосы
+    private int level = 1;                      // число используемых уровней
+    // Рабочие массивы вставки и удаления: предшественники узла и их позиции на каждом уровне.
+    // Класс не потокобезопасен, поэтому массивы переиспользуются; растут вместе с level
+    private transient Node[] update;
+    private transient int[] rank;
+    // Столько шагов по next делает пакетное вычисление, прежде чем спуститься по полосам
+    private static final int MERGE_WALK_STEPS = 8;
+
+    // Скомпилированный режим (см. setCompiled): снимок X, Y и наклонов в массивах строится лениво
+    // и выбрасывается при любом изменении точек
+    private boolean compiled;
+    private transient volatile CompiledLinearTable compiledTable;
+
     // Конструктор через дискретизацию функции
     public  LinkedListTabulatedFunction(MathFunction source, double xFrom, double xTo, int count) {
         if (count < 2) {
@@ -67,17 +90,56 @@ import org.slf4j.LoggerFactory;
 
 
 
+    // В скомпилированном режиме apply и applyAll работают по снимку точек в массивах: поиск двоичный
+    // по непрерывной памяти вместо спуска по узлам, интерполяция - одна операция fma без деления.
+    // Выгоден для таблиц, которые часто читаются и редко меняются: после setY, insert или remove
+    // снимок пересоздаётся при следующем вычислении. Интервалы нулевой ширины не приводят к исключению.
+    public void setCompiled(boolean compiled) {
+        this.compiled = compiled;
+        compiledTable = null;
+        log.debug("Скомпилированный режим интерполяции {}", compiled ? "включён" : "выключен");
+    }
+
+    public boolean isCompiled() {
+        return compiled;
+    }
+
+    private CompiledLinearTable compiledTable() {
+        CompiledLinearTable table = compiledTable;
+        if (table == null) {
+            double[] xValues = new double[count];
+            double[] yValues = new double[count];
+            Node node = head;
+            for (int i = 0; i < count; i++) {
+                xValues[i] = node.x;
+                yValues[i] = node.y;
+                node = node.next;
+            }
+            table = new CompiledLinearTable(xValues, yValues, count);
+            compiledTable = table;
+            log.debug("Построен снимок точек с наклонами: {} интервалов", count - 1);
+        }
+        return table;
+    }
+
+    private void invalidateCompiled() {
+        if (compiledTable != null) {
+            compiledTable = null;
+        }
+    }
+
     @Override
     public void remove(int index) {
         if (index < 0 || index >= count) {
             throw new IllegalArgumentException("Индекс " + index + " выходит за границы");
         }
+        invalidateCompiled();
 
         if (count < 2) {
             throw new IllegalStateException("Нельзя удалить элемент из таблицы с менее чем 2 точками");
         }
 
-        Node nodeToRemove = getNode(index);
+        Node nodeToRemove = unlinkAt(index);
 
         // Если удаляется головной узел
         if (nodeToRemove == head) {
@@ -99,20 +161,146 @@ import org.slf4j.LoggerFactory;
 
     // Приватный метод для добавления узла в конец списка
     private void addNode(double x, double y) {
-        Node newNode = new Node(x, y);
+        linkAt(count, new Node(x, y));
+        log.debug("addNode: (x={}, y={}), новый размер={}", x, y, count);
+    }
+
+    private static Node createHeader() {
+        Node header = new Node(Double.NaN, Double.NaN);
+        header.forward = new Node[MAX_LEVEL];
+        header.span = new int[MAX_LEVEL];
+        return header;
+    }
+
+    // Уровень нового узла: каждый следующий уровень с вероятностью 1/4
+    private static int randomLevel() {
+        int nodeLevel = 1;
+        while (nodeLevel < MAX_LEVEL && ThreadLocalRandom.current().nextInt(4) == 0) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+
+    // Вставляет узел так, чтобы он получил индекс index (0 <= index <= count)
+    private void linkAt(int index, Node node) {
+        int nodeLevel = randomLevel();
+        ensureScratch(Math.max(level, nodeLevel));
+        Node[] update = this.update;
+        int[] rank = this.rank;
+
+        // Спуск по уровням к узлу с индексом index - 1 (или к заголовку)
+        Node current = header;
+        int traversed = 0;
+        for (int l = level - 1; l >= 0; l--) {
+            while (current.forward[l] != null && traversed + current.span[l] <= index) {
+                traversed += current.span[l];
+                current = current.forward[l];
+            }
+            update[l] = current;
+            rank[l] = traversed;
+        }
+
+        if (nodeLevel > level) {
+            for (int l = level; l < nodeLevel; l++) {
+                update[l] = header;
+                rank[l] = 0;
+                header.span[l] = count;
+            }
+            level = nodeLevel;
+        }
+
+        node.forward = new Node[nodeLevel];
+        node.span = new int[nodeLevel];
+        for (int l = 0; l < nodeLevel; l++) {
+            node.forward[l] = update[l].forward[l];
+            update[l].forward[l] = node;
+            node.span[l] = update[l].span[l] - (rank[0] - rank[l]);
+            update[l].span[l] = rank[0] - rank[l] + 1;
+        }
+        for (int l = nodeLevel; l < level; l++) {
+            update[l].span[l]++;
+        }
+
+        // Связи кольцевого списка
         if (head == null) {
-            head = newNode;
-            head.next = head;
-            head.prev = head;
+            head = node;
+            node.next = node;
+            node.prev = node;
         } else {
-            Node last = head.prev;
-            last.next = newNode;
-            newNode.prev = last;
-            newNode.next = head;
-            head.prev = newNode;
+            Node prevNode = update[0] == header ? head.prev : update[0];
+            Node nextNode = prevNode.next;
+            prevNode.next = node;
+            node.prev = prevNode;
+            node.next = nextNode;
+            nextNode.prev = node;
+            if (update[0] == header) {
+                head = node;
+            }
         }
         count++;
-        log.debug("addNode: (x={}, y={}), новый размер={}", x, y, count);
+    }
+
+    // Исключает узел с индексом index из списка с пропусками; связи next/prev не трогает
+    private Node unlinkAt(int index) {
+        ensureScratch(level);
+        Node[] update = this.update;
+
+        Node current = header;
+        int traversed = 0;
+        for (int l = level - 1; l >= 0; l--) {
+            while (current.forward[l] != null && traversed + current.span[l] <= index) {
+                traversed += current.span[l];
+                current = current.forward[l];
+            }
+            update[l] = current;
+        }
+
+        Node node = update[0].forward[0];
+        for (int l = 0; l < level; l++) {
+            if (update[l].forward[l] == node) {
+                update[l].span[l] += node.span[l] - 1;
+                update[l].forward[l] = node.forward[l];
+            } else {
+                update[l].span[l]--;
+            }
+        }
+        while (level > 1 && header.forward[level - 1] == null) {
+            level--;
+        }
+        node.forward = null;
+        node.span = null;
+        return node;
+    }
+
+    private void ensureScratch(int levels) {
+        if (update == null || update.length < levels) {
+            update = new Node[levels];
+            rank = new int[levels];
+        }
+    }
+
+    // Последний узел с node.x < x либо заголовок, если таких нет
+    private Node lastNodeBefore(double x) {
+        Node current = header;
+        for (int l = level - 1; l >= 0; l--) {
+            while (current.forward[l] != null && current.forward[l].x < x) {
+                current = current.forward[l];
+            }
+        }
+        return current;
+    }
+
+    // Количество узлов с node.x < x
+    private int countBefore(double x) {
+        Node current = header;
+        int traversed = 0;
+        for (int l = level - 1; l >= 0; l--) {
+            while (current.forward[l] != null && current.forward[l].x < x) {
+                traversed += current.span[l];
+                current = current.forward[l];
+            }
+        }
+        return traversed;
     }
 
     protected Node floorNodeOfX(double x) {
@@ -128,10 +316,12 @@ import org.slf4j.LoggerFactory;
             return head.prev; // Для интерполяции в правой части
         }
 
-        // Начинаем поиск с головы и идем до тех пор, пока не найдем правильный интервал
-        Node current = head;
-        while (current.next != head && x >= current.next.x) {
-            current = current.next;
+        // Последний узел с node.x <= x - спуск по экспресс-полосам
+        Node current = header;
+        for (int l = level - 1; l >= 0; l--) {
+            while (current.forward[l] != null && current.forward[l].x <= x) {
+                current = current.forward[l];
+            }
         }
         return current;
     }
@@ -139,14 +329,11 @@ import org.slf4j.LoggerFactory;
     private Node findNodeByX(double x) {
         if (count == 0) return null;
 
-        Node current = head;
-        do {
-            if (current.x == x) {
-                return current;
-            }
-            current = current.next;
-        } while (current != head);
-
+        // Первый узел с node.x >= x совпадает с искомым, если такой X вообще есть
+        Node candidate = lastNodeBefore(x).forward[0];
+        if (candidate != null && candidate.x == x) {
+            return candidate;
+        }
         return null;
     }
 
@@ -156,12 +343,8 @@ import org.slf4j.LoggerFactory;
             log.warn("apply: функция пуста, возвращено 0");
             return 0;
         }
-
-        // Проверка точного совпадения
-        Node exactNode = findNodeByX(x);
-        if (exactNode != null) {
-            log.debug("apply: точное совпадение x={} -> y={}", x, exactNode.y);
-            return exactNode.y;
+        if (compiled) {
+            return compiledTable().apply(x);
         }
 
         // Определение режима (экстраполяция/интерполяция)
@@ -171,11 +354,72 @@ import org.slf4j.LoggerFactory;
         } else if (x > head.prev.x) {
             log.debug("apply: x={} > правая граница={}, экстраполяция вправо", x, head.prev.x);
             return extrapolateRight(x);
-        } else {
-            Node leftNode = floorNodeOfX(x);
-            log.debug("apply: интерполяция x={} между [{}, {}]", x, leftNode.x, leftNode.next.x);
-            return interpolate(x, leftNode.x, leftNode.next.x, leftNode.y, leftNode.next.y);
+        } else if (Double.isNaN(x)) {
+            return Double.NaN;
+        }
+
+        // Один спуск по списку даёт и точное совпадение, и левый узел интервала
+        Node leftNode = lastNodeBefore(x);
+        Node exactNode = leftNode == header ? head : leftNode.next;
+        if (exactNode.x == x) {
+            log.debug("apply: точное совпадение x={} -> y={}", x, exactNode.y);
+            return exactNode.y;
         }
+        log.debug("apply: интерполяция x={} между [{}, {}]", x, leftNode.x, leftNode.next.x);
+        return interpolate(x, leftNode.x, leftNode.next.x, leftNode.y, leftNode.next.y);
+    }
+
+    // Пакетное вычисление: узел-курсор идёт по списку вслед за возрастающими xs,
+    // при скачках назад или далеко вперёд позиция находится спуском по экспресс-полосам
+    @Override
+    public void applyAll(double[] xs, double[] out) {
+        MathFunction.checkBatchLength(xs, out);
+        if (count == 0) {
+            java.util.Arrays.fill(out, 0, xs.length, 0);
+            return;
+        }
+        log.debug("applyAll: вычисление в {} точках", xs.length);
+        if (compiled) {
+            compiledTable().applyAll(xs, out);
+            return;
+        }
+
+        Node node = head; // первый узел с node.x >= x
+        for (int i = 0; i < xs.length; i++) {
+            double x = xs[i];
+            if (x < head.x) {
+                out[i] = extrapolateLeft(x);
+            } else if (x > head.prev.x) {
+                out[i] = extrapolateRight(x);
+            } else if (Double.isNaN(x)) {
+                out[i] = Double.NaN;
+            } else {
+                if (node != head && node.prev.x >= x) {
+                    node = firstNodeNotBefore(x);
+                } else {
+                    int steps = 0;
+                    while (node.x < x) {
+                        if (++steps > MERGE_WALK_STEPS) {
+                            node = firstNodeNotBefore(x);
+                            break;
+                        }
+                        node = node.next;
+                    }
+                }
+
+                if (node.x == x) {
+                    out[i] = node.y;
+                } else {
+                    Node left = node.prev;
+                    out[i] = interpolate(x, left.x, node.x, left.y, node.y);
+                }
+            }
+        }
+    }
+
+    private Node firstNodeNotBefore(double x) {
+        Node node = lastNodeBefore(x);
+        return node == header ? head : node.next;
     }
 
     // метод для получения узла по индексу
@@ -184,16 +428,17 @@ import org.slf4j.LoggerFactory;
             throw new IllegalArgumentException("Индекс " + index + " выходит за границы");
         }
 
-        Node current;
-        if (index <= count / 2) {
-            current = head;
-            for (int i = 0; i < index; i++) {
-                current = current.next;
+        // Спуск по экспресс-полосам: позиция узла с индексом index равна index + 1
+        int position = index + 1;
+        Node current = header;
+        int traversed = 0;
+        for (int l = level - 1; l >= 0; l--) {
+            while (current.forward[l] != null && traversed + current.span[l] <= position) {
+                traversed += current.span[l];
+                current = current.forward[l];
             }
-        } else {
-            current = head.prev;
-            for (int i = count - 1; i > index; i--) {
-                current = current.prev;
+            if (traversed == position) {
+                break;
             }
         }
         return current;
@@ -221,16 +466,17 @@ import org.slf4j.LoggerFactory;
     @Override
     public void setY(int index, double value) {
         getNode(index).y = value;
+        invalidateCompiled();
     }
 
     @Override
     public int indexOfX(double x) {
-        Node current = head;
-        for (int i = 0; i < count; i++) {
-            if (current.x == x) {
-                return i;
-            }
-            current = current.next;
+        if (count == 0) {
+            return -1;
+        }
+        int index = countBefore(x);
+        if (index < count && getNode(index).x == x) {
+            return index;
         }
         return -1;
     }
@@ -266,17 +512,12 @@ import org.slf4j.LoggerFactory;
             return count;
         }
 
-        Node current = head;
-        for (int i = 0; i < count; i++) {
-            if (current.x == x) {
-                return i;
-            }
-            if (current.x > x) {
-                return i - 1;
-            }
-            current = current.next;
+        // Индекс первого узла с X, равным x, иначе индекс последнего узла левее x
+        int index = countBefore(x);
+        if (index < count && getNode(index).x == x) {
+            return index;
         }
-        return count;
+        return index - 1;
     }
 
     @Override
@@ -310,6 +551,7 @@ import org.slf4j.LoggerFactory;
     // Реализация интерфейса insertable
     @Override
     public void insert(double x, double y) {
+        invalidateCompiled();
         // Если список пуст, просто добавляем узел
         if (count == 0) {
             addNode(x, y);
@@ -327,13 +569,7 @@ import org.slf4j.LoggerFactory;
 
         // Если x меньше головного узла, вставляем в начало
         if (x < head.x) {
-            Node newNode = new Node(x, y);
-            newNode.next = head;
-            newNode.prev = head.prev;
-            head.prev.next = newNode;
-            head.prev = newNode;
-            head = newNode; // Обновляем голову
-            count++;
+            linkAt(0, new Node(x, y)); // голова обновляется внутри linkAt
             log.debug("insert: вставка в голову x={}, y={}", x, y);
         }
         // Если x больше последнего узла, добавляем в конец
@@ -343,15 +579,77 @@ import org.slf4j.LoggerFactory;
         }
         // Вставляем в середину списка
         else {
-            Node floorNode = floorNodeOfX(x);
-            Node newNode = new Node(x, y);
-            newNode.next = floorNode.next;
-            newNode.prev = floorNode;
-            floorNode.next.prev = newNode;
-            floorNode.next = newNode;
-            count++;
-            log.debug("insert: вставка после x={}, новый узел x={}, y={}", floorNode.x, x, y);
+            int index = countBefore(x);
+            linkAt(index, new Node(x, y));
+            log.debug("insert: вставка по индексу={}, новый узел x={}, y={}", index, x, y);
+        }
+    }
+
+    // Обход по ссылкам next, без поиска узлов по индексу
+    @Override
+    public void forEachPoint(DoubleBinaryConsumer action) {
+        Node node = head;
+        for (int i = 0; i < count; i++) {
+            action.accept(node.x, node.y);
+            node = node.next;
+        }
+    }
+
+    @Override
+    public PointCursor cursor() {
+        return new PointCursor() {
+            private Node node;
+            private int index = -1;
+
+            @Override
+            public boolean next() {
+                if (index + 1 >= count) {
+                    node = null;
+                    index = count;
+                    return false;
+                }
+                node = index == -1 ? head : node.next;
+                index++;
+                return true;
+            }
+
+            @Override
+            public int getIndex() {
+                return index;
+            }
+
+            @Override
+            public double getX() {
+                return node.x;
+            }
+
+            @Override
+            public double getY() {
+                return node.y;
+            }
+
+            @Override
+            public void setY(double value) {
+                node.y = value;
+                invalidateCompiled();
+            }
+
+            @Override
+            public void reset() {
+                node = null;
+                index = -1;
+            }
+        };
+    }
+
+    @Override
+    public void replaceAllY(DoubleBinaryOperator operator) {
+        Node node = head;
+        for (int i = 0; i < count; i++) {
+            node.y = operator.applyAsDouble(node.x, node.y);
+            node = node.next;
         }
+        invalidateCompiled();
     }
 
     @Override
@@ -1,8 +1,42 @@
 package org.example.functions;
 
+import java.nio.DoubleBuffer;
+
 public interface MathFunction {
     double apply(double x);
     default CompositeFunction andThen(MathFunction afterFunction) {
-        return new CompositeFunction(this, afterFunction);
+        return CompositeFunction.of(this, afterFunction);
+    }
+
+    // Пакетное вычисление: out[i] = apply(xs[i]). Массив out может совпадать с xs.
+    default void applyAll(double[] xs, double[] out) {
+        checkBatchLength(xs, out);
+        for (int i = 0; i < xs.length; i++) {
+            out[i] = apply(xs[i]);
+        }
+    }
+
+    // Вычисляет функцию для всех оставшихся значений in и записывает результаты в out;
+    // позиции обоих буферов сдвигаются, как при bulk get/put
+    default void applyAll(DoubleBuffer in, DoubleBuffer out) {
+        if (out.remaining() < in.remaining()) {
+            throw new IllegalArgumentException("В буфере результатов " + out.remaining()
+                    + " свободных мест, а аргументов " + in.remaining());
+        }
+        double[] chunk = new double[Math.min(in.remaining(), 1024)];
+        while (in.hasRemaining()) {
+            int length = Math.min(in.remaining(), chunk.length);
+            double[] xs = length == chunk.length ? chunk : new double[length];
+            in.get(xs);
+            applyAll(xs, xs);
+            out.put(xs);
+        }
+    }
+
+    static void checkBatchLength(double[] xs, double[] out) {
+        if (out.length < xs.length) {
+            throw new IllegalArgumentException("Длина массива результатов " + out.length
+                    + " меньше длины массива аргументов " + xs.length);
+        }
     }
-}
\ No newline at end of file
+}
@@ -5,8 +5,16 @@ import org.slf4j.LoggerFactory;
 
 public class NewtonFunction implements MathFunction {
     private static final Logger log = LoggerFactory.getLogger(NewtonFunction.class);
+
+    // Исходы итераций из одного начального приближения
+    private static final int CONVERGED = 0;
+    private static final int ZERO_DERIVATIVE = 1;
+    private static final int NOT_FINITE = 2;
+    private static final int MAX_ITERATIONS = 3;
+
     private MathFunction function;      // Функция f(x)
     private MathFunction derivative;    // Производная f'(x)
+    private DifferentiableFunction differentiable; // f(x), дающая f'(x) через дуальные числа
     private double tolerance;           // Допустимая погрешность
     private int maxIterations;          // Максимальное число итераций
 
@@ -18,32 +26,107 @@ public class NewtonFunction implements MathFunction {
         this.maxIterations = maxIterations;
     }
 
+    // Производная не нужна: f(x) и f'(x) считаются одним вычислением на дуальных числах
+    public NewtonFunction(DifferentiableFunction function, double tolerance, int maxIterations) {
+        this.function = function;
+        this.differentiable = function;
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    // Исход итераций: статус и число итераций. Переиспользуется - один на поток для apply
+    // и один на вызов solveRange, поэтому скалярный путь ничего не выделяет. Вложенный apply внутри f
+    // (цепочки из NewtonFunction) безопасен: iterate пишет поля только перед самым возвратом
+    private static final class Outcome {
+        int status;
+        int iterations;
+    }
+
+    private static final ThreadLocal<Outcome> OUTCOME = ThreadLocal.withInitial(Outcome::new);
+
     @Override
     public double apply(double initialGuess) {
+        Outcome outcome = OUTCOME.get();
+        double root = iterate(initialGuess, outcome);
+
+        switch (outcome.status) {
+            case CONVERGED:
+                log.debug("Метод Ньютона сошёлся за {} итераций: корень ≈ {} (старт={})", outcome.iterations, root, initialGuess);
+                return root;
+            case ZERO_DERIVATIVE:
+                log.warn("Производная нулевая при x={}, продолжение невозможно", root);
+                return 0;
+            case NOT_FINITE:
+                log.warn("Итерации Ньютона ушли в бесконечность или NaN на шаге {} (старт={})", outcome.iterations, initialGuess);
+                return 0;
+            default:
+                log.warn("Метод Ньютона не сошёлся за {} итераций, последнее x={} (старт={})", maxIterations, root, initialGuess);
+                return 0;
+        }
+    }
+
+    // Решает задачу для каждого начального приближения guesses[i], i в [from, to).
+    // В roots[i] - найденный корень или последнее приближение, в iterations[i] - число итераций,
+    // в converged[i] - сошёлся ли метод (в отличие от apply, неудача не маскируется нулём).
+    // Каждое приближение считается независимо, без журналирования по отдельным точкам.
+    public void solveRange(double[] guesses, int from, int to, double[] roots, int[] iterations, boolean[] converged) {
+        Outcome outcome = new Outcome();
+        for (int i = from; i < to; i++) {
+            roots[i] = iterate(guesses[i], outcome);
+            iterations[i] = outcome.iterations;
+            converged[i] = outcome.status == CONVERGED;
+        }
+    }
+
+    // Итерации из одного начального приближения: возвращает корень или последнее приближение,
+    // статус и число итераций записываются в outcome
+    private double iterate(double initialGuess, Outcome outcome) {
         double current = initialGuess;
 
         for (int i = 0; i < maxIterations; i++) {
-            double fx = function.apply(current);
-            double fpx = derivative.apply(current);
+            double fx;
+            double fpx;
+            if (differentiable != null) {
+                Dual dual = differentiable.apply(Dual.variable(current));
+                fx = dual.getValue();
+                fpx = dual.getDerivative();
+            } else {
+                fx = function.apply(current);
+                fpx = derivative.apply(current);
+            }
 
             // Проверка на нулевую производную с более точным условием
             if (Math.abs(fpx) < 1e-10) {
-                if (Math.abs(fx) < tolerance) {
-                    log.debug("Метод Ньютона сошёлся при почти нулевой производной в x={} (|f(x)|<tol)", current);
-                    return current; // Мы уже в корне
-                }
-                log.warn("Производная нулевая при x={}, f(x)={}, продолжение невозможно", current, fx);
-                return 0;
+                outcome.iterations = i;
+                // Если |f(x)| < tol, мы уже в корне
+                outcome.status = Math.abs(fx) < tolerance ? CONVERGED : ZERO_DERIVATIVE;
+                return current;
             }
             double next = current - fx / fpx;
 
             if (Math.abs(next - current) < tolerance) {
-                log.debug("Метод Ньютона сошёлся за {} итераций: корень ≈ {} (старт={})", i + 1, next, initialGuess);
-                return next; // Возвращаем найденный корень
+                outcome.iterations = i + 1;
+                outcome.status = CONVERGED;
+                return next;
+            }
+            // Дальше NaN и бесконечность не исправятся - не тратим оставшиеся итерации
+            if (!Double.isFinite(next)) {
+                outcome.iterations = i + 1;
+                outcome.status = NOT_FINITE;
+                return next;
             }
             current = next;
         }
-        log.warn("Метод Ньютона не сошёлся за {} итераций, последнее x={} (старт={})", maxIterations, current, initialGuess);
-        return 0;
+        outcome.iterations = maxIterations;
+        outcome.status = MAX_ITERATIONS;
+        return current;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,303 @@
+package org.example.functions;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.function.DoubleBinaryOperator;
+
+import org.example.exceptions.InterpolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Табличная функция, хранящая X и Y вне кучи (MemorySegment из собственного Arena).
+// Память не участвует в сборке мусора и освобождается явно вызовом close();
+// после закрытия любое обращение к точкам бросает IllegalStateException.
+public class OffHeapTabulatedFunction extends AbstractTabulatedFunction implements Insertable, Removable, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(OffHeapTabulatedFunction.class);
+    private static final ValueLayout.OfDouble DOUBLE = ValueLayout.JAVA_DOUBLE;
+
+    private Arena arena;
+    private MemorySegment xValues;
+    private MemorySegment yValues;
+    private int count;
+    private int capacity;
+    private boolean closed;
+
+    public OffHeapTabulatedFunction(double[] xValues, double[] yValues) {
+        if (xValues.length < 2) {
+            throw new IllegalArgumentException("Длина таблицы должна быть не менее 2 точек");
+        }
+        AbstractTabulatedFunction.checkLengthIsTheSame(xValues, yValues);
+        AbstractTabulatedFunction.checkSorted(xValues);
+
+        this.count = xValues.length;
+        allocate(count + 5);
+        MemorySegment.copy(xValues, 0, this.xValues, DOUBLE, 0, count);
+        MemorySegment.copy(yValues, 0, this.yValues, DOUBLE, 0, count);
+        log.debug("Создан OffHeapTabulatedFunction из массивов: размер={}, вместимость={}", count, capacity);
+    }
+
+    public OffHeapTabulatedFunction(MathFunction source, double xFrom, double xTo, int count) {
+        if (count < 2) {
+            throw new IllegalArgumentException("Длина таблицы должна быть не менее 2 точек");
+        }
+        if (xFrom > xTo) {
+            double temp = xFrom;
+            xFrom = xTo;
+            xTo = temp;
+        }
+
+        this.count = count;
+        allocate(count + 5);
+        double step = (xTo - xFrom) / (count - 1);
+        for (int i = 0; i < count; i++) {
+            double x = xFrom + i * step;
+            xValues.setAtIndex(DOUBLE, i, x);
+            yValues.setAtIndex(DOUBLE, i, source.apply(x));
+        }
+        log.debug("Создан OffHeapTabulatedFunction дискретизацией: размер={}, диапазон=[{}, {}], шаг={}", count, xFrom, xTo, step);
+    }
+
+    // Выделяет новую память под newCapacity точек, переносит в неё текущие и освобождает старую
+    private void allocate(int newCapacity) {
+        Arena newArena = Arena.ofShared();
+        MemorySegment segment = newArena.allocate(2L * newCapacity * Double.BYTES, Double.BYTES);
+        MemorySegment newX = segment.asSlice(0, (long) newCapacity * Double.BYTES);
+        MemorySegment newY = segment.asSlice((long) newCapacity * Double.BYTES);
+
+        if (arena != null) {
+            MemorySegment.copy(xValues, DOUBLE, 0, newX, DOUBLE, 0, count);
+            MemorySegment.copy(yValues, DOUBLE, 0, newY, DOUBLE, 0, count);
+            arena.close();
+        }
+        arena = newArena;
+        xValues = newX;
+        yValues = newY;
+        capacity = newCapacity;
+    }
+
+    // Освобождает память функции; повторный вызов ничего не делает
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        arena.close();
+        log.debug("OffHeapTabulatedFunction закрыт, освобождено {} байт", 2L * capacity * Double.BYTES);
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    private double xAt(int index) {
+        return xValues.getAtIndex(DOUBLE, index);
+    }
+
+    private double yAt(int index) {
+        return yValues.getAtIndex(DOUBLE, index);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("Индекс " + index + " выходит за границы [0, " + (count - 1) + "]");
+        }
+    }
+
+    // Индекс первого X, не меньшего x, в диапазоне [from, to)
+    private int lowerBound(int from, int to, double x) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (xAt(mid) < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public double getX(int index) {
+        checkIndex(index);
+        return xAt(index);
+    }
+
+    @Override
+    public double getY(int index) {
+        checkIndex(index);
+        return yAt(index);
+    }
+
+    @Override
+    public void setY(int index, double y) {
+        checkIndex(index);
+        yValues.setAtIndex(DOUBLE, index, y);
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        int index = lowerBound(0, count, x);
+        if (index < count && xAt(index) == x) {
+            return index;
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        for (int i = 0; i < count; i++) {
+            if (yAt(i) == y) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public double leftBound() {
+        return xAt(0);
+    }
+
+    @Override
+    public double rightBound() {
+        return xAt(count - 1);
+    }
+
+    @Override
+    protected int floorIndexOfX(double x) {
+        if (x < xAt(0)) {
+            throw new IllegalArgumentException("x = " + x + " меньше левой границы " + xAt(0));
+        }
+        int index = lowerBound(1, count, x);
+        if (index == count) {
+            return count;
+        }
+        return index - 1;
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        return interpolate(x, xAt(0), xAt(1), yAt(0), yAt(1));
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        return interpolate(x, xAt(count - 2), xAt(count - 1), yAt(count - 2), yAt(count - 1));
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        double leftX = xAt(floorIndex);
+        double rightX = xAt(floorIndex + 1);
+        if (x < leftX || x > rightX) {
+            throw new InterpolationException("x = " + x + " вне диапазона интерполяции [" + leftX + ", " + rightX + "]");
+        }
+        return interpolate(x, leftX, rightX, yAt(floorIndex), yAt(floorIndex + 1));
+    }
+
+    @Override
+    public double apply(double x) {
+        if (x < xAt(0)) {
+            log.debug("apply: x={} < левая граница, экстраполяция влево", x);
+            return extrapolateLeft(x);
+        }
+        if (x > xAt(count - 1)) {
+            log.debug("apply: x={} > правая граница, экстраполяция вправо", x);
+            return extrapolateRight(x);
+        }
+        if (Double.isNaN(x)) {
+            return Double.NaN;
+        }
+
+        int index = lowerBound(0, count, x);
+        if (xAt(index) == x) {
+            return yAt(index);
+        }
+        return interpolate(x, index - 1);
+    }
+
+    @Override
+    public void insert(double x, double y) {
+        int index = lowerBound(0, count, x);
+        if (index < count && xAt(index) == x) {
+            yValues.setAtIndex(DOUBLE, index, y);
+            log.debug("insert: заменена существующая точка x={} по индексу={} на y={}", x, index, y);
+            return;
+        }
+
+        if (count == capacity) {
+            // Рост геометрический: каждое расширение - новая разделяемая арена, копирование и дорогое
+            // закрытие старой, поэтому их число должно быть O(log n), а не O(n)
+            allocate(Math.max(capacity * 2, capacity + 5));
+            log.debug("insert: увеличена вместимость до {}", capacity);
+        }
+
+        // Сдвиг хвоста на одну позицию вправо (перекрытие областей MemorySegment.copy допускает)
+        long shift = count - index;
+        MemorySegment.copy(xValues, DOUBLE, (long) index * Double.BYTES, xValues, DOUBLE, (long) (index + 1) * Double.BYTES, shift);
+        MemorySegment.copy(yValues, DOUBLE, (long) index * Double.BYTES, yValues, DOUBLE, (long) (index + 1) * Double.BYTES, shift);
+        xValues.setAtIndex(DOUBLE, index, x);
+        yValues.setAtIndex(DOUBLE, index, y);
+        count++;
+        log.debug("insert: вставлена точка x={}, y={} по индексу={}, новый размер={}", x, y, index, count);
+    }
+
+    @Override
+    public void remove(int index) {
+        checkIndex(index);
+        if (count < 2) {
+            throw new IllegalStateException("Нельзя удалить элемент из таблицы с менее чем 2 точками");
+        }
+
+        long shift = count - index - 1;
+        MemorySegment.copy(xValues, DOUBLE, (long) (index + 1) * Double.BYTES, xValues, DOUBLE, (long) index * Double.BYTES, shift);
+        MemorySegment.copy(yValues, DOUBLE, (long) (index + 1) * Double.BYTES, yValues, DOUBLE, (long) index * Double.BYTES, shift);
+        count--;
+        log.debug("remove: удалён индекс={}, новый размер={}", index, count);
+    }
+
+    @Override
+    public void forEachPoint(DoubleBinaryConsumer action) {
+        for (int i = 0; i < count; i++) {
+            action.accept(xAt(i), yAt(i));
+        }
+    }
+
+    @Override
+    public void replaceAllY(DoubleBinaryOperator operator) {
+        for (int i = 0; i < count; i++) {
+            yValues.setAtIndex(DOUBLE, i, operator.applyAsDouble(xAt(i), yAt(i)));
+        }
+    }
+
+    @Override
+    public java.util.Iterator<Point> iterator() {
+        return new java.util.Iterator<Point>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < count;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    throw new java.util.NoSuchElementException("Больше нет элементов");
+                }
+                Point point = new Point(xAt(index), yAt(index));
+                index++;
+                return point;
+            }
+        };
+    }
+}
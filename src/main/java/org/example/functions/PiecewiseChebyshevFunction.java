@@ -0,0 +1,151 @@
+package org.example.functions;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Кусочное разложение по многочленам Чебышёва: на куске [breakpoints[p], breakpoints[p+1]]
+// значение равно Σ c(j)·T(j)(t), t = (2x - l - r) / (r - l), и считается рекуррентной схемой Кленшоу.
+// Коэффициенты всех кусков лежат подряд в одном массиве, offsets[p] - начало коэффициентов куска p.
+// Точность гарантируется только на [leftBound(), rightBound()]; за границами продолжается крайний многочлен.
+// Создаётся компилятором org.example.operations.ChebyshevCompiler.
+public class PiecewiseChebyshevFunction implements MathFunction, Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final Logger log = LoggerFactory.getLogger(PiecewiseChebyshevFunction.class);
+
+    private final double[] breakpoints;
+    private final double[] coefficients;
+    private final int[] offsets;
+    private final boolean converged;
+    private final long sourceEvaluations;
+
+    // offsets имеет длину pieces + 1, последний элемент равен coefficients.length
+    public PiecewiseChebyshevFunction(double[] breakpoints, double[] coefficients, int[] offsets,
+                                      boolean converged, long sourceEvaluations) {
+        int pieces = breakpoints.length - 1;
+        if (pieces < 1) {
+            throw new IllegalArgumentException("Нужен хотя бы один кусок");
+        }
+        if (offsets.length != pieces + 1 || offsets[0] != 0 || offsets[pieces] != coefficients.length) {
+            throw new IllegalArgumentException("Смещения коэффициентов не согласованы с числом кусков");
+        }
+        for (int p = 0; p < pieces; p++) {
+            if (!(breakpoints[p] < breakpoints[p + 1])) {
+                throw new IllegalArgumentException("Границы кусков должны строго возрастать: "
+                        + breakpoints[p] + ", " + breakpoints[p + 1]);
+            }
+            if (offsets[p + 1] <= offsets[p]) {
+                throw new IllegalArgumentException("У куска " + p + " нет коэффициентов");
+            }
+        }
+        this.breakpoints = Arrays.copyOf(breakpoints, breakpoints.length);
+        this.coefficients = Arrays.copyOf(coefficients, coefficients.length);
+        this.offsets = Arrays.copyOf(offsets, offsets.length);
+        this.converged = converged;
+        this.sourceEvaluations = sourceEvaluations;
+        log.debug("Создан PiecewiseChebyshevFunction: {} кусков, {} коэффициентов", pieces, coefficients.length);
+    }
+
+    public double leftBound() {
+        return breakpoints[0];
+    }
+
+    public double rightBound() {
+        return breakpoints[breakpoints.length - 1];
+    }
+
+    public int getPieceCount() {
+        return breakpoints.length - 1;
+    }
+
+    // Общее число хранимых коэффициентов - мера занимаемой памяти
+    public int getCoefficientCount() {
+        return coefficients.length;
+    }
+
+    // Степень многочлена на куске piece
+    public int getDegree(int piece) {
+        return offsets[piece + 1] - offsets[piece] - 1;
+    }
+
+    public double getBreakpoint(int index) {
+        return breakpoints[index];
+    }
+
+    // false, если компилятор исчерпал лимит кусков или ширины, не достигнув допуска
+    public boolean isConverged() {
+        return converged;
+    }
+
+    // Сколько раз при построении вычислялась исходная функция
+    public long getSourceEvaluations() {
+        return sourceEvaluations;
+    }
+
+    // Кусок, содержащий x; за границами - крайний кусок
+    private int pieceOf(double x) {
+        int last = breakpoints.length - 2;
+        if (!(x > breakpoints[1])) {
+            return 0;
+        }
+        if (x >= breakpoints[last]) {
+            return last;
+        }
+        return SortedArraySearch.lowerBound(breakpoints, 1, last + 1, x) - 1;
+    }
+
+    private double evaluate(double x, int piece) {
+        double left = breakpoints[piece];
+        double right = breakpoints[piece + 1];
+        double t = (2 * x - left - right) / (right - left);
+        double twoT = 2 * t;
+
+        // Схема Кленшоу: b(k) = c(k) + 2t·b(k+1) - b(k+2), результат c(0) + t·b(1) - b(2)
+        int from = offsets[piece];
+        double b1 = 0;
+        double b2 = 0;
+        for (int k = offsets[piece + 1] - 1; k > from; k--) {
+            double b0 = Math.fma(twoT, b1, coefficients[k] - b2);
+            b2 = b1;
+            b1 = b0;
+        }
+        return Math.fma(t, b1, coefficients[from] - b2);
+    }
+
+    @Override
+    public double apply(double x) {
+        if (Double.isNaN(x)) {
+            return Double.NaN;
+        }
+        return evaluate(x, pieceOf(x));
+    }
+
+    // Для возрастающих xs кусок ищется проходом слиянием от предыдущего
+    @Override
+    public void applyAll(double[] xs, double[] out) {
+        MathFunction.checkBatchLength(xs, out);
+        int last = breakpoints.length - 2;
+        int piece = 0;
+        for (int i = 0; i < xs.length; i++) {
+            double x = xs[i];
+            if (Double.isNaN(x)) {
+                out[i] = Double.NaN;
+                continue;
+            }
+            if (piece < last && x > breakpoints[piece + 1]) {
+                piece = x <= breakpoints[piece + 2] ? piece + 1 : pieceOf(x);
+            } else if (piece > 0 && x <= breakpoints[piece]) {
+                piece = pieceOf(x);
+            }
+            out[i] = evaluate(x, piece);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + leftBound() + ", " + rightBound() + "], pieces = "
+                + getPieceCount() + ", coefficients = " + getCoefficientCount() + (converged ? "" : ", не сошлось");
+    }
+}
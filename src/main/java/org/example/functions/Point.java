@@ -12,7 +12,10 @@ public class Point {
     public Point(double x, double y) {
         this.x = x;
         this.y = y;
-        log.trace("Создана точка (объект класса Point) x={}, y={}", this.x, this.y);
+        // Проверка уровня до вызова, чтобы не упаковывать x и y в Double при выключенном trace
+        if (log.isTraceEnabled()) {
+            log.trace("Создана точка (объект класса Point) x={}, y={}", this.x, this.y);
+        }
     }
 }
 
@@ -0,0 +1,24 @@
+package org.example.functions;
+
+// Курсор для обхода точек табличной функции без создания объектов Point.
+// Один и тот же курсор переиспользуется на всём обходе, а после reset() - и для следующего:
+//     PointCursor cursor = function.cursor();
+//     while (cursor.next()) { ... cursor.getX() ... cursor.getY() ... }
+// Если таблица меняется вставкой или удалением во время обхода, результат не определён.
+public interface PointCursor {
+    // Переходит к следующей точке; false, если точек больше нет
+    boolean next();
+
+    // Индекс текущей точки
+    int getIndex();
+
+    double getX();
+
+    double getY();
+
+    // Записывает Y текущей точки в функцию
+    void setY(double value);
+
+    // Возвращает курсор в положение перед первой точкой
+    void reset();
+}
@@ -0,0 +1,83 @@
+package org.example.functions;
+
+// Поиск в массиве, отсортированном по неубыванию (рассматривается диапазон [from, to))
+public final class SortedArraySearch {
+
+    // После стольких интерполяционных проб поиск переходит на обычный двоичный
+    private static final int MAX_INTERPOLATION_PROBES = 4;
+    // Диапазоны короче этого проще добить двоичным поиском
+    private static final int MIN_INTERPOLATION_RANGE = 8;
+    // Столько шагов делает lowerBoundFrom, прежде чем перейти на двоичный поиск
+    private static final int MERGE_WALK_STEPS = 8;
+
+    private SortedArraySearch() {
+        throw new UnsupportedOperationException();
+    }
+
+    // Индекс первого элемента, не меньшего x, либо to, если такого нет.
+    // Среди одинаковых значений возвращается самое левое.
+    public static int lowerBound(double[] values, int from, int to, double x) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // lowerBound для [0, count) с подсказкой hint - ответом для предыдущего, обычно меньшего x.
+    // При возрастающих запросах это шаг слияния: несколько линейных шагов вперёд,
+    // и только при большом скачке или движении назад - двоичный поиск.
+    public static int lowerBoundFrom(double[] values, int count, int hint, double x) {
+        if (hint > count) {
+            hint = count;
+        }
+        if (hint > 0 && values[hint - 1] >= x) {
+            return lowerBound(values, 0, hint, x);
+        }
+        int index = hint;
+        for (int step = 0; step < MERGE_WALK_STEPS; step++) {
+            if (index == count || values[index] >= x) {
+                return index;
+            }
+            index++;
+        }
+        return lowerBound(values, index, count, x);
+    }
+
+    // Тот же результат, что и lowerBound, но пробная точка выбирается линейной интерполяцией.
+    // На почти равномерной сетке хватает одной-двух проб, на неравномерной после
+    // MAX_INTERPOLATION_PROBES проб поиск доводится двоичным, так что хуже O(log n) не бывает.
+    public static int interpolationLowerBound(double[] values, int from, int to, double x) {
+        int low = from;
+        int high = to;
+        int probes = 0;
+        while (high - low > MIN_INTERPOLATION_RANGE && probes < MAX_INTERPOLATION_PROBES) {
+            double left = values[low];
+            double right = values[high - 1];
+            if (x <= left) {
+                return low;
+            }
+            if (x > right) {
+                return high;
+            }
+            int mid = low + (int) ((x - left) / (right - left) * (high - 1 - low));
+            if (mid < low || mid >= high) {
+                // NaN в x или переполнение - дальше только двоичный поиск
+                break;
+            }
+            if (values[mid] < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+            probes++;
+        }
+        return lowerBound(values, low, high, x);
+    }
+}
@@ -0,0 +1,408 @@
+package org.example.functions;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.DoubleBinaryOperator;
+
+import org.example.exceptions.ArrayIsNotSortedException;
+import org.example.exceptions.InterpolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Табличная функция с кусочно-кубической интерполяцией. На интервале [x(i), x(i+1)]
+// значение равно y(i) + b(i)t + c(i)t² + d(i)t³, t = x - x(i); коэффициенты считаются один раз за O(n),
+// поэтому вычисление стоит столько же поисков, сколько у линейной интерполяции, плюс схема Горнера.
+// За пределами таблицы функция продолжается касательной в крайнем узле.
+// Изменение Y через setY помечает коэффициенты устаревшими, пересчёт - при следующем вычислении.
+public class SplineTabulatedFunction extends AbstractTabulatedFunction implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final Logger log = LoggerFactory.getLogger(SplineTabulatedFunction.class);
+
+    public enum Type {
+        // Естественный кубический сплайн: C², вторая производная на концах равна нулю (прогонка)
+        NATURAL_CUBIC,
+        // Монотонный эрмитов сплайн (PCHIP, Фритч-Карлсон): C¹, не создаёт выбросов между узлами
+        PCHIP
+    }
+
+    private final double[] xValues;
+    private final double[] yValues;
+    private final int count;
+    private final Type type;
+
+    // Коэффициенты по интервалам; производные от X и Y, поэтому не сериализуются -
+    // после десериализации coefficientsReady = false, и они пересчитываются при первом вычислении
+    private transient double[] b;
+    private transient double[] c;
+    private transient double[] d;
+    private transient boolean coefficientsReady;
+
+    public SplineTabulatedFunction(double[] xValues, double[] yValues, Type type) {
+        if (xValues.length < 2) {
+            throw new IllegalArgumentException("Длина таблицы должна быть не менее 2 точек");
+        }
+        AbstractTabulatedFunction.checkLengthIsTheSame(xValues, yValues);
+        AbstractTabulatedFunction.checkSorted(xValues);
+        for (int i = 0; i + 1 < xValues.length; i++) {
+            if (xValues[i] == xValues[i + 1]) {
+                throw new ArrayIsNotSortedException("X сплайна должны строго возрастать: повтор x = " + xValues[i]);
+            }
+        }
+        if (type == null) {
+            throw new IllegalArgumentException("Тип сплайна не задан");
+        }
+
+        this.count = xValues.length;
+        this.xValues = Arrays.copyOf(xValues, count);
+        this.yValues = Arrays.copyOf(yValues, count);
+        this.type = type;
+        computeCoefficients();
+        log.debug("Создан SplineTabulatedFunction ({}) из массивов: размер={}", type, count);
+    }
+
+    public SplineTabulatedFunction(MathFunction source, double xFrom, double xTo, int count, Type type) {
+        if (count < 2) {
+            throw new IllegalArgumentException("Длина таблицы должна быть не менее 2 точек");
+        }
+        if (xFrom > xTo) {
+            double temp = xFrom;
+            xFrom = xTo;
+            xTo = temp;
+        }
+        if (xFrom == xTo) {
+            throw new IllegalArgumentException("Сплайну нужен непустой интервал: xFrom = xTo = " + xFrom);
+        }
+        if (type == null) {
+            throw new IllegalArgumentException("Тип сплайна не задан");
+        }
+
+        this.count = count;
+        this.xValues = new double[count];
+        this.yValues = new double[count];
+        this.type = type;
+        double step = (xTo - xFrom) / (count - 1);
+        for (int i = 0; i < count; i++) {
+            xValues[i] = xFrom + i * step;
+            yValues[i] = source.apply(xValues[i]);
+        }
+        computeCoefficients();
+        log.debug("Создан SplineTabulatedFunction ({}) дискретизацией: размер={}, диапазон=[{}, {}]", type, count, xFrom, xTo);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    private void computeCoefficients() {
+        int intervals = count - 1;
+        if (b == null) {
+            b = new double[intervals];
+            c = new double[intervals];
+            d = new double[intervals];
+        }
+        if (type == Type.NATURAL_CUBIC) {
+            computeNaturalCubic();
+        } else {
+            computePchip();
+        }
+        coefficientsReady = true;
+        log.trace("Коэффициенты сплайна пересчитаны: {} интервалов", intervals);
+    }
+
+    private void ensureCoefficients() {
+        if (!coefficientsReady) {
+            computeCoefficients();
+        }
+    }
+
+    // Вторые производные M(i) из трёхдиагональной системы
+    // h(i-1)M(i-1) + 2(h(i-1) + h(i))M(i) + h(i)M(i+1) = 6(δ(i) - δ(i-1)), M(0) = M(n-1) = 0,
+    // решаемой прогонкой (матрица симметрична и с диагональным преобладанием, выбор ведущего не нужен).
+    private void computeNaturalCubic() {
+        int n = count;
+        double[] m = new double[n];
+        if (n > 2) {
+            // Прямой ход: диагональ после исключения хранится в diagonal, правая часть - в m
+            double[] diagonal = new double[n];
+            for (int i = 1; i < n - 1; i++) {
+                double hLeft = xValues[i] - xValues[i - 1];
+                double hRight = xValues[i + 1] - xValues[i];
+                double rhs = 6 * ((yValues[i + 1] - yValues[i]) / hRight - (yValues[i] - yValues[i - 1]) / hLeft);
+                double diag = 2 * (hLeft + hRight);
+                if (i > 1) {
+                    double factor = hLeft / diagonal[i - 1];
+                    diag -= factor * hLeft;
+                    rhs -= factor * m[i - 1];
+                }
+                diagonal[i] = diag;
+                m[i] = rhs;
+            }
+            // Обратный ход
+            m[n - 2] /= diagonal[n - 2];
+            for (int i = n - 3; i >= 1; i--) {
+                double hRight = xValues[i + 1] - xValues[i];
+                m[i] = (m[i] - hRight * m[i + 1]) / diagonal[i];
+            }
+        }
+
+        for (int i = 0; i < n - 1; i++) {
+            double h = xValues[i + 1] - xValues[i];
+            double slope = (yValues[i + 1] - yValues[i]) / h;
+            b[i] = slope - h * (2 * m[i] + m[i + 1]) / 6;
+            c[i] = m[i] / 2;
+            d[i] = (m[i + 1] - m[i]) / (6 * h);
+        }
+    }
+
+    // Производные в узлах - взвешенное гармоническое среднее соседних наклонов (ноль при смене знака),
+    // на концах - трёхточечная формула с ограничением, сохраняющим монотонность
+    private void computePchip() {
+        int n = count;
+        double[] slopes = new double[n - 1];
+        for (int i = 0; i < n - 1; i++) {
+            slopes[i] = (yValues[i + 1] - yValues[i]) / (xValues[i + 1] - xValues[i]);
+        }
+
+        double[] derivatives = new double[n];
+        if (n == 2) {
+            derivatives[0] = slopes[0];
+            derivatives[1] = slopes[0];
+        } else {
+            for (int i = 1; i < n - 1; i++) {
+                double left = slopes[i - 1];
+                double right = slopes[i];
+                if (left == 0 || right == 0 || (left > 0) != (right > 0)) {
+                    derivatives[i] = 0;
+                } else {
+                    double hLeft = xValues[i] - xValues[i - 1];
+                    double hRight = xValues[i + 1] - xValues[i];
+                    double w1 = 2 * hRight + hLeft;
+                    double w2 = hRight + 2 * hLeft;
+                    derivatives[i] = (w1 + w2) / (w1 / left + w2 / right);
+                }
+            }
+            derivatives[0] = pchipEnd(xValues[1] - xValues[0], xValues[2] - xValues[1], slopes[0], slopes[1]);
+            derivatives[n - 1] = pchipEnd(xValues[n - 1] - xValues[n - 2], xValues[n - 2] - xValues[n - 3],
+                    slopes[n - 2], slopes[n - 3]);
+        }
+
+        for (int i = 0; i < n - 1; i++) {
+            double h = xValues[i + 1] - xValues[i];
+            b[i] = derivatives[i];
+            c[i] = (3 * slopes[i] - 2 * derivatives[i] - derivatives[i + 1]) / h;
+            d[i] = (derivatives[i] + derivatives[i + 1] - 2 * slopes[i]) / (h * h);
+        }
+    }
+
+    // h0, slope0 - крайний интервал, h1, slope1 - соседний
+    private static double pchipEnd(double h0, double h1, double slope0, double slope1) {
+        double derivative = ((2 * h0 + h1) * slope0 - h0 * slope1) / (h0 + h1);
+        if (derivative == 0 || slope0 == 0 || (derivative > 0) != (slope0 > 0)) {
+            return 0;
+        }
+        if ((slope0 > 0) != (slope1 > 0) && Math.abs(derivative) > 3 * Math.abs(slope0)) {
+            return 3 * slope0;
+        }
+        return derivative;
+    }
+
+    private double polynomial(double x, int floorIndex) {
+        double t = x - xValues[floorIndex];
+        return yValues[floorIndex] + t * (b[floorIndex] + t * (c[floorIndex] + t * d[floorIndex]));
+    }
+
+    // Производная сплайна в точке x (за таблицей - наклон касательной в крайнем узле)
+    public double derivative(double x) {
+        ensureCoefficients();
+        if (x <= xValues[0]) {
+            return b[0];
+        }
+        if (x >= xValues[count - 1]) {
+            return endDerivative();
+        }
+        int floorIndex = SortedArraySearch.interpolationLowerBound(xValues, 1, count, x) - 1;
+        double t = x - xValues[floorIndex];
+        return b[floorIndex] + t * (2 * c[floorIndex] + 3 * t * d[floorIndex]);
+    }
+
+    private double endDerivative() {
+        int last = count - 2;
+        double h = xValues[count - 1] - xValues[last];
+        return b[last] + h * (2 * c[last] + 3 * h * d[last]);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("Индекс " + index + " выходит за границы [0, " + (count - 1) + "]");
+        }
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public double getX(int index) {
+        checkIndex(index);
+        return xValues[index];
+    }
+
+    @Override
+    public double getY(int index) {
+        checkIndex(index);
+        return yValues[index];
+    }
+
+    @Override
+    public void setY(int index, double y) {
+        checkIndex(index);
+        yValues[index] = y;
+        coefficientsReady = false;
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        int index = SortedArraySearch.lowerBound(xValues, 0, count, x);
+        if (index < count && xValues[index] == x) {
+            return index;
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        for (int i = 0; i < count; i++) {
+            if (yValues[i] == y) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public double leftBound() {
+        return xValues[0];
+    }
+
+    @Override
+    public double rightBound() {
+        return xValues[count - 1];
+    }
+
+    @Override
+    protected int floorIndexOfX(double x) {
+        if (x < xValues[0]) {
+            throw new IllegalArgumentException("x = " + x + " меньше левой границы " + xValues[0]);
+        }
+        int index = SortedArraySearch.lowerBound(xValues, 1, count, x);
+        if (index == count) {
+            return count;
+        }
+        return index - 1;
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        ensureCoefficients();
+        return yValues[0] + b[0] * (x - xValues[0]);
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        ensureCoefficients();
+        return yValues[count - 1] + endDerivative() * (x - xValues[count - 1]);
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        double leftX = xValues[floorIndex];
+        double rightX = xValues[floorIndex + 1];
+        if (x < leftX || x > rightX) {
+            throw new InterpolationException("x = " + x + " вне диапазона интерполяции [" + leftX + ", " + rightX + "]");
+        }
+        ensureCoefficients();
+        return polynomial(x, floorIndex);
+    }
+
+    @Override
+    public double apply(double x) {
+        if (x < xValues[0]) {
+            return extrapolateLeft(x);
+        }
+        if (x > xValues[count - 1]) {
+            return extrapolateRight(x);
+        }
+        if (Double.isNaN(x)) {
+            return Double.NaN;
+        }
+
+        int index = SortedArraySearch.interpolationLowerBound(xValues, 0, count, x);
+        if (xValues[index] == x) {
+            return yValues[index];
+        }
+        ensureCoefficients();
+        return polynomial(x, index - 1);
+    }
+
+    // Для возрастающих xs поиск интервала сводится к проходу слиянием по таблице
+    @Override
+    public void applyAll(double[] xs, double[] out) {
+        MathFunction.checkBatchLength(xs, out);
+        ensureCoefficients();
+
+        double left = xValues[0];
+        double right = xValues[count - 1];
+        int index = 0;
+        for (int i = 0; i < xs.length; i++) {
+            double x = xs[i];
+            if (x < left) {
+                out[i] = extrapolateLeft(x);
+            } else if (x > right) {
+                out[i] = extrapolateRight(x);
+            } else if (Double.isNaN(x)) {
+                out[i] = Double.NaN;
+            } else {
+                index = SortedArraySearch.lowerBoundFrom(xValues, count, index, x);
+                out[i] = xValues[index] == x ? yValues[index] : polynomial(x, index - 1);
+            }
+        }
+    }
+
+    @Override
+    public void forEachPoint(DoubleBinaryConsumer action) {
+        for (int i = 0; i < count; i++) {
+            action.accept(xValues[i], yValues[i]);
+        }
+    }
+
+    @Override
+    public void replaceAllY(DoubleBinaryOperator operator) {
+        for (int i = 0; i < count; i++) {
+            yValues[i] = operator.applyAsDouble(xValues[i], yValues[i]);
+        }
+        coefficientsReady = false;
+    }
+
+    @Override
+    public java.util.Iterator<Point> iterator() {
+        return new java.util.Iterator<Point>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < count;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    throw new java.util.NoSuchElementException("Больше нет элементов");
+                }
+                Point point = new Point(xValues[index], yValues[index]);
+                index++;
+                return point;
+            }
+        };
+    }
+}
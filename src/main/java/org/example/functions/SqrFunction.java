@@ -2,7 +2,7 @@ package org.example.functions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class SqrFunction implements MathFunction {
+public class SqrFunction implements DifferentiableFunction {
     private static final Logger log = LoggerFactory.getLogger(SqrFunction.class);
 
     @Override
@@ -10,4 +10,18 @@ public class SqrFunction implements MathFunction {
         log.info("Создан объект класса SqrFunction");
         return Math.pow(x, 2);
     }
+
+    @Override
+    public Dual apply(Dual x) {
+        return x.sqr();
+    }
+
+    @Override
+    public void applyAll(double[] xs, double[] out) {
+        MathFunction.checkBatchLength(xs, out);
+        for (int i = 0; i < xs.length; i++) {
+            double x = xs[i];
+            out[i] = x * x;
+        }
+    }
 }
\ No newline at end of file
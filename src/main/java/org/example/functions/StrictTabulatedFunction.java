@@ -3,6 +3,8 @@ package org.example.functions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.function.DoubleBinaryOperator;
+
 public class StrictTabulatedFunction implements TabulatedFunction {
     private static final Logger log = LoggerFactory.getLogger(StrictTabulatedFunction.class);
     private final TabulatedFunction function;
@@ -61,6 +63,21 @@ public class StrictTabulatedFunction implements TabulatedFunction {
         return function.getY(index);
     }
 
+    @Override
+    public void forEachPoint(DoubleBinaryConsumer action) {
+        function.forEachPoint(action);
+    }
+
+    @Override
+    public PointCursor cursor() {
+        return function.cursor();
+    }
+
+    @Override
+    public void replaceAllY(DoubleBinaryOperator operator) {
+        function.replaceAllY(operator);
+    }
+
     @Override
     public java.util.Iterator<Point> iterator() {
         return function.iterator();
@@ -1,5 +1,7 @@
 package org.example.functions;
 
+import java.util.function.DoubleBinaryOperator;
+
 public interface TabulatedFunction extends MathFunction, Iterable<Point>{
     int getCount();
     double getX(int index);
@@ -9,4 +11,25 @@ public interface TabulatedFunction extends MathFunction, Iterable<Point>{
     int indexOfY(double y);
     double leftBound();
     double rightBound();
+
+    // Обход всех точек по возрастанию X без создания объектов Point
+    default void forEachPoint(DoubleBinaryConsumer action) {
+        int count = getCount();
+        for (int i = 0; i < count; i++) {
+            action.accept(getX(i), getY(i));
+        }
+    }
+
+    // Заменяет Y каждой точки на operator(x, y) за один проход
+    default void replaceAllY(DoubleBinaryOperator operator) {
+        PointCursor cursor = cursor();
+        while (cursor.next()) {
+            cursor.setY(operator.applyAsDouble(cursor.getX(), cursor.getY()));
+        }
+    }
+
+    // Переиспользуемый курсор по точкам (см. PointCursor)
+    default PointCursor cursor() {
+        return new IndexPointCursor(this);
+    }
 }
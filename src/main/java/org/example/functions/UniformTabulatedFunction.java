@@ -0,0 +1,465 @@
+package org.example.functions;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.DoubleBinaryOperator;
+
+import org.example.exceptions.DifferentLengthOfArraysException;
+import org.example.exceptions.InterpolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Табличная функция на равномерной сетке: X не хранится, а вычисляется как xFrom + i * step.
+// Если вставка или удаление нарушают равномерность, функция переходит на ArrayTabulatedFunction
+// и дальше работает через неё.
+public class UniformTabulatedFunction extends AbstractTabulatedFunction implements Insertable, Removable, Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final Logger log = LoggerFactory.getLogger(UniformTabulatedFunction.class);
+
+    // Сколько ulp в каждую сторону перебирается при подборе шага по готовому массиву X
+    private static final int STEP_SEARCH_ULPS = 4;
+
+    private double xFrom;
+    private double step;
+    private int count;
+    private double[] yValues;
+
+    // Не null, если сетка перестала быть равномерной
+    private ArrayTabulatedFunction converted;
+
+    public UniformTabulatedFunction(MathFunction source, double xFrom, double xTo, int count) {
+        if (count < 2) {
+            throw new IllegalArgumentException("Длина таблицы должна быть не менее 2 точек");
+        }
+        if (xFrom > xTo) {
+            double temp = xFrom;
+            xFrom = xTo;
+            xTo = temp;
+        }
+        if (xFrom == xTo) {
+            // Нулевой шаг не задаёт интервалов - храним как обычный массив
+            converted = new ArrayTabulatedFunction(source, xFrom, xTo, count);
+            log.debug("Создан UniformTabulatedFunction с нулевым шагом, хранение через ArrayTabulatedFunction");
+            return;
+        }
+
+        this.xFrom = xFrom;
+        this.step = (xTo - xFrom) / (count - 1);
+        this.count = count;
+        this.yValues = new double[count];
+        for (int i = 0; i < count; i++) {
+            yValues[i] = source.apply(xFrom + i * step);
+        }
+        log.debug("Создан UniformTabulatedFunction дискретизацией: размер={}, диапазон=[{}, {}], шаг={}", count, xFrom, xTo, step);
+    }
+
+    public UniformTabulatedFunction(double[] xValues, double[] yValues) {
+        if (xValues.length < 2) {
+            throw new IllegalArgumentException("Длина таблицы должна быть не менее 2 точек");
+        }
+        AbstractTabulatedFunction.checkLengthIsTheSame(xValues, yValues);
+        AbstractTabulatedFunction.checkSorted(xValues);
+
+        double uniformStep = findUniformStep(xValues);
+        if (Double.isNaN(uniformStep)) {
+            converted = new ArrayTabulatedFunction(xValues, yValues);
+            log.debug("Сетка X неравномерна, UniformTabulatedFunction хранит точки через ArrayTabulatedFunction");
+            return;
+        }
+
+        this.xFrom = xValues[0];
+        this.step = uniformStep;
+        this.count = xValues.length;
+        this.yValues = Arrays.copyOf(yValues, count);
+        log.debug("Создан UniformTabulatedFunction из массивов: размер={}, левая граница={}, шаг={}", count, xFrom, step);
+    }
+
+    // Шаг, при котором xValues[i] == xValues[0] + i * step для всех i, либо NaN, если такого нет.
+    // Сравнение точное, чтобы getX возвращал ровно те же числа, что были переданы.
+    public static double findUniformStep(double[] xValues) {
+        int n = xValues.length;
+        double candidate = (xValues[n - 1] - xValues[0]) / (n - 1);
+        if (!(candidate > 0) || Double.isInfinite(candidate)) {
+            return Double.NaN;
+        }
+        if (isProgression(xValues, candidate)) {
+            return candidate;
+        }
+        // Шаг, которым строилась сетка, может отличаться от найденного на несколько ulp
+        double up = candidate;
+        double down = candidate;
+        for (int i = 0; i < STEP_SEARCH_ULPS; i++) {
+            up = Math.nextUp(up);
+            down = Math.nextDown(down);
+            if (isProgression(xValues, up)) {
+                return up;
+            }
+            if (isProgression(xValues, down)) {
+                return down;
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static boolean isProgression(double[] xValues, double step) {
+        double xFrom = xValues[0];
+        for (int i = 1; i < xValues.length; i++) {
+            if (xValues[i] != xFrom + i * step) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // true, пока X хранится в виде (xFrom, step)
+    public boolean isUniform() {
+        return converted == null;
+    }
+
+    // Шаг сетки; NaN, если сетка уже неравномерна
+    public double getStep() {
+        return converted == null ? step : Double.NaN;
+    }
+
+    // true, если обе функции равномерны и их сетки совпадают по левой границе, шагу и числу точек:
+    // тогда и все X совпадают точно, так как вычисляются одной формулой
+    public boolean hasSameGrid(UniformTabulatedFunction other) {
+        return converted == null && other.converted == null
+                && xFrom == other.xFrom && step == other.step && count == other.count;
+    }
+
+    // Массив Y без копирования - для пакетных операций над таблицами.
+    // Значимы первые getCount() элементов, их можно менять на месте с последующим вызовом yValuesChanged;
+    // после insert/remove массив может устареть.
+    public double[] yValuesView() {
+        if (converted != null) {
+            return converted.yValuesView();
+        }
+        return yValues;
+    }
+
+    // Сообщает о записи в Y через yValuesView
+    public void yValuesChanged() {
+        if (converted != null) {
+            converted.yValuesChanged();
+        }
+    }
+
+    // Новая функция на той же равномерной сетке; yValues переходит во владение новой функции без копирования
+    public UniformTabulatedFunction withYValues(double[] yValues) {
+        if (converted != null) {
+            throw new IllegalStateException("Сетка функции уже неравномерна");
+        }
+        if (yValues.length != count) {
+            throw new DifferentLengthOfArraysException("Длинна X и Y различна");
+        }
+        log.debug("Создан UniformTabulatedFunction на общей сетке: размер={}", count);
+        return new UniformTabulatedFunction(xFrom, step, yValues);
+    }
+
+    private UniformTabulatedFunction(double xFrom, double step, double[] yValues) {
+        this.xFrom = xFrom;
+        this.step = step;
+        this.count = yValues.length;
+        this.yValues = yValues;
+    }
+
+    private double xAt(int index) {
+        return xFrom + index * step;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("Индекс " + index + " выходит за границы [0, " + (count - 1) + "]");
+        }
+    }
+
+    // Переход на хранение X в массиве
+    private void convert() {
+        double[] xValues = new double[count];
+        for (int i = 0; i < count; i++) {
+            xValues[i] = xAt(i);
+        }
+        converted = new ArrayTabulatedFunction(xValues, Arrays.copyOf(yValues, count));
+        yValues = null;
+        log.debug("UniformTabulatedFunction преобразован в ArrayTabulatedFunction, размер={}", count);
+    }
+
+    @Override
+    public int getCount() {
+        if (converted != null) {
+            return converted.getCount();
+        }
+        return count;
+    }
+
+    @Override
+    public double getX(int index) {
+        if (converted != null) {
+            return converted.getX(index);
+        }
+        checkIndex(index);
+        return xAt(index);
+    }
+
+    @Override
+    public double getY(int index) {
+        if (converted != null) {
+            return converted.getY(index);
+        }
+        checkIndex(index);
+        return yValues[index];
+    }
+
+    @Override
+    public void setY(int index, double y) {
+        if (converted != null) {
+            converted.setY(index, y);
+            return;
+        }
+        checkIndex(index);
+        yValues[index] = y;
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        if (converted != null) {
+            return converted.indexOfX(x);
+        }
+        if (!(x >= xFrom && x <= xAt(count - 1))) {
+            return -1;
+        }
+        int index = (int) Math.round((x - xFrom) / step);
+        // Из-за округления совпадение может оказаться в соседнем узле
+        for (int i = Math.max(index - 1, 0); i <= Math.min(index + 1, count - 1); i++) {
+            if (xAt(i) == x) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        if (converted != null) {
+            return converted.indexOfY(y);
+        }
+        for (int i = 0; i < count; i++) {
+            if (yValues[i] == y) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public double leftBound() {
+        if (converted != null) {
+            return converted.leftBound();
+        }
+        return xFrom;
+    }
+
+    @Override
+    public double rightBound() {
+        if (converted != null) {
+            return converted.rightBound();
+        }
+        return xAt(count - 1);
+    }
+
+    // Левый узел интервала, содержащего x: xAt(i) <= x < xAt(i + 1), i в [0, count - 2]
+    private int intervalOf(double x) {
+        int index = (int) ((x - xFrom) / step);
+        if (index > count - 2) {
+            index = count - 2;
+        }
+        if (index < 0) {
+            index = 0;
+        }
+        if (x < xAt(index) && index > 0) {
+            index--;
+        } else if (index < count - 2 && x >= xAt(index + 1)) {
+            index++;
+        }
+        return index;
+    }
+
+    @Override
+    protected int floorIndexOfX(double x) {
+        if (converted != null) {
+            return converted.floorIndexOfX(x);
+        }
+        if (x < xFrom) {
+            throw new IllegalArgumentException("x = " + x + " меньше левой границы " + xFrom);
+        }
+        if (x > xAt(count - 1)) {
+            return count;
+        }
+        // Как и у ArrayTabulatedFunction: для x, совпадающего с узлом i > 0, возвращается i - 1
+        int index = intervalOf(x);
+        if (index > 0 && xAt(index) == x) {
+            return index - 1;
+        }
+        return index;
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        if (converted != null) {
+            return converted.extrapolateLeft(x);
+        }
+        return interpolate(x, xAt(0), xAt(1), yValues[0], yValues[1]);
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        if (converted != null) {
+            return converted.extrapolateRight(x);
+        }
+        return interpolate(x, xAt(count - 2), xAt(count - 1), yValues[count - 2], yValues[count - 1]);
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        if (converted != null) {
+            return converted.interpolate(x, floorIndex);
+        }
+        double leftX = xAt(floorIndex);
+        double rightX = xAt(floorIndex + 1);
+        if (x < leftX || x > rightX) {
+            throw new InterpolationException("x = " + x + " вне диапазона интерполяции [" + leftX + ", " + rightX + "]");
+        }
+        return interpolate(x, leftX, rightX, yValues[floorIndex], yValues[floorIndex + 1]);
+    }
+
+    // Интервал находится арифметикой по индексу, без поиска
+    @Override
+    public double apply(double x) {
+        if (converted != null) {
+            return converted.apply(x);
+        }
+        if (x < xFrom) {
+            log.debug("apply: x={} < левая граница={}, экстраполяция влево", x, xFrom);
+            return extrapolateLeft(x);
+        }
+        if (x > xAt(count - 1)) {
+            log.debug("apply: x={} > правая граница={}, экстраполяция вправо", x, xAt(count - 1));
+            return extrapolateRight(x);
+        }
+        if (Double.isNaN(x)) {
+            return Double.NaN;
+        }
+
+        int index = intervalOf(x);
+        double leftX = xAt(index);
+        if (leftX == x) {
+            return yValues[index];
+        }
+        double rightX = xAt(index + 1);
+        if (rightX == x) {
+            return yValues[index + 1];
+        }
+        log.debug("apply: интерполяция x={} с floorIndex={}", x, index);
+        return interpolate(x, leftX, rightX, yValues[index], yValues[index + 1]);
+    }
+
+    @Override
+    public void insert(double x, double y) {
+        if (converted != null) {
+            converted.insert(x, y);
+            return;
+        }
+
+        int index = indexOfX(x);
+        if (index != -1) {
+            yValues[index] = y;
+            log.debug("insert: заменена существующая точка x={} по индексу={} на y={}", x, index, y);
+            return;
+        }
+
+        // Точка ровно на следующем узле сетки сохраняет равномерность
+        if (x == xAt(count)) {
+            if (count == yValues.length) {
+                yValues = Arrays.copyOf(yValues, count + 5);
+            }
+            yValues[count] = y;
+            count++;
+            log.debug("insert: точка x={} добавлена в конец равномерной сетки, новый размер={}", x, count);
+            return;
+        }
+
+        log.debug("insert: точка x={} нарушает равномерность сетки", x);
+        convert();
+        converted.insert(x, y);
+    }
+
+    @Override
+    public void remove(int index) {
+        if (converted != null) {
+            converted.remove(index);
+            return;
+        }
+        checkIndex(index);
+        if (count < 2) {
+            throw new IllegalStateException("Нельзя удалить элемент из таблицы с менее чем 2 точками");
+        }
+
+        // Удаление последнего узла сетку не портит
+        if (index == count - 1) {
+            count--;
+            log.debug("remove: удалён последний индекс={}, новый размер={}", index, count);
+            return;
+        }
+
+        convert();
+        converted.remove(index);
+    }
+
+    @Override
+    public void forEachPoint(DoubleBinaryConsumer action) {
+        if (converted != null) {
+            converted.forEachPoint(action);
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            action.accept(xAt(i), yValues[i]);
+        }
+    }
+
+    @Override
+    public void replaceAllY(DoubleBinaryOperator operator) {
+        if (converted != null) {
+            converted.replaceAllY(operator);
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            yValues[i] = operator.applyAsDouble(xAt(i), yValues[i]);
+        }
+    }
+
+    @Override
+    public java.util.Iterator<Point> iterator() {
+        if (converted != null) {
+            return converted.iterator();
+        }
+        return new java.util.Iterator<Point>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < count;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    throw new java.util.NoSuchElementException("Больше нет элементов");
+                }
+                Point point = new Point(xAt(index), yValues[index]);
+                index++;
+                return point;
+            }
+        };
+    }
+}
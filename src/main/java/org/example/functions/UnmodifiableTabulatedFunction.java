@@ -5,6 +5,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.DoubleBinaryOperator;
 
 public class UnmodifiableTabulatedFunction implements TabulatedFunction {
     private static final Logger log = LoggerFactory.getLogger(UnmodifiableTabulatedFunction.class);
@@ -60,6 +61,53 @@ public class UnmodifiableTabulatedFunction implements TabulatedFunction {
         return function.apply(x);
     }
 
+    @Override
+    public void forEachPoint(DoubleBinaryConsumer action) {
+        function.forEachPoint(action);
+    }
+
+    // Курсор исходной функции, у которого запрещена запись
+    @Override
+    public PointCursor cursor() {
+        PointCursor cursor = function.cursor();
+        return new PointCursor() {
+            @Override
+            public boolean next() {
+                return cursor.next();
+            }
+
+            @Override
+            public int getIndex() {
+                return cursor.getIndex();
+            }
+
+            @Override
+            public double getX() {
+                return cursor.getX();
+            }
+
+            @Override
+            public double getY() {
+                return cursor.getY();
+            }
+
+            @Override
+            public void setY(double value) {
+                throw new UnsupportedOperationException("Нельзя изменять неизменяемую функцию");
+            }
+
+            @Override
+            public void reset() {
+                cursor.reset();
+            }
+        };
+    }
+
+    @Override
+    public void replaceAllY(DoubleBinaryOperator operator) {
+        throw new UnsupportedOperationException("Нельзя изменять неизменяемую функцию");
+    }
+
     @Override
     public Iterator<Point> iterator() {
         return function.iterator();
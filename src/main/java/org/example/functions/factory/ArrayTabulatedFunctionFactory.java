@@ -8,6 +8,15 @@ public class ArrayTabulatedFunctionFactory implements TabulatedFunctionFactory {
     public TabulatedFunction create(double[] xValues, double[] yValues) {
         return new ArrayTabulatedFunction(xValues, yValues);
     }
+
+    // Сетка ArrayTabulatedFunction используется совместно, без копирования X
+    @Override
+    public TabulatedFunction createOnGrid(TabulatedFunction grid, double[] yValues) {
+        if (grid instanceof ArrayTabulatedFunction) {
+            return ((ArrayTabulatedFunction) grid).withYValues(yValues);
+        }
+        return TabulatedFunctionFactory.super.createOnGrid(grid, yValues);
+    }
 }
 
 
@@ -0,0 +1,12 @@
+package org.example.functions.factory;
+
+import org.example.functions.OffHeapTabulatedFunction;
+import org.example.functions.TabulatedFunction;
+
+// Создаёт функции вне кучи; их память освобождает вызывающий код через close()
+public class OffHeapTabulatedFunctionFactory implements TabulatedFunctionFactory {
+    @Override
+    public TabulatedFunction create(double[] xValues, double[] yValues) {
+        return new OffHeapTabulatedFunction(xValues, yValues);
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.functions.factory;
+
+import org.example.functions.SplineTabulatedFunction;
+import org.example.functions.TabulatedFunction;
+
+public class SplineTabulatedFunctionFactory implements TabulatedFunctionFactory {
+    private final SplineTabulatedFunction.Type type;
+
+    public SplineTabulatedFunctionFactory() {
+        this(SplineTabulatedFunction.Type.NATURAL_CUBIC);
+    }
+
+    public SplineTabulatedFunctionFactory(SplineTabulatedFunction.Type type) {
+        this.type = type;
+    }
+
+    public SplineTabulatedFunction.Type getType() {
+        return type;
+    }
+
+    @Override
+    public TabulatedFunction create(double[] xValues, double[] yValues) {
+        return new SplineTabulatedFunction(xValues, yValues, type);
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.functions.factory;
 
+import org.example.functions.PointCursor;
 import org.example.functions.StrictTabulatedFunction;
 import org.example.functions.TabulatedFunction;
 import org.example.functions.UnmodifiableTabulatedFunction;
@@ -7,6 +8,17 @@ import org.example.functions.UnmodifiableTabulatedFunction;
 public interface TabulatedFunctionFactory {
     TabulatedFunction create(double[] xValues, double[] yValues);
 
+    // Функция с X из grid и значениями yValues (той же длины). Реализации могут переиспользовать
+    // хранилище X из grid и забрать yValues без копирования, поэтому вызывающий не должен его больше изменять.
+    default TabulatedFunction createOnGrid(TabulatedFunction grid, double[] yValues) {
+        double[] xValues = new double[grid.getCount()];
+        PointCursor cursor = grid.cursor();
+        while (cursor.next()) {
+            xValues[cursor.getIndex()] = cursor.getX();
+        }
+        return create(xValues, yValues);
+    }
+
     default TabulatedFunction createUnmodifiable (double[] xValues, double[] yValues){
         TabulatedFunction function = create(xValues, yValues);
         return new UnmodifiableTabulatedFunction(function);
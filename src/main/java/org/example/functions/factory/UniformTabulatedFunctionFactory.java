@@ -0,0 +1,20 @@
+package org.example.functions.factory;
+
+import org.example.functions.TabulatedFunction;
+import org.example.functions.UniformTabulatedFunction;
+
+public class UniformTabulatedFunctionFactory implements TabulatedFunctionFactory {
+    @Override
+    public TabulatedFunction create(double[] xValues, double[] yValues) {
+        return new UniformTabulatedFunction(xValues, yValues);
+    }
+
+    // Равномерная сетка переносится параметрами (левая граница и шаг), без построения массива X
+    @Override
+    public TabulatedFunction createOnGrid(TabulatedFunction grid, double[] yValues) {
+        if (grid instanceof UniformTabulatedFunction && ((UniformTabulatedFunction) grid).isUniform()) {
+            return ((UniformTabulatedFunction) grid).withYValues(yValues);
+        }
+        return TabulatedFunctionFactory.super.createOnGrid(grid, yValues);
+    }
+}
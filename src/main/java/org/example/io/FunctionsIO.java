@@ -2,9 +2,10 @@ package org.example.io;
 
 import org.example.functions.TabulatedFunction;
 import org.example.functions.factory.TabulatedFunctionFactory;
-import org.example.functions.Point;
+import org.example.functions.PointCursor;
 
 import java.io.*;
+import java.nio.file.Path;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Locale;
@@ -37,12 +38,15 @@ public final class FunctionsIO {
         printWriter.println(function.getCount());
         logger.trace("Записано количество точек: {}", function.getCount());
 
-        // Записываем точки в цикле for-each
+        // Записываем точки, обходя функцию курсором
         int pointCount = 0;
-        for (Point point : function) {
-            printWriter.printf("%f %f\n", point.x, point.y);
+        PointCursor cursor = function.cursor();
+        while (cursor.next()) {
+            printWriter.printf("%f %f\n", cursor.getX(), cursor.getY());
             pointCount++;
-            logger.trace("Записана точка #{}: ({}, {})", pointCount, point.x, point.y);
+            if (logger.isTraceEnabled()) {
+                logger.trace("Записана точка #{}: ({}, {})", pointCount, cursor.getX(), cursor.getY());
+            }
         }
 
         // Сбрасываем буфер, но не закрываем поток
@@ -58,11 +62,14 @@ public final class FunctionsIO {
         logger.trace("Записано количество точек: {}", function.getCount());
 
         int pointCount = 0;
-        for (Point point : function) {
-            dataOutputStream.writeDouble(point.x);
-            dataOutputStream.writeDouble(point.y);
+        PointCursor cursor = function.cursor();
+        while (cursor.next()) {
+            dataOutputStream.writeDouble(cursor.getX());
+            dataOutputStream.writeDouble(cursor.getY());
             pointCount++;
-            logger.trace("Записана точка #{}: ({}, {})", pointCount, point.x, point.y);
+            if (logger.isTraceEnabled()) {
+                logger.trace("Записана точка #{}: ({}, {})", pointCount, cursor.getX(), cursor.getY());
+            }
         }
 
         dataOutputStream.flush();
@@ -161,6 +168,13 @@ public final class FunctionsIO {
         return factory.create(xValues, yValues);
     }
 
+    // Открывает бинарный файл без чтения в кучу: точки читаются из отображённых в память страниц.
+    // Функцию нужно закрыть, чтобы снять отображение.
+    public static MappedTabulatedFunction mapTabulatedFunction(Path path, boolean writable) throws IOException {
+        logger.debug("Отображение табличной функции из файла {}", path);
+        return MappedTabulatedFunction.open(path, writable);
+    }
+
     public static void serialize(BufferedOutputStream stream, TabulatedFunction function) throws IOException {
         logger.debug("Сериализация функции, количество точек: {}", function.getCount());
         if (stream == null || function == null) {
@@ -24,14 +24,12 @@ public class LinkedListTabulatedFunctionSerialization {
         TabulatedDifferentialOperator differentialOperator = new TabulatedDifferentialOperator();
         logger.debug("Создан оператор для вычисления производных");
 
-        // Находим производные
-        logger.info("Вычисление первой производной...");
-        TabulatedFunction firstDerivative = differentialOperator.derive(originalFunction);
-        logger.debug("Первая производная вычислена: {} точек", firstDerivative.getCount());
-
-        logger.info("Вычисление второй производной...");
-        TabulatedFunction secondDerivative = differentialOperator.derive(firstDerivative);
-        logger.debug("Вторая производная вычислена: {} точек", secondDerivative.getCount());
+        // Находим производные за один проход
+        logger.info("Вычисление первой и второй производных...");
+        TabulatedFunction[] derivatives = differentialOperator.deriveAll(originalFunction, 2);
+        TabulatedFunction firstDerivative = derivatives[0];
+        TabulatedFunction secondDerivative = derivatives[1];
+        logger.debug("Производные вычислены: {} точек", firstDerivative.getCount());
 
         // Сериализация функций
         String filename = "output/serialized linked list functions.bin";
@@ -0,0 +1,276 @@
+package org.example.io;
+
+import org.example.exceptions.InterpolationException;
+import org.example.functions.AbstractTabulatedFunction;
+import org.example.functions.DoubleBinaryConsumer;
+import org.example.functions.Point;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Табличная функция, отображённая в память прямо из бинарного файла формата
+// FunctionsIO.writeTabulatedFunction(BufferedOutputStream, ...): int count, затем пары double x, y
+// (big-endian, как пишет DataOutputStream). Данные не копируются в кучу - страницы подгружает ОС.
+public class MappedTabulatedFunction extends AbstractTabulatedFunction implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(MappedTabulatedFunction.class);
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfDouble DOUBLE = ValueLayout.JAVA_DOUBLE_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final long HEADER_SIZE = Integer.BYTES;
+    private static final long POINT_SIZE = 2L * Double.BYTES;
+
+    private final Path path;
+    private final Arena arena;
+    private final MemorySegment segment;
+    private final int count;
+    private final boolean writable;
+    private boolean closed;
+
+    private MappedTabulatedFunction(Path path, Arena arena, MemorySegment segment, int count, boolean writable) {
+        this.path = path;
+        this.arena = arena;
+        this.segment = segment;
+        this.count = count;
+        this.writable = writable;
+    }
+
+    // Открывает файл только для чтения
+    public static MappedTabulatedFunction open(Path path) throws IOException {
+        return open(path, false);
+    }
+
+    // При writable = true setY записывает значение прямо в файл
+    public static MappedTabulatedFunction open(Path path, boolean writable) throws IOException {
+        logger.debug("Отображение файла {} в память, запись {}", path, writable ? "разрешена" : "запрещена");
+
+        FileChannel.MapMode mode = writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+        StandardOpenOption[] options = writable
+                ? new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE}
+                : new StandardOpenOption[]{StandardOpenOption.READ};
+
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new IOException("Файл слишком короткий - невозможно прочитать количество точек: " + path);
+            }
+
+            // Отображение живёт до закрытия arena, канал после map можно закрыть
+            MemorySegment segment = channel.map(mode, 0, size, arena);
+            int count = segment.get(INT, 0);
+            if (count < 2) {
+                throw new IOException("Количество точек должно быть не менее 2: " + count);
+            }
+            if (size < HEADER_SIZE + count * POINT_SIZE) {
+                throw new IOException(String.format("Файл обрезан: ожидалось %d точек, размер %d байт", count, size));
+            }
+
+            logger.debug("Файл {} отображён: {} точек, {} байт", path, count, size);
+            return new MappedTabulatedFunction(path, arena, segment, count, writable);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public boolean isWritable() {
+        return writable;
+    }
+
+    // Сбрасывает изменённые страницы на диск (в режиме записи)
+    public void force() {
+        if (writable) {
+            segment.force();
+        }
+    }
+
+    // Снимает отображение; повторный вызов ничего не делает
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        arena.close();
+        logger.debug("Отображение файла {} закрыто", path);
+    }
+
+    private double xAt(int index) {
+        return segment.get(DOUBLE, HEADER_SIZE + index * POINT_SIZE);
+    }
+
+    private double yAt(int index) {
+        return segment.get(DOUBLE, HEADER_SIZE + index * POINT_SIZE + Double.BYTES);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("Индекс " + index + " выходит за границы [0, " + (count - 1) + "]");
+        }
+    }
+
+    // Индекс первого X, не меньшего x, в диапазоне [from, to).
+    // Порядок X не проверяется при открытии, чтобы не читать весь файл: файлы пишутся из уже проверенных функций.
+    private int lowerBound(int from, int to, double x) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (xAt(mid) < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public double getX(int index) {
+        checkIndex(index);
+        return xAt(index);
+    }
+
+    @Override
+    public double getY(int index) {
+        checkIndex(index);
+        return yAt(index);
+    }
+
+    @Override
+    public void setY(int index, double y) {
+        if (!writable) {
+            throw new UnsupportedOperationException("Файл " + path + " открыт только для чтения");
+        }
+        checkIndex(index);
+        segment.set(DOUBLE, HEADER_SIZE + index * POINT_SIZE + Double.BYTES, y);
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        int index = lowerBound(0, count, x);
+        if (index < count && xAt(index) == x) {
+            return index;
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        for (int i = 0; i < count; i++) {
+            if (yAt(i) == y) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public double leftBound() {
+        return xAt(0);
+    }
+
+    @Override
+    public double rightBound() {
+        return xAt(count - 1);
+    }
+
+    @Override
+    protected int floorIndexOfX(double x) {
+        if (x < xAt(0)) {
+            throw new IllegalArgumentException("x = " + x + " меньше левой границы " + xAt(0));
+        }
+        int index = lowerBound(1, count, x);
+        if (index == count) {
+            return count;
+        }
+        return index - 1;
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        return interpolate(x, xAt(0), xAt(1), yAt(0), yAt(1));
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        return interpolate(x, xAt(count - 2), xAt(count - 1), yAt(count - 2), yAt(count - 1));
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        double leftX = xAt(floorIndex);
+        double rightX = xAt(floorIndex + 1);
+        if (x < leftX || x > rightX) {
+            throw new InterpolationException("x = " + x + " вне диапазона интерполяции [" + leftX + ", " + rightX + "]");
+        }
+        return interpolate(x, leftX, rightX, yAt(floorIndex), yAt(floorIndex + 1));
+    }
+
+    // Поиск и интерполяция читают только нужные страницы файла
+    @Override
+    public double apply(double x) {
+        if (x < xAt(0)) {
+            return extrapolateLeft(x);
+        }
+        if (x > xAt(count - 1)) {
+            return extrapolateRight(x);
+        }
+        if (Double.isNaN(x)) {
+            return Double.NaN;
+        }
+
+        int index = lowerBound(0, count, x);
+        if (xAt(index) == x) {
+            return yAt(index);
+        }
+        return interpolate(x, index - 1);
+    }
+
+    @Override
+    public void forEachPoint(DoubleBinaryConsumer action) {
+        for (int i = 0; i < count; i++) {
+            action.accept(xAt(i), yAt(i));
+        }
+    }
+
+    @Override
+    public java.util.Iterator<Point> iterator() {
+        return new java.util.Iterator<Point>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < count;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    throw new java.util.NoSuchElementException("Больше нет элементов");
+                }
+                Point point = new Point(xAt(index), yAt(index));
+                index++;
+                return point;
+            }
+        };
+    }
+}
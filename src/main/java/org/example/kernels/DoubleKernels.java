@@ -0,0 +1,31 @@
+package org.example.kernels;
+
+// Пакетные операции над массивами double, на которых держатся applyAll и поэлементная арифметика.
+// Реализация выбирается один раз при загрузке: векторная, если в JVM подключён модуль
+// jdk.incubator.vector, иначе скалярная. Все методы обрабатывают диапазон индексов [from, to).
+public interface DoubleKernels {
+
+    void add(double[] a, double[] b, double[] out, int from, int to);
+
+    void sub(double[] a, double[] b, double[] out, int from, int to);
+
+    void mult(double[] a, double[] b, double[] out, int from, int to);
+
+    void div(double[] a, double[] b, double[] out, int from, int to);
+
+    // Линейная интерполяция: для каждого i из диапазона x = xs[i] лежит в интервале
+    // [tableX[f], tableX[f + 1]] ненулевой ширины, f = floor[i - from] (floor отсчитывается от начала диапазона,
+    // чтобы вызывающий мог обходиться буфером размером с порцию, а не с весь пакет)
+    void interpolate(double[] xs, int[] floor, double[] tableX, double[] tableY, double[] out, int from, int to);
+
+    boolean isVectorized();
+
+    // Лучшая доступная реализация
+    static DoubleKernels get() {
+        return KernelSelector.SELECTED;
+    }
+
+    static DoubleKernels scalar() {
+        return ScalarDoubleKernels.INSTANCE;
+    }
+}
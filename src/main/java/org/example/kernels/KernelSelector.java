@@ -0,0 +1,39 @@
+package org.example.kernels;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Выбор реализации DoubleKernels. Векторный класс создаётся через рефлексию, чтобы без модуля
+// jdk.incubator.vector JVM даже не пыталась его загрузить.
+final class KernelSelector {
+    private static final Logger logger = LoggerFactory.getLogger(KernelSelector.class);
+
+    // -Dorg.example.kernels.scalar=true принудительно отключает векторный путь
+    static final String FORCE_SCALAR_PROPERTY = "org.example.kernels.scalar";
+
+    static final DoubleKernels SELECTED = select();
+
+    private KernelSelector() {
+        throw new UnsupportedOperationException();
+    }
+
+    private static DoubleKernels select() {
+        if (Boolean.getBoolean(FORCE_SCALAR_PROPERTY)) {
+            logger.info("Векторные ядра отключены свойством {}", FORCE_SCALAR_PROPERTY);
+            return ScalarDoubleKernels.INSTANCE;
+        }
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            logger.debug("Модуль jdk.incubator.vector не подключён, используются скалярные ядра");
+            return ScalarDoubleKernels.INSTANCE;
+        }
+        try {
+            DoubleKernels kernels = (DoubleKernels) Class.forName("org.example.kernels.VectorDoubleKernels")
+                    .getDeclaredConstructor().newInstance();
+            logger.info("Используются векторные ядра");
+            return kernels;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            logger.warn("Не удалось загрузить векторные ядра, используются скалярные: {}", e.toString());
+            return ScalarDoubleKernels.INSTANCE;
+        }
+    }
+}
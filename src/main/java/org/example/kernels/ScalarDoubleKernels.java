@@ -0,0 +1,51 @@
+package org.example.kernels;
+
+final class ScalarDoubleKernels implements DoubleKernels {
+    static final ScalarDoubleKernels INSTANCE = new ScalarDoubleKernels();
+
+    private ScalarDoubleKernels() {
+    }
+
+    @Override
+    public void add(double[] a, double[] b, double[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = a[i] + b[i];
+        }
+    }
+
+    @Override
+    public void sub(double[] a, double[] b, double[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = a[i] - b[i];
+        }
+    }
+
+    @Override
+    public void mult(double[] a, double[] b, double[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = a[i] * b[i];
+        }
+    }
+
+    @Override
+    public void div(double[] a, double[] b, double[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = a[i] / b[i];
+        }
+    }
+
+    @Override
+    public void interpolate(double[] xs, int[] floor, double[] tableX, double[] tableY, double[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int index = floor[i - from];
+            double leftX = tableX[index];
+            double leftY = tableY[index];
+            out[i] = leftY + (tableY[index + 1] - leftY) * (xs[i] - leftX) / (tableX[index + 1] - leftX);
+        }
+    }
+
+    @Override
+    public boolean isVectorized() {
+        return false;
+    }
+}
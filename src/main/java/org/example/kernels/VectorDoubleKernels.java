@@ -0,0 +1,87 @@
+package org.example.kernels;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+// Загружается только через KernelSelector и только при подключённом jdk.incubator.vector.
+// Порядок операций совпадает со скалярной версией, поэтому результаты совпадают побитово.
+final class VectorDoubleKernels implements DoubleKernels {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    VectorDoubleKernels() {
+    }
+
+    @Override
+    public void add(double[] a, double[] b, double[] out, int from, int to) {
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, a, i).add(DoubleVector.fromArray(SPECIES, b, i)).intoArray(out, i);
+        }
+        for (; i < to; i++) {
+            out[i] = a[i] + b[i];
+        }
+    }
+
+    @Override
+    public void sub(double[] a, double[] b, double[] out, int from, int to) {
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, a, i).sub(DoubleVector.fromArray(SPECIES, b, i)).intoArray(out, i);
+        }
+        for (; i < to; i++) {
+            out[i] = a[i] - b[i];
+        }
+    }
+
+    @Override
+    public void mult(double[] a, double[] b, double[] out, int from, int to) {
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, a, i).mul(DoubleVector.fromArray(SPECIES, b, i)).intoArray(out, i);
+        }
+        for (; i < to; i++) {
+            out[i] = a[i] * b[i];
+        }
+    }
+
+    @Override
+    public void div(double[] a, double[] b, double[] out, int from, int to) {
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, a, i).div(DoubleVector.fromArray(SPECIES, b, i)).intoArray(out, i);
+        }
+        for (; i < to; i++) {
+            out[i] = a[i] / b[i];
+        }
+    }
+
+    @Override
+    public void interpolate(double[] xs, int[] floor, double[] tableX, double[] tableY, double[] out, int from, int to) {
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            // Узлы интервалов собираются gather-загрузками по индексам floor
+            DoubleVector leftX = DoubleVector.fromArray(SPECIES, tableX, 0, floor, i - from);
+            DoubleVector rightX = DoubleVector.fromArray(SPECIES, tableX, 1, floor, i - from);
+            DoubleVector leftY = DoubleVector.fromArray(SPECIES, tableY, 0, floor, i - from);
+            DoubleVector rightY = DoubleVector.fromArray(SPECIES, tableY, 1, floor, i - from);
+            DoubleVector x = DoubleVector.fromArray(SPECIES, xs, i);
+            rightY.sub(leftY).mul(x.sub(leftX)).div(rightX.sub(leftX)).add(leftY).intoArray(out, i);
+        }
+        for (; i < to; i++) {
+            int index = floor[i - from];
+            double leftX = tableX[index];
+            double leftY = tableY[index];
+            out[i] = leftY + (tableY[index + 1] - leftY) * (xs[i] - leftX) / (tableX[index + 1] - leftX);
+        }
+    }
+
+    @Override
+    public boolean isVectorized() {
+        return true;
+    }
+}
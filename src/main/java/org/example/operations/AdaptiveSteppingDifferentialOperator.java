@@ -0,0 +1,204 @@
+package org.example.operations;
+
+import org.example.functions.MathFunction;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Адаптивная разностная производная: центральные разности с шагами step, step/2, step/4, ...
+// уточняются экстраполяцией Ричардсона. Каждый новый шаг стоит ровно двух вызовов apply;
+// уточнение прекращается, как только оценка погрешности не превышает tolerance.
+public class AdaptiveSteppingDifferentialOperator extends SteppingDifferentialOperator {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveSteppingDifferentialOperator.class);
+
+    public static final int DEFAULT_MAX_LEVELS = 10;
+    // Если погрешность выросла во столько раз относительно лучшей, дальше мешает округление
+    private static final double DIVERGENCE_FACTOR = 2.0;
+
+    private double tolerance;
+    private int maxLevels;
+
+    public AdaptiveSteppingDifferentialOperator(double step, double tolerance) {
+        this(step, tolerance, DEFAULT_MAX_LEVELS);
+    }
+
+    public AdaptiveSteppingDifferentialOperator(double step, double tolerance, int maxLevels) {
+        super(step);
+        validTolerance(tolerance);
+        validMaxLevels(maxLevels);
+        this.tolerance = tolerance;
+        this.maxLevels = maxLevels;
+        logger.debug("Создан AdaptiveSteppingDifferentialOperator: шаг={}, допуск={}, уровней не более {}",
+                step, tolerance, maxLevels);
+    }
+
+    private void validTolerance(double tolerance) {
+        if (!(tolerance > 0) || Double.isInfinite(tolerance)) {
+            String errorMsg = "Допуск должен быть положительным конечным числом: " + tolerance;
+            logger.error(errorMsg);
+            throw new IllegalArgumentException(errorMsg);
+        }
+    }
+
+    private void validMaxLevels(int maxLevels) {
+        // Для оценки погрешности нужны хотя бы два шага
+        if (maxLevels < 2) {
+            String errorMsg = "Число уровней должно быть не менее 2: " + maxLevels;
+            logger.error(errorMsg);
+            throw new IllegalArgumentException(errorMsg);
+        }
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public void setTolerance(double tolerance) {
+        validTolerance(tolerance);
+        this.tolerance = tolerance;
+        logger.info("Допуск изменен на: {}", tolerance);
+    }
+
+    public int getMaxLevels() {
+        return maxLevels;
+    }
+
+    public void setMaxLevels(int maxLevels) {
+        validMaxLevels(maxLevels);
+        this.maxLevels = maxLevels;
+        logger.info("Максимальное число уровней изменено на: {}", maxLevels);
+    }
+
+    // Результат одного вычисления производной
+    public static final class Estimate {
+        private final double value;
+        private final double error;
+        private final int evaluations;
+        private final boolean converged;
+
+        Estimate(double value, double error, int evaluations, boolean converged) {
+            this.value = value;
+            this.error = error;
+            this.evaluations = evaluations;
+            this.converged = converged;
+        }
+
+        public double getValue() {
+            return value;
+        }
+
+        // Оценка погрешности - разность двух последних диагональных элементов таблицы
+        public double getError() {
+            return error;
+        }
+
+        // Сколько раз была вызвана исходная функция
+        public int getEvaluations() {
+            return evaluations;
+        }
+
+        // false, если допуск не достигнут: кончились уровни или погрешность начала расти
+        public boolean isConverged() {
+            return converged;
+        }
+
+        @Override
+        public String toString() {
+            return "Estimate{value=" + value + ", error=" + error + ", evaluations=" + evaluations
+                    + ", converged=" + converged + "}";
+        }
+    }
+
+    // Производная с подсчётом вызовов исходной функции
+    public class AdaptiveDerivative implements MathFunction {
+        private final MathFunction function;
+        private final AtomicLong evaluations = new AtomicLong();
+        private final AtomicLong calls = new AtomicLong();
+
+        AdaptiveDerivative(MathFunction function) {
+            this.function = function;
+        }
+
+        @Override
+        public double apply(double x) {
+            return estimate(x).getValue();
+        }
+
+        public Estimate estimate(double x) {
+            Estimate result = AdaptiveSteppingDifferentialOperator.this.estimate(function, x);
+            evaluations.addAndGet(result.getEvaluations());
+            calls.incrementAndGet();
+            return result;
+        }
+
+        // Суммарное число вызовов исходной функции по всем точкам
+        public long getEvaluationCount() {
+            return evaluations.get();
+        }
+
+        // Сколько раз вычислялась производная
+        public long getCallCount() {
+            return calls.get();
+        }
+    }
+
+    @Override
+    public AdaptiveDerivative derive(MathFunction function) {
+        logger.debug("Вычисление адаптивной производной для функции");
+        return new AdaptiveDerivative(function);
+    }
+
+    public Estimate estimate(MathFunction function, double x) {
+        // Шаг и допуск читаются один раз, чтобы setStep во время вычисления не смешал уровни
+        double h = step;
+        double tol = tolerance;
+        int levels = maxLevels;
+
+        // Храним только предыдущую строку таблицы Ричардсона
+        double[] previous = new double[levels];
+        double[] current = new double[levels];
+
+        previous[0] = (function.apply(x + h) - function.apply(x - h)) / (2 * h);
+        int evaluations = 2;
+        double best = previous[0];
+        double bestError = Double.POSITIVE_INFINITY;
+
+        for (int i = 1; i < levels; i++) {
+            h *= 0.5;
+            current[0] = (function.apply(x + h) - function.apply(x - h)) / (2 * h);
+            evaluations += 2;
+
+            // Ошибка центральной разности содержит только чётные степени h, поэтому множитель 4^j
+            double factor = 4.0;
+            for (int j = 1; j <= i; j++) {
+                current[j] = current[j - 1] + (current[j - 1] - previous[j - 1]) / (factor - 1);
+                factor *= 4.0;
+            }
+
+            double error = Math.abs(current[i] - previous[i - 1]);
+            if (error <= bestError) {
+                best = current[i];
+                bestError = error;
+            }
+            if (error <= tol) {
+                logger.trace("Производная в x={} найдена за {} вызовов: {} (погрешность {})",
+                        x, evaluations, best, bestError);
+                return new Estimate(best, bestError, evaluations, true);
+            }
+            if (error > DIVERGENCE_FACTOR * bestError) {
+                logger.debug("В x={} погрешность растёт из-за округления, остановка на уровне {}", x, i);
+                break;
+            }
+
+            double[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        logger.debug("Допуск {} в x={} не достигнут: погрешность {}, вызовов {}", tol, x, bestError, evaluations);
+        return new Estimate(best, bestError, evaluations, false);
+    }
+}
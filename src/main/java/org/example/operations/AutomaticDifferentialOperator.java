@@ -0,0 +1,40 @@
+package org.example.operations;
+
+import org.example.functions.DifferentiableFunction;
+import org.example.functions.Dual;
+import org.example.functions.MathFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Точная производная в прямом режиме автоматического дифференцирования.
+// Функция вычисляется один раз на дуальном числе, шаг не нужен, вычитания близких значений нет.
+// Подходят графы из SqrFunction, IdentityFunction, ConstantFunction, DifferentiableCompositeFunction (её создаёт andThen)
+// и любые собственные реализации DifferentiableFunction.
+public class AutomaticDifferentialOperator implements DifferentialOperator<MathFunction> {
+    private static final Logger logger = LoggerFactory.getLogger(AutomaticDifferentialOperator.class);
+
+    @Override
+    public MathFunction derive(MathFunction function) {
+        logger.debug("Автоматическое дифференцирование функции {}", function.getClass().getName());
+        if (!DifferentiableFunction.isDifferentiable(function)) {
+            String errorMsg = "Функция не поддерживает автоматическое дифференцирование: " + function.getClass().getName();
+            logger.error(errorMsg);
+            throw new UnsupportedOperationException(errorMsg);
+        }
+        DifferentiableFunction differentiable = (DifferentiableFunction) function;
+
+        // Результат - обычная MathFunction: для повторного дифференцирования нужны вторые производные,
+        // которых одно дуальное число не несёт
+        return x -> differentiable.apply(Dual.variable(x)).getDerivative();
+    }
+
+    // Значение и производная за одно вычисление
+    public Dual valueAndDerivative(MathFunction function, double x) {
+        if (!DifferentiableFunction.isDifferentiable(function)) {
+            throw new UnsupportedOperationException("Функция не поддерживает автоматическое дифференцирование: "
+                    + function.getClass().getName());
+        }
+        return ((DifferentiableFunction) function).apply(Dual.variable(x));
+    }
+}
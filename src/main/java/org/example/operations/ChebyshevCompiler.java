@@ -0,0 +1,235 @@
+package org.example.operations;
+
+import org.example.functions.MathFunction;
+import org.example.functions.PiecewiseChebyshevFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+// Компилирует дорогую MathFunction в кусочное разложение по многочленам Чебышёва на [a, b].
+// На каждом отрезке функция интерполируется в узлах Чебышёва-Лобатто cos(πk/N); степень удваивается
+// (INITIAL_DEGREE, 2·INITIAL_DEGREE, ... до maxDegree), и узлы степени N входят в узлы степени 2N,
+// поэтому уже вычисленные значения переиспользуются. Если хвост коэффициентов не укладывается в допуск
+// и при максимальной степени, отрезок делится пополам. Допуск абсолютный.
+public class ChebyshevCompiler {
+    private static final Logger logger = LoggerFactory.getLogger(ChebyshevCompiler.class);
+
+    public static final int DEFAULT_MAX_DEGREE = 64;
+    public static final int DEFAULT_MAX_PIECES = 4096;
+    private static final int INITIAL_DEGREE = 16;
+    // Хвост, по которому судят о сходимости: столько последних коэффициентов
+    private static final int TAIL_LENGTH = 3;
+    // Отрезки уже этой доли исходного не делятся
+    private static final double MIN_RELATIVE_WIDTH = 1e-13;
+    // Коэффициенты не больше ROUNDING_FACTOR·ulp(max|c|) неотличимы от шума округления
+    private static final double ROUNDING_FACTOR = 16;
+
+    private final double tolerance;
+    private int maxDegree = DEFAULT_MAX_DEGREE;
+    private int maxPieces = DEFAULT_MAX_PIECES;
+
+    public ChebyshevCompiler(double tolerance) {
+        if (!(tolerance > 0) || Double.isInfinite(tolerance)) {
+            throw new IllegalArgumentException("Допуск должен быть положительным конечным числом: " + tolerance);
+        }
+        this.tolerance = tolerance;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public int getMaxDegree() {
+        return maxDegree;
+    }
+
+    public void setMaxDegree(int maxDegree) {
+        if (maxDegree < TAIL_LENGTH) {
+            throw new IllegalArgumentException("Максимальная степень должна быть не меньше " + TAIL_LENGTH + ": " + maxDegree);
+        }
+        this.maxDegree = maxDegree;
+    }
+
+    public int getMaxPieces() {
+        return maxPieces;
+    }
+
+    public void setMaxPieces(int maxPieces) {
+        if (maxPieces < 1) {
+            throw new IllegalArgumentException("Число кусков должно быть положительным: " + maxPieces);
+        }
+        this.maxPieces = maxPieces;
+    }
+
+    // Результат подгонки на одном отрезке
+    private static final class Fit {
+        final double[] coefficients;
+        final boolean converged;
+
+        Fit(double[] coefficients, boolean converged) {
+            this.coefficients = coefficients;
+            this.converged = converged;
+        }
+    }
+
+    public PiecewiseChebyshevFunction compile(MathFunction function, double a, double b) {
+        if (!(a < b) || Double.isInfinite(a) || Double.isInfinite(b)) {
+            throw new IllegalArgumentException("Нужен конечный отрезок с a < b: [" + a + ", " + b + "]");
+        }
+        logger.debug("Компиляция функции {} на [{}, {}] с допуском {}", function.getClass().getName(), a, b, tolerance);
+
+        double minWidth = (b - a) * MIN_RELATIVE_WIDTH;
+        long[] evaluations = {0};
+        boolean converged = true;
+
+        double[] breakpoints = new double[16];
+        double[] coefficients = new double[256];
+        int[] offsets = new int[16];
+        int pieces = 0;
+        int coefficientCount = 0;
+        breakpoints[0] = a;
+
+        // Отрезки обрабатываются слева направо: правая половина кладётся в стек раньше левой
+        Deque<double[]> pending = new ArrayDeque<>();
+        pending.push(new double[]{a, b});
+        while (!pending.isEmpty()) {
+            double[] interval = pending.pop();
+            double left = interval[0];
+            double right = interval[1];
+            Fit fit = fit(function, left, right, evaluations);
+
+            double middle = 0.5 * (left + right);
+            boolean canSplit = right - left > minWidth && pieces + pending.size() + 2 <= maxPieces
+                    && left < middle && middle < right;
+            if (!fit.converged && canSplit) {
+                pending.push(new double[]{middle, right});
+                pending.push(new double[]{left, middle});
+                continue;
+            }
+            if (!fit.converged) {
+                converged = false;
+                logger.warn("Допуск {} не достигнут на [{}, {}]: исчерпан лимит кусков или ширины", tolerance, left, right);
+            }
+
+            if (pieces + 2 > breakpoints.length) {
+                breakpoints = Arrays.copyOf(breakpoints, breakpoints.length * 2);
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            if (coefficientCount + fit.coefficients.length > coefficients.length) {
+                coefficients = Arrays.copyOf(coefficients,
+                        Math.max(coefficients.length * 2, coefficientCount + fit.coefficients.length));
+            }
+            System.arraycopy(fit.coefficients, 0, coefficients, coefficientCount, fit.coefficients.length);
+            offsets[pieces] = coefficientCount;
+            coefficientCount += fit.coefficients.length;
+            pieces++;
+            breakpoints[pieces] = right;
+        }
+        offsets[pieces] = coefficientCount;
+
+        logger.debug("Компиляция завершена: {} кусков, {} коэффициентов, {} вычислений функции",
+                pieces, coefficientCount, evaluations[0]);
+        return new PiecewiseChebyshevFunction(Arrays.copyOf(breakpoints, pieces + 1),
+                Arrays.copyOf(coefficients, coefficientCount), Arrays.copyOf(offsets, pieces + 1),
+                converged, evaluations[0]);
+    }
+
+    // Подгонка на [left, right] с удвоением степени; при успехе хвост обрезается
+    private Fit fit(MathFunction function, double left, double right, long[] evaluations) {
+        double middle = 0.5 * (left + right);
+        double half = 0.5 * (right - left);
+
+        int degree = Math.min(INITIAL_DEGREE, maxDegree);
+        double[] values = new double[degree + 1];
+        for (int k = 0; k <= degree; k++) {
+            values[k] = function.apply(node(middle, half, k, degree));
+        }
+        evaluations[0] += degree + 1;
+
+        while (true) {
+            double[] coefficients = chebyshevCoefficients(values, degree);
+            int length = chop(coefficients);
+            if (length > 0) {
+                return new Fit(Arrays.copyOf(coefficients, length), true);
+            }
+            if (degree * 2 > maxDegree) {
+                return new Fit(coefficients, false);
+            }
+
+            // Узлы степени N - чётные узлы степени 2N, вычислять нужно только нечётные
+            int doubled = degree * 2;
+            double[] refined = new double[doubled + 1];
+            for (int k = 0; k <= degree; k++) {
+                refined[2 * k] = values[k];
+            }
+            for (int k = 1; k < doubled; k += 2) {
+                refined[k] = function.apply(node(middle, half, k, doubled));
+            }
+            evaluations[0] += degree;
+            values = refined;
+            degree = doubled;
+        }
+    }
+
+    private static double node(double middle, double half, int k, int degree) {
+        if (k == 0) {
+            return middle + half;
+        }
+        if (k == degree) {
+            return middle - half;
+        }
+        return middle + half * Math.cos(Math.PI * k / degree);
+    }
+
+    // Коэффициенты интерполянта Σ c(j)·T(j) по значениям в узлах cos(πk/N), k = 0..N
+    // (дискретное косинус-преобразование первого типа; c(0) и c(N) уже поделены пополам)
+    static double[] chebyshevCoefficients(double[] values, int degree) {
+        double[] cosines = new double[2 * degree];
+        for (int m = 0; m < 2 * degree; m++) {
+            cosines[m] = Math.cos(Math.PI * m / degree);
+        }
+        double[] coefficients = new double[degree + 1];
+        for (int j = 0; j <= degree; j++) {
+            double sum = 0.5 * (values[0] + (j % 2 == 0 ? values[degree] : -values[degree]));
+            for (int k = 1; k < degree; k++) {
+                sum += values[k] * cosines[(j * k) % (2 * degree)];
+            }
+            coefficients[j] = 2.0 * sum / degree;
+        }
+        coefficients[0] *= 0.5;
+        coefficients[degree] *= 0.5;
+        return coefficients;
+    }
+
+    // Длина разложения после отбрасывания хвоста, сумма модулей которого не больше половины допуска;
+    // 0, если последние TAIL_LENGTH коэффициентов ещё велики (степени не хватает).
+    // Для негладких функций коэффициенты убывают степенным образом, и неизвестный хвост за степенью N
+    // может быть в ~N раз больше последних коэффициентов - поэтому оценка домножается на N.
+    // Хвост на уровне ошибок округления тоже считается сошедшимся: дальше точность не растёт ни от степени,
+    // ни от деления отрезка, так что допуск ниже этого уровня фактически не достижим.
+    private int chop(double[] coefficients) {
+        int length = coefficients.length;
+        double budget = 0.5 * tolerance;
+        double scale = 0;
+        for (double coefficient : coefficients) {
+            scale = Math.max(scale, Math.abs(coefficient));
+        }
+        double noise = ROUNDING_FACTOR * Math.ulp(scale);
+        double tail = 0;
+        for (int j = length - TAIL_LENGTH; j < length; j++) {
+            tail += Math.abs(coefficients[j]);
+        }
+        if (!(tail * (length - 1) <= budget) && !(tail <= TAIL_LENGTH * noise)) {
+            return 0;
+        }
+        double dropped = 0;
+        while (length > 1 && dropped + Math.abs(coefficients[length - 1]) <= budget) {
+            dropped += Math.abs(coefficients[length - 1]);
+            length--;
+        }
+        return length;
+    }
+}
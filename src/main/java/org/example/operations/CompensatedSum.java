@@ -0,0 +1,22 @@
+package org.example.operations;
+
+// Сумма с компенсацией ошибок округления (алгоритм Ноймайера - вариант Кэхэна,
+// который не теряет точность, когда слагаемое больше накопленной суммы)
+public final class CompensatedSum {
+    private double sum;
+    private double compensation;
+
+    public void add(double value) {
+        double t = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensation += (sum - t) + value;
+        } else {
+            compensation += (value - t) + sum;
+        }
+        sum = t;
+    }
+
+    public double sum() {
+        return sum + compensation;
+    }
+}
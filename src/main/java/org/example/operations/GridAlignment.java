@@ -0,0 +1,13 @@
+package org.example.operations;
+
+// Как TabulatedFunctionOperationService сопоставляет сетки X операндов
+public enum GridAlignment {
+    // Сетки обязаны совпадать поточечно, иначе InconsistentFunctionsException
+    STRICT,
+    // Результат строится на объединении X обоих операндов
+    UNION,
+    // Результат строится на сетке первого операнда, второй интерполируется
+    FIRST,
+    // Результат строится на сетке второго операнда, первый интерполируется
+    SECOND
+}
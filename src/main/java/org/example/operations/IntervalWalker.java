@@ -0,0 +1,47 @@
+package org.example.operations;
+
+import org.example.functions.PointCursor;
+import org.example.functions.TabulatedFunction;
+
+// Значения табличной функции в неубывающей последовательности точек за один проход по её узлам.
+// Хранит текущий интервал [prevX, nextX] и сдвигает его курсором только вперёд; между узлами
+// интерполирует, за границами экстраполирует по крайним интервалам - так же, как apply.
+final class IntervalWalker {
+    private final PointCursor cursor;
+    private double prevX;
+    private double prevY;
+    private double nextX;
+    private double nextY;
+
+    IntervalWalker(TabulatedFunction function) {
+        cursor = function.cursor();
+        cursor.next();
+        prevX = cursor.getX();
+        prevY = cursor.getY();
+        cursor.next();
+        nextX = cursor.getX();
+        nextY = cursor.getY();
+    }
+
+    // x не должен быть меньше x предыдущего вызова
+    double valueAt(double x) {
+        while (x > nextX && cursor.next()) {
+            prevX = nextX;
+            prevY = nextY;
+            nextX = cursor.getX();
+            nextY = cursor.getY();
+        }
+        if (x == nextX) {
+            return nextY;
+        }
+        if (x == prevX) {
+            return prevY;
+        }
+        // Как и AbstractTabulatedFunction.interpolate: совпадающие крайние X допустимы в таблице,
+        // но экстраполировать по такому интервалу нельзя
+        if (Math.abs(nextX - prevX) < 1e-10) {
+            throw new IllegalArgumentException("Интервал интерполяции не может быть нулевым: leftX = " + prevX + ", rightX = " + nextX);
+        }
+        return prevY + (nextY - prevY) * (x - prevX) / (nextX - prevX);
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.operations;
+
+import org.example.functions.NewtonFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ForkJoinPool;
+
+// Метод Ньютона сразу для многих начальных приближений.
+// Приближения независимы, поэтому массив делится на куски для ForkJoinPool; куски мелкие,
+// и поток, чьи точки сошлись быстро, забирает чужую работу, а не ждёт медленные точки.
+public class NewtonBatchSolver {
+    private static final Logger logger = LoggerFactory.getLogger(NewtonBatchSolver.class);
+
+    // Одна точка стоит нескольких вычислений функции, поэтому порог ниже, чем у поэлементных операций
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 10;
+    // Мельче не делим: накладные расходы задачи должны окупаться
+    private static final int MIN_PARALLEL_CHUNK = 64;
+
+    // В отличие от сервисов операций параллельный режим включён по умолчанию - ради него класс и нужен
+    private final ParallelSettings parallel =
+            new ParallelSettings(NewtonBatchSolver.class, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+
+    // Результаты по каждому начальному приближению; массивы принадлежат результату и не копируются
+    public static final class Result {
+        private final double[] roots;
+        private final int[] iterations;
+        private final boolean[] converged;
+
+        Result(double[] roots, int[] iterations, boolean[] converged) {
+            this.roots = roots;
+            this.iterations = iterations;
+            this.converged = converged;
+        }
+
+        public int size() {
+            return roots.length;
+        }
+
+        // Корень, либо последнее приближение, если метод не сошёлся
+        public double getRoot(int index) {
+            return roots[index];
+        }
+
+        public int getIterations(int index) {
+            return iterations[index];
+        }
+
+        public boolean isConverged(int index) {
+            return converged[index];
+        }
+
+        public double[] getRoots() {
+            return roots;
+        }
+
+        public int[] getIterations() {
+            return iterations;
+        }
+
+        public boolean[] getConverged() {
+            return converged;
+        }
+
+        public int getConvergedCount() {
+            int count = 0;
+            for (boolean flag : converged) {
+                if (flag) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    public ForkJoinPool getParallelPool() {
+        return parallel.getPool();
+    }
+
+    // Задаёт пул для параллельного режима (null - вычисления в вызывающем потоке)
+    public void setParallelPool(ForkJoinPool parallelPool) {
+        parallel.setPool(parallelPool);
+    }
+
+    public int getParallelThreshold() {
+        return parallel.getThreshold();
+    }
+
+    public void setParallelThreshold(int parallelThreshold) {
+        parallel.setThreshold(parallelThreshold);
+    }
+
+    public Result solve(NewtonFunction newton, double[] guesses) {
+        int count = guesses.length;
+        double[] roots = new double[count];
+        int[] iterations = new int[count];
+        boolean[] converged = new boolean[count];
+
+        ForkJoinPool pool = parallel.poolFor(count);
+        logger.debug("Метод Ньютона для {} начальных приближений ({})", count,
+                pool == null ? "последовательно" : "параллельно");
+        ParallelRanges.run(pool, count, MIN_PARALLEL_CHUNK,
+                (from, to) -> newton.solveRange(guesses, from, to, roots, iterations, converged));
+
+        Result result = new Result(roots, iterations, converged);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Сошлось {} из {} приближений", result.getConvergedCount(), count);
+        }
+        return result;
+    }
+}
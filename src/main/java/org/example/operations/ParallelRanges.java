@@ -0,0 +1,58 @@
+package org.example.operations;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Разбиение диапазона индексов на куски для ForkJoinPool
+final class ParallelRanges {
+
+    // Кусков на поток - для балансировки при неравной скорости потоков
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    // Обработка диапазона индексов [from, to)
+    interface RangeAction {
+        void run(int from, int to);
+    }
+
+    // Делит диапазон пополам, пока куски не станут не длиннее chunkSize.
+    // ForkJoinTask формально Serializable, но задачи живут только внутри pool.invoke и не сериализуются
+    private static final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient RangeAction action;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        ChunkTask(RangeAction action, int from, int to, int chunkSize) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                action.run(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkTask(action, from, middle, chunkSize), new ChunkTask(action, middle, to, chunkSize));
+        }
+    }
+
+    private ParallelRanges() {
+        throw new UnsupportedOperationException();
+    }
+
+    // Выполняет action на [0, count) кусками не короче minChunk; при pool == null - одним вызовом в текущем потоке
+    static void run(ForkJoinPool pool, int count, int minChunk, RangeAction action) {
+        if (pool == null) {
+            action.run(0, count);
+            return;
+        }
+        int chunkSize = Math.max(minChunk, count / (pool.getParallelism() * CHUNKS_PER_THREAD));
+        pool.invoke(new ChunkTask(action, 0, count, chunkSize));
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.operations;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Serializable;
+import java.util.concurrent.ForkJoinPool;
+
+// Настройка параллельного режима, общая для сервисов и операторов пакета: пул ForkJoinPool
+// (null - вычисления в вызывающем потоке) и порог размера задачи, с которого пул используется.
+// Пул не сериализуется: после десериализации владельца вычисления идут последовательно.
+final class ParallelSettings implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final Logger logger = LoggerFactory.getLogger(ParallelSettings.class);
+
+    private final String owner;
+    private transient ForkJoinPool pool;
+    private int threshold;
+
+    ParallelSettings(Class<?> owner, ForkJoinPool pool, int threshold) {
+        this.owner = owner.getSimpleName();
+        this.pool = pool;
+        this.threshold = checkThreshold(threshold);
+    }
+
+    private static int checkThreshold(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Порог параллельного режима должен быть положительным: " + threshold);
+        }
+        return threshold;
+    }
+
+    ForkJoinPool getPool() {
+        return pool;
+    }
+
+    void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+        logger.info("{}: параллельный режим {}", owner, pool == null ? "выключен" : "включён, параллелизм " + pool.getParallelism());
+    }
+
+    int getThreshold() {
+        return threshold;
+    }
+
+    void setThreshold(int threshold) {
+        this.threshold = checkThreshold(threshold);
+        logger.debug("{}: порог параллельного режима {}", owner, threshold);
+    }
+
+    // Пул для задачи размера size: null, если режим выключен или задача меньше порога
+    ForkJoinPool poolFor(int size) {
+        ForkJoinPool current = pool;
+        return current != null && size >= threshold ? current : null;
+    }
+}
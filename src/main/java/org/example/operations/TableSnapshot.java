@@ -0,0 +1,36 @@
+package org.example.operations;
+
+import org.example.functions.ArrayTabulatedFunction;
+import org.example.functions.PointCursor;
+import org.example.functions.TabulatedFunction;
+
+// Узлы табличной функции в массивах x[] и y[] для вычислений, которым нужен произвольный доступ.
+// У ArrayTabulatedFunction берутся её собственные массивы без копирования - их можно только читать;
+// у остальных реализаций узлы копируются одним проходом курсора.
+final class TableSnapshot {
+    final int count;
+    final double[] xValues;
+    final double[] yValues;
+
+    private TableSnapshot(int count, double[] xValues, double[] yValues) {
+        this.count = count;
+        this.xValues = xValues;
+        this.yValues = yValues;
+    }
+
+    static TableSnapshot of(TabulatedFunction function) {
+        if (function instanceof ArrayTabulatedFunction) {
+            ArrayTabulatedFunction array = (ArrayTabulatedFunction) function;
+            return new TableSnapshot(array.getCount(), array.xValuesView(), array.yValuesView());
+        }
+        int count = function.getCount();
+        double[] xValues = new double[count];
+        double[] yValues = new double[count];
+        PointCursor cursor = function.cursor();
+        while (cursor.next()) {
+            xValues[cursor.getIndex()] = cursor.getX();
+            yValues[cursor.getIndex()] = cursor.getY();
+        }
+        return new TableSnapshot(count, xValues, yValues);
+    }
+}
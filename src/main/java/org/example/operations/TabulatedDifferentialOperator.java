@@ -1,6 +1,7 @@
 package org.example.operations;
 
-import org.example.functions.Point;
+import org.example.functions.ArrayTabulatedFunction;
+import org.example.functions.DoubleBinaryConsumer;
 import org.example.functions.TabulatedFunction;
 import org.example.functions.factory.ArrayTabulatedFunctionFactory;
 import org.example.functions.factory.TabulatedFunctionFactory;
@@ -10,9 +11,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
 public class TabulatedDifferentialOperator implements DifferentialOperator<TabulatedFunction>, Serializable {
     private TabulatedFunctionFactory factory;
+    private final ParallelSettings parallel = new ParallelSettings(TabulatedDifferentialOperator.class,
+            null, TabulatedFunctionOperationService.DEFAULT_PARALLEL_THRESHOLD);
+    // Меньше этого куски не делятся
+    private static final int MIN_PARALLEL_CHUNK = 1 << 13;
     private static final Logger logger = LoggerFactory.getLogger(TabulatedDifferentialOperator.class);
 
     public TabulatedDifferentialOperator() {
@@ -42,51 +49,196 @@ public class TabulatedDifferentialOperator implements DifferentialOperator<Tabul
         logger.info("Фабрика изменена на: {}", newFactory);
     }
 
-    @Override
-    public TabulatedFunction derive(TabulatedFunction function) {
-        logger.info("Начало вычисления производной табличной функции. Точек: {}", function.getCount());
-        Point[] points = org.example.operations.TabulatedFunctionOperationService.asPoints(function);
-        int n = points.length;
-        double[] xValues = new double[n];
-        double[] yValues = new double[n];
-
-        for (int i = 0; i < n; i++) {
-            xValues[i] = points[i].x;
-        }
+    public ForkJoinPool getParallelPool() {
+        return parallel.getPool();
+    }
 
-        if (n == 1) {
-            logger.warn("Функция содержит только одну точку. Производная будет нулевой");
-            yValues[0] = 0.0;
-            TabulatedFunction result = factory.create(xValues, yValues);
-            logger.debug("Создана производная для функции с одной точкой");
-            return result;
-        }
+    // Включает параллельный режим для функций на массивах (null - выключает)
+    public void setParallelPool(ForkJoinPool parallelPool) {
+        parallel.setPool(parallelPool);
+    }
 
-        logger.debug("Вычисление производной для {} точек", n);
+    public int getParallelThreshold() {
+        return parallel.getThreshold();
+    }
 
-        // численное дифференцирование: центральные разности внутри, односторонние на краях
-        // y'0 = (y1 - y0) / (x1 - x0)
-        yValues[0] = (points[1].y - points[0].y) / (points[1].x - points[0].x);
-        logger.trace("Производная в точке 0: x={}, y'={}", points[0].x, yValues[0]);
+    public void setParallelThreshold(int parallelThreshold) {
+        parallel.setThreshold(parallelThreshold);
+    }
 
+    // Скользящее окно из трёх точек поверх forEachPoint: производная в точке записывается,
+    // как только пришла следующая за ней точка. Центральные разности внутри, односторонние на краях.
+    private static final class DerivativeWindow implements DoubleBinaryConsumer {
+        private final double[] derivatives;
+        private int seen;
+        private double x0;
+        private double y0;
+        private double x1;
+        private double y1;
 
-        for (int i = 1; i < n - 1; i++) {
-            double dx = points[i + 1].x - points[i - 1].x;
-            double dy = points[i + 1].y - points[i - 1].y;
-            yValues[i] = dy / dx;
-            logger.trace("Производная в точке {}: x={}, y'={}", i, points[i].x, yValues[i]);
+        DerivativeWindow(double[] derivatives) {
+            this.derivatives = derivatives;
+        }
+
+        @Override
+        public void accept(double x, double y) {
+            if (seen == 1) {
+                // y'0 = (y1 - y0) / (x1 - x0)
+                derivatives[0] = (y - y1) / (x - x1);
+            } else if (seen > 1) {
+                derivatives[seen - 1] = (y - y0) / (x - x0);
+            }
+            x0 = x1;
+            y0 = y1;
+            x1 = x;
+            y1 = y;
+            seen++;
         }
 
         // y'_{n-1} = (y_{n-1} - y_{n-2}) / (x_{n-1} - x_{n-2})
-        yValues[n - 1] = (points[n - 1].y - points[n - 2].y) / (points[n - 1].x - points[n - 2].x);
-        logger.trace("Производная в точке {}: x={}, y'={}", n-1, points[n-1].x, yValues[n-1]);
+        void finish() {
+            if (seen == 1) {
+                logger.warn("Функция содержит только одну точку. Производная будет нулевой");
+                derivatives[0] = 0.0;
+            } else if (seen > 1) {
+                derivatives[seen - 1] = (y1 - y0) / (x1 - x0);
+            }
+        }
+    }
+
+    @Override
+    public TabulatedFunction derive(TabulatedFunction function) {
+        int n = function.getCount();
+        logger.info("Начало вычисления производной табличной функции. Точек: {}", n);
+        double[] derivatives = new double[n];
+
+        if (function instanceof ArrayTabulatedFunction && n > 1) {
+            // Прямой доступ к массивам; каждый кусок сам читает соседние точки (x[from - 1], x[to]) на своих границах
+            double[] xValues = ((ArrayTabulatedFunction) function).xValuesView();
+            double[] yValues = ((ArrayTabulatedFunction) function).yValuesView();
+            ParallelRanges.RangeAction action = (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    int left = i == 0 ? 0 : i - 1;
+                    int right = i == n - 1 ? n - 1 : i + 1;
+                    derivatives[i] = (yValues[right] - yValues[left]) / (xValues[right] - xValues[left]);
+                }
+            };
+            ForkJoinPool pool = parallel.poolFor(n);
+            if (pool != null) {
+                logger.debug("Параллельное вычисление производной: {} точек", n);
+            }
+            ParallelRanges.run(pool, n, MIN_PARALLEL_CHUNK, action);
+        } else {
+            // Один проход по точкам без копирования функции
+            DerivativeWindow window = new DerivativeWindow(derivatives);
+            function.forEachPoint(window);
+            window.finish();
+        }
 
-        TabulatedFunction result = factory.create(xValues, yValues);
+        TabulatedFunction result = factory.createOnGrid(function, derivatives);
         logger.info("Производная успешно вычислена. Создана функция с {} точками", result.getCount());
 
         return result;
     }
 
+    // Производная порядка order (1 и выше) по формулам Форнберга - см. deriveAll.
+    // В отличие от derive(function), узлы шаблона берутся с весами, точными и для неравномерной сетки.
+    // Заполняется и передаётся фабрике только массив запрошенного порядка.
+    public TabulatedFunction derive(TabulatedFunction function, int order) {
+        double[][] derivatives = fornbergSweep(function, order, order);
+        TabulatedFunction result = factory.createOnGrid(function, derivatives[0]);
+        logger.info("Производная порядка {} вычислена", order);
+        return result;
+    }
+
+    // Производные порядков 1..maxOrder за один проход: result[k - 1] - производная порядка k.
+    // В каждой точке берётся шаблон из maxOrder + 2 соседних узлов (у краёв он сдвигается внутрь таблицы),
+    // веса конечных разностей для всех порядков сразу считаются алгоритмом Форнберга по фактическим X.
+    public TabulatedFunction[] deriveAll(TabulatedFunction function, int maxOrder) {
+        double[][] derivatives = fornbergSweep(function, maxOrder, 1);
+        TabulatedFunction[] result = new TabulatedFunction[maxOrder];
+        for (int k = 0; k < maxOrder; k++) {
+            result[k] = factory.createOnGrid(function, derivatives[k]);
+        }
+        logger.info("Производные порядков 1..{} вычислены", maxOrder);
+        return result;
+    }
+
+    // Проход по точкам с шаблоном для порядков до maxOrder; сохраняются только порядки fromOrder..maxOrder:
+    // result[k - fromOrder] - производная порядка k. Веса младших порядков алгоритм Форнберга считает
+    // всё равно, а выходные массивы выделяются лишь под нужные.
+    private double[][] fornbergSweep(TabulatedFunction function, int maxOrder, int fromOrder) {
+        int n = function.getCount();
+        if (maxOrder < 1) {
+            throw new IllegalArgumentException("Порядок производной должен быть положительным: " + maxOrder);
+        }
+        if (n < maxOrder + 1) {
+            throw new IllegalArgumentException(String.format(
+                    "Для производной порядка %d нужно не менее %d точек, в функции %d", maxOrder, maxOrder + 1, n));
+        }
+        logger.info("Вычисление производных порядков {}..{} для {} точек", fromOrder, maxOrder, n);
+
+        TableSnapshot table = TableSnapshot.of(function);
+        double[] xValues = table.xValues;
+        double[] yValues = table.yValues;
+
+        int width = Math.min(n, maxOrder + 2);
+        double[][] derivatives = new double[maxOrder - fromOrder + 1][n];
+        ParallelRanges.RangeAction action = (from, to) -> {
+            // Веса переиспользуются всеми точками куска
+            double[][] weights = new double[maxOrder + 1][width];
+            for (int i = from; i < to; i++) {
+                int first = Math.max(0, Math.min(i - width / 2, n - width));
+                fornbergWeights(xValues[i], xValues, first, width, maxOrder, weights);
+                for (int k = fromOrder; k <= maxOrder; k++) {
+                    double sum = 0;
+                    for (int j = 0; j < width; j++) {
+                        sum += weights[k][j] * yValues[first + j];
+                    }
+                    derivatives[k - fromOrder][i] = sum;
+                }
+            }
+        };
+        ForkJoinPool pool = parallel.poolFor(n);
+        if (pool != null) {
+            logger.debug("Параллельное вычисление производных: {} точек", n);
+        }
+        ParallelRanges.run(pool, n, MIN_PARALLEL_CHUNK, action);
+        return derivatives;
+    }
+
+    // Алгоритм Форнберга: weights[k][j] - вес узла x[first + j] в формуле производной порядка k в точке z,
+    // для k = 0..maxOrder и width узлов. Узлы могут быть расположены неравномерно.
+    private static void fornbergWeights(double z, double[] x, int first, int width, int maxOrder, double[][] weights) {
+        for (double[] row : weights) {
+            Arrays.fill(row, 0.0);
+        }
+        double c1 = 1.0;
+        double c4 = x[first] - z;
+        weights[0][0] = 1.0;
+        for (int i = 1; i < width; i++) {
+            int mn = Math.min(i, maxOrder);
+            double c2 = 1.0;
+            double c5 = c4;
+            c4 = x[first + i] - z;
+            for (int j = 0; j < i; j++) {
+                double c3 = x[first + i] - x[first + j];
+                c2 *= c3;
+                if (j == i - 1) {
+                    for (int k = mn; k >= 1; k--) {
+                        weights[k][i] = c1 * (k * weights[k - 1][i - 1] - c5 * weights[k][i - 1]) / c2;
+                    }
+                    weights[0][i] = -c1 * c5 * weights[0][i - 1] / c2;
+                }
+                for (int k = mn; k >= 1; k--) {
+                    weights[k][j] = (c4 * weights[k][j] - k * weights[k - 1][j]) / c3;
+                }
+                weights[0][j] = c4 * weights[0][j] / c3;
+            }
+            c1 = c2;
+        }
+    }
+
     public TabulatedFunction deriveSynchronously(TabulatedFunction function) {
         logger.info("Начало синхронного вычисления производной");
 
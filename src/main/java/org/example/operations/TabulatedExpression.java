@@ -0,0 +1,354 @@
+package org.example.operations;
+
+import org.example.functions.PointCursor;
+import org.example.functions.TabulatedFunction;
+import org.example.functions.factory.TabulatedFunctionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+// Ленивое выражение над табличными функциями:
+//     service.expr(a).mult(b).add(c).materialize()
+// Операции только строят дерево; materialize вычисляет его одним проходом по точкам,
+// без промежуточных таблиц. Проверки X и исключения - те же, что у поэлементных операций сервиса,
+// и так же учитывается его режим GridAlignment: при несовпадающих сетках результат строится на
+// объединении X всех функций выражения (UNION), на сетке самой левой (FIRST) или самой правой (SECOND),
+// а каждая функция интерполируется в узлы этой сетки.
+public class TabulatedExpression {
+    private static final Logger logger = LoggerFactory.getLogger(TabulatedExpression.class);
+
+    private enum Operator {
+        ADD, SUB, MULT, DIV
+    }
+
+    // Коды операций в постфиксной программе; неотрицательный код - номер функции-листа
+    private static final int CODE_ADD = -1;
+    private static final int CODE_SUB = -2;
+    private static final int CODE_MULT = -3;
+    private static final int CODE_DIV = -4;
+
+    private final TabulatedFunctionOperationService service;
+    private final TabulatedFunction function; // у листа; null у узла операции
+    private final Operator operator;
+    private final TabulatedExpression left;
+    private final TabulatedExpression right;
+
+    TabulatedExpression(TabulatedFunctionOperationService service, TabulatedFunction function) {
+        this.service = service;
+        this.function = function;
+        this.operator = null;
+        this.left = null;
+        this.right = null;
+    }
+
+    private TabulatedExpression(TabulatedFunctionOperationService service, Operator operator,
+                                TabulatedExpression left, TabulatedExpression right) {
+        this.service = service;
+        this.function = null;
+        this.operator = operator;
+        this.left = left;
+        this.right = right;
+    }
+
+    public TabulatedExpression add(TabulatedFunction other) {
+        return add(service.expr(other));
+    }
+
+    public TabulatedExpression add(TabulatedExpression other) {
+        return combine(Operator.ADD, other);
+    }
+
+    public TabulatedExpression sub(TabulatedFunction other) {
+        return sub(service.expr(other));
+    }
+
+    public TabulatedExpression sub(TabulatedExpression other) {
+        return combine(Operator.SUB, other);
+    }
+
+    public TabulatedExpression mult(TabulatedFunction other) {
+        return mult(service.expr(other));
+    }
+
+    public TabulatedExpression mult(TabulatedExpression other) {
+        return combine(Operator.MULT, other);
+    }
+
+    public TabulatedExpression div(TabulatedFunction other) {
+        return div(service.expr(other));
+    }
+
+    public TabulatedExpression div(TabulatedExpression other) {
+        return combine(Operator.DIV, other);
+    }
+
+    private TabulatedExpression combine(Operator operator, TabulatedExpression other) {
+        Objects.requireNonNull(other, "выражение не должно быть равно null");
+        return new TabulatedExpression(service, operator, this, other);
+    }
+
+    // Вычисление с фабрикой сервиса
+    public TabulatedFunction materialize() {
+        return materialize(service.getFactory());
+    }
+
+    public TabulatedFunction materialize(TabulatedFunctionFactory factory) {
+        // Одна и та же функция в нескольких местах выражения читается один раз
+        List<TabulatedFunction> leaves = new ArrayList<>();
+        int[] program = new int[size()];
+        compile(program, 0, leaves);
+        double[] stack = new double[depth()];
+        logger.debug("Вычисление выражения: {} функций, {} шагов программы", leaves.size(), program.length);
+
+        GridAlignment alignment = service.getGridAlignment();
+        TabulatedFunction result;
+        if (alignment != GridAlignment.STRICT && !onCommonGrid(leaves)) {
+            result = materializeMerged(program, leaves, stack, alignment, factory);
+        } else {
+            result = materializeAligned(program, leaves, stack, factory);
+        }
+        logger.info("Выражение вычислено. Создана функция с {} точками", result.getCount());
+        return result;
+    }
+
+    // true, если все листья заведомо на одной сетке (как isSameGrid у сервиса)
+    private static boolean onCommonGrid(List<TabulatedFunction> leaves) {
+        TabulatedFunction first = leaves.get(0);
+        for (int k = 1; k < leaves.size(); k++) {
+            TabulatedFunction leaf = leaves.get(k);
+            if (leaf.getCount() != first.getCount() || !TabulatedFunctionOperationService.isSameGrid(first, leaf)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Все листья обязаны иметь одинаковые X: курсоры идут параллельно, X сверяются в каждой точке
+    private static TabulatedFunction materializeAligned(int[] program, List<TabulatedFunction> leaves, double[] stack,
+                                                        TabulatedFunctionFactory factory) {
+        TabulatedFunction grid = leaves.get(0);
+        int count = grid.getCount();
+        for (TabulatedFunction leaf : leaves) {
+            if (leaf.getCount() != count) {
+                throw TabulatedFunctionOperationService.differentCount(count, leaf.getCount());
+            }
+        }
+
+        PointCursor[] cursors = new PointCursor[leaves.size()];
+        for (int k = 0; k < cursors.length; k++) {
+            cursors[k] = leaves.get(k).cursor();
+        }
+        double[] values = new double[leaves.size()];
+        double[] yValues = new double[count];
+
+        for (int i = 0; i < count; i++) {
+            cursors[0].next();
+            double x = cursors[0].getX();
+            values[0] = cursors[0].getY();
+            for (int k = 1; k < cursors.length; k++) {
+                cursors[k].next();
+                if (cursors[k].getX() != x) {
+                    throw TabulatedFunctionOperationService.differentX(x, cursors[k].getX(), i);
+                }
+                values[k] = cursors[k].getY();
+            }
+            yValues[i] = evaluate(program, values, stack);
+        }
+        return factory.createOnGrid(grid, yValues);
+    }
+
+    // Листья на разных сетках: X целевой сетки перебираются слиянием отсортированных X её листьев,
+    // значение каждого листа берётся интерполяцией по его текущему интервалу - как в doMergeOperation
+    // сервиса, но за один проход для всего выражения
+    private static TabulatedFunction materializeMerged(int[] program, List<TabulatedFunction> leaves, double[] stack,
+                                                       GridAlignment alignment, TabulatedFunctionFactory factory) {
+        logger.debug("Выражение на несовпадающих сетках, режим {}", alignment);
+        List<TabulatedFunction> grids;
+        switch (alignment) {
+            case FIRST:
+                grids = leaves.subList(0, 1); // листья пронумерованы слева направо
+                break;
+            case SECOND:
+                int last = rightmostLeaf(program);
+                grids = leaves.subList(last, last + 1);
+                break;
+            default:
+                grids = leaves;
+                break;
+        }
+
+        int capacity = 0;
+        PointCursor[] gridCursors = new PointCursor[grids.size()];
+        boolean[] hasNext = new boolean[grids.size()];
+        for (int g = 0; g < gridCursors.length; g++) {
+            capacity += grids.get(g).getCount();
+            gridCursors[g] = grids.get(g).cursor();
+            hasNext[g] = gridCursors[g].next();
+        }
+        IntervalWalker[] walkers = new IntervalWalker[leaves.size()];
+        for (int k = 0; k < walkers.length; k++) {
+            walkers[k] = new IntervalWalker(leaves.get(k));
+        }
+        double[] values = new double[leaves.size()];
+        double[] xValues = new double[capacity];
+        double[] yValues = new double[capacity];
+
+        int count = 0;
+        while (true) {
+            boolean found = false;
+            double x = 0;
+            for (int g = 0; g < gridCursors.length; g++) {
+                if (hasNext[g] && (!found || gridCursors[g].getX() < x)) {
+                    x = gridCursors[g].getX();
+                    found = true;
+                }
+            }
+            if (!found) {
+                break;
+            }
+            // Общий узел нескольких сеток попадает в результат один раз
+            for (int g = 0; g < gridCursors.length; g++) {
+                if (hasNext[g] && gridCursors[g].getX() == x) {
+                    hasNext[g] = gridCursors[g].next();
+                }
+            }
+            for (int k = 0; k < walkers.length; k++) {
+                values[k] = walkers[k].valueAt(x);
+            }
+            xValues[count] = x;
+            yValues[count] = evaluate(program, values, stack);
+            count++;
+        }
+
+        if (count < capacity) {
+            xValues = Arrays.copyOf(xValues, count);
+            yValues = Arrays.copyOf(yValues, count);
+        }
+        return factory.create(xValues, yValues);
+    }
+
+    // Номер самого правого листа - последний номер функции в постфиксной программе
+    private static int rightmostLeaf(int[] program) {
+        for (int position = program.length - 1; ; position--) {
+            if (program[position] >= 0) {
+                return program[position];
+            }
+        }
+    }
+
+    // Значение постфиксной программы при значениях листов values
+    private static double evaluate(int[] program, double[] values, double[] stack) {
+        int top = 0;
+        for (int code : program) {
+            if (code >= 0) {
+                stack[top++] = values[code];
+                continue;
+            }
+            double v = stack[--top];
+            double u = stack[top - 1];
+            double result;
+            switch (code) {
+                case CODE_ADD:
+                    result = u + v;
+                    break;
+                case CODE_SUB:
+                    result = u - v;
+                    break;
+                case CODE_MULT:
+                    result = u * v;
+                    break;
+                default:
+                    if (v == 0.0) {
+                        logger.warn("Попытка деления на ноль: {} / {}", u, v);
+                    }
+                    result = u / v;
+                    break;
+            }
+            stack[top - 1] = result;
+        }
+        return stack[0];
+    }
+
+    // Число узлов дерева - длина постфиксной программы
+    private int size() {
+        if (function != null) {
+            return 1;
+        }
+        return 1 + left.size() + right.size();
+    }
+
+    // Глубина стека для вычисления: правое поддерево считается, пока значение левого лежит на стеке
+    private int depth() {
+        if (function != null) {
+            return 1;
+        }
+        return Math.max(left.depth(), right.depth() + 1);
+    }
+
+    // Записывает постфиксную программу начиная с position, возвращает позицию после неё
+    private int compile(int[] program, int position, List<TabulatedFunction> leaves) {
+        if (function != null) {
+            int index = indexOfLeaf(leaves, function);
+            if (index == -1) {
+                index = leaves.size();
+                leaves.add(function);
+            }
+            program[position] = index;
+            return position + 1;
+        }
+        position = left.compile(program, position, leaves);
+        position = right.compile(program, position, leaves);
+        program[position] = code(operator);
+        return position + 1;
+    }
+
+    // Поиск по ссылке: равные по содержимому, но разные объекты считаются разными листами
+    private static int indexOfLeaf(List<TabulatedFunction> leaves, TabulatedFunction function) {
+        for (int i = 0; i < leaves.size(); i++) {
+            if (leaves.get(i) == function) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int code(Operator operator) {
+        switch (operator) {
+            case ADD:
+                return CODE_ADD;
+            case SUB:
+                return CODE_SUB;
+            case MULT:
+                return CODE_MULT;
+            default:
+                return CODE_DIV;
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (function != null) {
+            return function.getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(function));
+        }
+        String symbol;
+        switch (operator) {
+            case ADD:
+                symbol = " + ";
+                break;
+            case SUB:
+                symbol = " - ";
+                break;
+            case MULT:
+                symbol = " * ";
+                break;
+            default:
+                symbol = " / ";
+                break;
+        }
+        return "(" + left + symbol + right + ")";
+    }
+}
@@ -3,12 +3,29 @@ package org.example.operations;
 import org.example.functions.*;
 import org.example.functions.factory.*;
 import org.example.exceptions.*;
+import org.example.concurrent.SynchronizedTabulatedFunction;
+import org.example.kernels.DoubleKernels;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleUnaryOperator;
+
 public class TabulatedFunctionOperationService {
     private TabulatedFunctionFactory factory;
+    // Параллельный режим; по умолчанию выключен - операции выполняются в вызывающем потоке
+    private final ParallelSettings parallel =
+            new ParallelSettings(TabulatedFunctionOperationService.class, null, DEFAULT_PARALLEL_THRESHOLD);
+    // Сопоставление сеток операндов
+    private GridAlignment gridAlignment = GridAlignment.STRICT;
+
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+    // Меньше этого куски не делятся: накладные расходы задачи больше выигрыша
+    private static final int MIN_PARALLEL_CHUNK = 1 << 13;
     private static final Logger logger = LoggerFactory.getLogger(TabulatedFunctionOperationService.class);
 
     public  TabulatedFunctionOperationService(TabulatedFunctionFactory factory) {
@@ -38,6 +55,37 @@ public class TabulatedFunctionOperationService {
         logger.info("Фабрика изменена на: {}", newFactory);
     }
 
+    public ForkJoinPool getParallelPool() {
+        return parallel.getPool();
+    }
+
+    // Включает параллельный режим на заданном пуле (null - выключает)
+    public void setParallelPool(ForkJoinPool parallelPool) {
+        parallel.setPool(parallelPool);
+    }
+
+    public int getParallelThreshold() {
+        return parallel.getThreshold();
+    }
+
+    public void setParallelThreshold(int parallelThreshold) {
+        parallel.setThreshold(parallelThreshold);
+    }
+
+    public GridAlignment getGridAlignment() {
+        return gridAlignment;
+    }
+
+    public void setGridAlignment(GridAlignment gridAlignment) {
+        this.gridAlignment = Objects.requireNonNull(gridAlignment, "режим сопоставления сеток не должен быть равен null");
+        logger.info("Режим сопоставления сеток: {}", gridAlignment);
+    }
+
+    // Ленивое выражение над табличными функциями, например expr(a).mult(b).add(c).materialize()
+    public TabulatedExpression expr(TabulatedFunction function) {
+        return new TabulatedExpression(this, Objects.requireNonNull(function, "функция не должна быть равна null"));
+    }
+
     public static Point[] asPoints(TabulatedFunction tabulatedFunction){
         logger.debug("Начало преобразования функции в массив точек");
 
@@ -46,13 +94,10 @@ public class TabulatedFunctionOperationService {
 
         Point[] points = new Point[count];
 
-        count = 0;
-
-        for (Point point : tabulatedFunction){
-            Point newPoint = new Point(point.x, point.y);
-            points[count] = newPoint;
-            logger.trace("Точка {}: x={}, y={}", count, point.x, point.y);
-            count += 1;
+        // Курсор не создаёт промежуточных Point - на каждую точку приходится ровно один объект
+        PointCursor cursor = tabulatedFunction.cursor();
+        while (cursor.next()) {
+            points[cursor.getIndex()] = new Point(cursor.getX(), cursor.getY());
         }
 
         logger.debug("Функция успешно преобразована в {} точек", count);
@@ -62,6 +107,24 @@ public class TabulatedFunctionOperationService {
 
     private interface BiOperation {
         double apply(double u, double v);
+
+        // Пакетный вариант на диапазоне [from, to): out[i] = apply(u[i], v[i])
+        default void applyAll(double[] u, double[] v, double[] out, int from, int to) {
+            for (int i = from; i < to; i++) {
+                out[i] = apply(u[i], v[i]);
+            }
+        }
+    }
+
+    // Выполняет action на [0, count): параллельно кусками, если задан пул и таблица не меньше порога
+    private void forEachChunk(int count, ParallelRanges.RangeAction action) {
+        ForkJoinPool pool = parallel.poolFor(count);
+        if (pool == null) {
+            action.run(0, count);
+            return;
+        }
+        logger.debug("Параллельное выполнение: {} точек, параллелизм {}", count, pool.getParallelism());
+        ParallelRanges.run(pool, count, MIN_PARALLEL_CHUNK, action);
     }
 
     private TabulatedFunction doOperation(TabulatedFunction a, TabulatedFunction b, BiOperation operation) {
@@ -69,94 +132,421 @@ public class TabulatedFunctionOperationService {
         logger.debug("Функция A: {} точек, функция B: {} точек",
                 a.getCount(), b.getCount());
 
-        if (a.getCount() != b.getCount()) {
-            String errorMsg = String.format("Длина a=%d и длина b=%d различна", a.getCount(), b.getCount());
-            logger.error(errorMsg);
-            throw new InconsistentFunctionsException(errorMsg);
+        if (gridAlignment != GridAlignment.STRICT
+                && !(a.getCount() == b.getCount() && isSameGrid(a, b))) {
+            TabulatedFunction result = doMergeOperation(a, b, operation);
+            logger.info("Операция завершена успешно. Создана функция с {} точками",
+                    result.getCount());
+            return result;
         }
 
-        Point[] PointA = asPoints(a);
-        Point[] PointB = asPoints(b);
-
-        double xValues[] = new double[a.getCount()];
-        double yValues[] = new double[a.getCount()];
+        if (a.getCount() != b.getCount()) {
+            throw differentCount(a.getCount(), b.getCount());
+        }
 
-        for (int i = 0; i < a.getCount(); i++) {
-            if (PointA[i].x != PointB[i].x) {
-                String errorMsg = String.format("Значение Xa=%.6f и Xb=%.6f различны в точке %d",
-                        PointA[i].x, PointB[i].x, i);
-                logger.error(errorMsg);
-                throw new InconsistentFunctionsException(errorMsg);
-            }
-            xValues[i] = PointA[i].x;
-            double result = operation.apply(PointA[i].y, PointB[i].y);
-            yValues[i] = result;
-            logger.trace("Точка {}: x={}, y1={}, y2={}, результат={}",
-                    i, xValues[i], PointA[i].y, PointB[i].y, result);
+        double[] yValuesA = directYValues(a);
+        double[] yValuesB = directYValues(b);
+        TabulatedFunction result;
+        if (yValuesA != null && yValuesB != null) {
+            result = doDirectOperation(a, b, yValuesA, yValuesB, operation);
+        } else {
+            result = doCursorOperation(a, b, operation);
         }
 
-        TabulatedFunction result = factory.create(xValues, yValues);
         logger.info("Операция завершена успешно. Создана функция с {} точками",
                 result.getCount());
         return result;
     }
 
+    // Y читаются прямо из хранилищ операндов, результат получает сетку a без копирования X.
+    // Каждый кусок сначала сверяет свои X; при расхождении запоминается наименьший индекс,
+    // так что исключение не зависит от порядка выполнения кусков.
+    private TabulatedFunction doDirectOperation(TabulatedFunction a, TabulatedFunction b,
+                                                double[] yValuesA, double[] yValuesB, BiOperation operation) {
+        int count = a.getCount();
+        double[] yValues = new double[count];
+        boolean sameGrid = isSameGrid(a, b);
+        AtomicInteger firstMismatch = new AtomicInteger(count);
+
+        forEachChunk(count, (from, to) -> {
+            if (!sameGrid) {
+                int mismatch = firstDifferentX(a, b, from, to);
+                if (mismatch < to) {
+                    firstMismatch.accumulateAndGet(mismatch, Math::min);
+                    return;
+                }
+            }
+            if (firstMismatch.get() < from) {
+                return; // результат всё равно не понадобится
+            }
+            operation.applyAll(yValuesA, yValuesB, yValues, from, to);
+        });
+
+        int mismatch = firstMismatch.get();
+        if (mismatch < count) {
+            throw differentX(a.getX(mismatch), b.getX(mismatch), mismatch);
+        }
+        return factory.createOnGrid(a, yValues);
+    }
+
+    // Общий случай: точки собираются курсорами в массивы (последовательно), арифметика - кусками
+    private TabulatedFunction doCursorOperation(TabulatedFunction a, TabulatedFunction b, BiOperation operation) {
+        int count = a.getCount();
+        double[] xValues = new double[count];
+        double[] yValuesA = new double[count];
+        double[] yValuesB = new double[count];
+        double[] yValues = new double[count];
+
+        PointCursor cursorA = a.cursor();
+        PointCursor cursorB = b.cursor();
+        for (int i = 0; i < count; i++) {
+            cursorA.next();
+            cursorB.next();
+            if (cursorA.getX() != cursorB.getX()) {
+                throw differentX(cursorA.getX(), cursorB.getX(), i);
+            }
+            xValues[i] = cursorA.getX();
+            yValuesA[i] = cursorA.getY();
+            yValuesB[i] = cursorB.getY();
+        }
+
+        // Сама арифметика - пакетными вызовами (векторными, если доступно)
+        forEachChunk(count, (from, to) -> operation.applyAll(yValuesA, yValuesB, yValues, from, to));
+        return factory.create(xValues, yValues);
+    }
+
+    // Операнды на разных сетках: целевая сетка (объединение или сетка одного из операндов)
+    // обходится слиянием отсортированных X, значения операндов берутся интерполяцией по текущему
+    // интервалу каждого из них. Всё за один линейный проход, без промежуточных функций.
+    private TabulatedFunction doMergeOperation(TabulatedFunction a, TabulatedFunction b, BiOperation operation) {
+        logger.debug("Операция на несовпадающих сетках, режим {}", gridAlignment);
+        int capacity;
+        switch (gridAlignment) {
+            case FIRST:
+                capacity = a.getCount();
+                break;
+            case SECOND:
+                capacity = b.getCount();
+                break;
+            default:
+                capacity = a.getCount() + b.getCount();
+                break;
+        }
+        double[] xValues = new double[capacity];
+        double[] yValues = new double[capacity];
+        double[] yValuesB = new double[capacity];
+
+        IntervalWalker walkerA = new IntervalWalker(a);
+        IntervalWalker walkerB = new IntervalWalker(b);
+        PointCursor gridA = gridAlignment == GridAlignment.SECOND ? null : a.cursor();
+        PointCursor gridB = gridAlignment == GridAlignment.FIRST ? null : b.cursor();
+        boolean hasA = gridA != null && gridA.next();
+        boolean hasB = gridB != null && gridB.next();
+
+        int count = 0;
+        while (hasA || hasB) {
+            double x;
+            if (hasA && (!hasB || gridA.getX() <= gridB.getX())) {
+                x = gridA.getX();
+                if (hasB && gridB.getX() == x) {
+                    hasB = gridB.next(); // общий узел попадает в результат один раз
+                }
+                hasA = gridA.next();
+            } else {
+                x = gridB.getX();
+                hasB = gridB.next();
+            }
+            xValues[count] = x;
+            yValues[count] = walkerA.valueAt(x);
+            yValuesB[count] = walkerB.valueAt(x);
+            count++;
+        }
+
+        operation.applyAll(yValues, yValuesB, yValues, 0, count);
+        if (count < capacity) {
+            xValues = Arrays.copyOf(xValues, count);
+            yValues = Arrays.copyOf(yValues, count);
+        }
+        return factory.create(xValues, yValues);
+    }
+
+    // Изменяет target на месте: y[i] = operation(target.y[i], other.y[i]). Сначала полностью сверяются X,
+    // и только потом пишутся значения, так что при InconsistentFunctionsException target не меняется.
+    private TabulatedFunction doInPlace(TabulatedFunction target, TabulatedFunction other, BiOperation operation) {
+        logger.debug("Операция на месте: {} точек", target.getCount());
+        if (target instanceof SynchronizedTabulatedFunction) {
+            // Проверка и запись под одной блокировкой функции
+            synchronized (target) {
+                applyInPlace(target, other, operation);
+            }
+        } else {
+            applyInPlace(target, other, operation);
+        }
+        return target;
+    }
+
+    private void applyInPlace(TabulatedFunction target, TabulatedFunction other, BiOperation operation) {
+        int count = target.getCount();
+        if (count != other.getCount()) {
+            throw differentCount(count, other.getCount());
+        }
+
+        double[] yValuesTarget = directYValues(target);
+        double[] yValuesOther = directYValues(other);
+        if (yValuesTarget != null && yValuesOther != null) {
+            if (!isSameGrid(target, other)) {
+                AtomicInteger firstMismatch = new AtomicInteger(count);
+                forEachChunk(count, (from, to) -> {
+                    int mismatch = firstDifferentX(target, other, from, to);
+                    if (mismatch < to) {
+                        firstMismatch.accumulateAndGet(mismatch, Math::min);
+                    }
+                });
+                int mismatch = firstMismatch.get();
+                if (mismatch < count) {
+                    throw differentX(target.getX(mismatch), other.getX(mismatch), mismatch);
+                }
+            }
+            forEachChunk(count, (from, to) -> operation.applyAll(yValuesTarget, yValuesOther, yValuesTarget, from, to));
+            directYValuesChanged(target);
+            return;
+        }
+
+        PointCursor cursorTarget = target.cursor();
+        PointCursor cursorOther = other.cursor();
+        for (int i = 0; i < count; i++) {
+            cursorTarget.next();
+            cursorOther.next();
+            if (cursorTarget.getX() != cursorOther.getX()) {
+                throw differentX(cursorTarget.getX(), cursorOther.getX(), i);
+            }
+        }
+        cursorOther.reset();
+        target.replaceAllY((x, y) -> {
+            cursorOther.next();
+            return operation.apply(y, cursorOther.getY());
+        });
+    }
+
+    // target = target + other
+    public TabulatedFunction addInPlace(TabulatedFunction target, TabulatedFunction other) {
+        return doInPlace(target, other, ADD);
+    }
+
+    // target = target - other
+    public TabulatedFunction subInPlace(TabulatedFunction target, TabulatedFunction other) {
+        return doInPlace(target, other, SUB);
+    }
+
+    // target = target * other
+    public TabulatedFunction multInPlace(TabulatedFunction target, TabulatedFunction other) {
+        return doInPlace(target, other, MULT);
+    }
+
+    // target = target / other
+    public TabulatedFunction divInPlace(TabulatedFunction target, TabulatedFunction other) {
+        return doInPlace(target, other, DIV);
+    }
+
+    // target = k * target
+    public TabulatedFunction scaleInPlace(TabulatedFunction target, double k) {
+        logger.debug("Умножение функции на {} на месте", k);
+        double[] yValues = directYValues(target);
+        if (yValues != null) {
+            forEachChunk(target.getCount(), (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    yValues[i] *= k;
+                }
+            });
+            directYValuesChanged(target);
+        } else {
+            target.replaceAllY((x, y) -> y * k);
+        }
+        return target;
+    }
+
+    // Заменяет каждое Y функции target на operator(y)
+    public TabulatedFunction transformY(TabulatedFunction target, DoubleUnaryOperator operator) {
+        logger.debug("Преобразование Y функции на месте");
+        double[] yValues = directYValues(target);
+        if (yValues != null) {
+            forEachChunk(target.getCount(), (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    yValues[i] = operator.applyAsDouble(yValues[i]);
+                }
+            });
+            directYValuesChanged(target);
+        } else {
+            target.replaceAllY((x, y) -> operator.applyAsDouble(y));
+        }
+        return target;
+    }
+
+    // Массив Y функции без копирования, если её хранилище это позволяет, иначе null.
+    // Получение массива кэшей функции не сбрасывает: после записи в него нужен directYValuesChanged
+    private static double[] directYValues(TabulatedFunction function) {
+        if (function instanceof ArrayTabulatedFunction) {
+            return ((ArrayTabulatedFunction) function).yValuesView();
+        }
+        if (function instanceof UniformTabulatedFunction) {
+            return ((UniformTabulatedFunction) function).yValuesView();
+        }
+        return null;
+    }
+
+    // Сообщает функции о записи в массив, полученный от directYValues
+    private static void directYValuesChanged(TabulatedFunction function) {
+        if (function instanceof ArrayTabulatedFunction) {
+            ((ArrayTabulatedFunction) function).yValuesChanged();
+        } else if (function instanceof UniformTabulatedFunction) {
+            ((UniformTabulatedFunction) function).yValuesChanged();
+        }
+    }
+
+    // true, если X заведомо совпадают без поэлементного сравнения (общая сетка)
+    static boolean isSameGrid(TabulatedFunction a, TabulatedFunction b) {
+        if (a instanceof ArrayTabulatedFunction && b instanceof ArrayTabulatedFunction
+                && ((ArrayTabulatedFunction) a).hasSameGrid((ArrayTabulatedFunction) b)) {
+            logger.debug("Функции на общей сетке, сравнение X пропущено");
+            return true;
+        }
+        if (a instanceof UniformTabulatedFunction && b instanceof UniformTabulatedFunction
+                && ((UniformTabulatedFunction) a).hasSameGrid((UniformTabulatedFunction) b)) {
+            logger.debug("Функции на одной равномерной сетке, сравнение X пропущено");
+            return true;
+        }
+        return false;
+    }
+
+    // Первый индекс в [from, to), где X функций различны, либо to
+    private static int firstDifferentX(TabulatedFunction a, TabulatedFunction b, int from, int to) {
+        if (a instanceof ArrayTabulatedFunction && b instanceof ArrayTabulatedFunction) {
+            double[] xValuesA = ((ArrayTabulatedFunction) a).xValuesView();
+            double[] xValuesB = ((ArrayTabulatedFunction) b).xValuesView();
+            for (int i = from; i < to; i++) {
+                if (xValuesA[i] != xValuesB[i]) {
+                    return i;
+                }
+            }
+            return to;
+        }
+        for (int i = from; i < to; i++) {
+            if (a.getX(i) != b.getX(i)) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    static InconsistentFunctionsException differentCount(int countA, int countB) {
+        String errorMsg = String.format("Длина a=%d и длина b=%d различна", countA, countB);
+        logger.error(errorMsg);
+        return new InconsistentFunctionsException(errorMsg);
+    }
+
+    static InconsistentFunctionsException differentX(double xA, double xB, int index) {
+        String errorMsg = String.format("Значение Xa=%.6f и Xb=%.6f различны в точке %d", xA, xB, index);
+        logger.error(errorMsg);
+        return new InconsistentFunctionsException(errorMsg);
+    }
+
+    private static final BiOperation ADD = new BiOperation() {
+        @Override
+        public double apply(double u, double v) {
+            double result = u + v;
+            if (logger.isTraceEnabled()) {
+                logger.trace("Сложение: {} + {} = {}", u, v, result);
+            }
+            return result;
+        }
+
+        @Override
+        public void applyAll(double[] u, double[] v, double[] out, int from, int to) {
+            DoubleKernels.get().add(u, v, out, from, to);
+        }
+    };
+
+    private static final BiOperation SUB = new BiOperation() {
+        @Override
+        public double apply(double u, double v) {
+            double result = u - v;
+            if (logger.isTraceEnabled()) {
+                logger.trace("Вычитание: {} - {} = {}", u, v, result);
+            }
+            return result;
+        }
+
+        @Override
+        public void applyAll(double[] u, double[] v, double[] out, int from, int to) {
+            DoubleKernels.get().sub(u, v, out, from, to);
+        }
+    };
+
+    private static final BiOperation MULT = new BiOperation() {
+        @Override
+        public double apply(double u, double v) {
+            double result = u * v;
+            if (logger.isTraceEnabled()) {
+                logger.trace("Умножение: {} * {} = {}", u, v, result);
+            }
+            return result;
+        }
+
+        @Override
+        public void applyAll(double[] u, double[] v, double[] out, int from, int to) {
+            DoubleKernels.get().mult(u, v, out, from, to);
+        }
+    };
+
+    private static final BiOperation DIV = new BiOperation() {
+        @Override
+        public double apply(double u, double v) {
+            if (v == 0.0) {
+                logger.warn("Попытка деления на ноль: {} / {}", u, v);
+            }
+            double result = u / v;
+            if (logger.isTraceEnabled()) {
+                logger.trace("Деление: {} / {} = {}", u, v, result);
+            }
+            return result;
+        }
+
+        @Override
+        public void applyAll(double[] u, double[] v, double[] out, int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (v[i] == 0.0) {
+                    logger.warn("Попытка деления на ноль: {} / {}", u[i], v[i]);
+                }
+            }
+            DoubleKernels.get().div(u, v, out, from, to);
+        }
+    };
+
     // Метод сложения
     public TabulatedFunction add(TabulatedFunction a, TabulatedFunction b) {
         logger.debug("Вызов операции сложения функций");
 
-        return doOperation(a, b, new BiOperation() {
-            @Override
-            public double apply(double u, double v) {
-                double result = u + v;
-                logger.trace("Сложение: {} + {} = {}", u, v, result);
-                return result;
-            }
-        });
+        return doOperation(a, b, ADD);
     }
 
     // Метод вычитания
     public TabulatedFunction sub(TabulatedFunction a, TabulatedFunction b) {
         logger.debug("Вызов операции вычитания функций");
 
-        return doOperation(a, b, new BiOperation() {
-            @Override
-            public double apply(double u, double v) {
-                double result = u - v;
-                logger.trace("Вычитание: {} - {} = {}", u, v, result);
-                return result;
-            }
-        });
+        return doOperation(a, b, SUB);
     }
 
     // Метод умножения
     public TabulatedFunction mult (TabulatedFunction a, TabulatedFunction b) {
         logger.debug("Вызов операции умножения функций");
 
-        return doOperation(a, b, new BiOperation() {
-            @Override
-            public double apply(double u, double v) {
-                double result = u * v;
-                logger.trace("Умножение: {} * {} = {}", u, v, result);
-                return result;
-            }
-        });
+        return doOperation(a, b, MULT);
     }
 
     // Метод деления
     public TabulatedFunction div(TabulatedFunction a, TabulatedFunction b) {
         logger.debug("Вызов операции деления функций");
 
-        return doOperation(a, b, new BiOperation() {
-            @Override
-            public double apply(double u, double v) {
-                if (v == 0.0) {
-                    logger.warn("Попытка деления на ноль: {} / {}", u, v);
-                }
-                double result = u / v;
-                logger.trace("Деление: {} / {} = {}", u, v, result);
-                return result;
-            }
-        });
+        return doOperation(a, b, DIV);
     }
 }
@@ -0,0 +1,223 @@
+package org.example.operations;
+
+import org.example.functions.TabulatedFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ForkJoinPool;
+
+// Сведение табличных функций к числу: интегралы, нормы, скалярное произведение, расстояние.
+// Интегралы по кусочно-линейной функции считаются по узлам таблицы (формула трапеций или Симпсона);
+// нормы, скалярное произведение и расстояние - точные интегралы от кусочно-линейных функций по каждому интервалу.
+// Слагаемые суммируются блоками фиксированного размера с компенсацией (Ноймайер), а блоки
+// складываются по порядку, поэтому результат не зависит от того, сколько потоков считало блоки.
+public class TabulatedFunctionReductionService {
+    private static final Logger logger = LoggerFactory.getLogger(TabulatedFunctionReductionService.class);
+
+    // Число слагаемых в блоке; не зависит от числа потоков
+    static final int BLOCK_SIZE = 4096;
+    // Меньше стольких блоков на задачу не делим
+    private static final int MIN_PARALLEL_BLOCKS = 4;
+
+    // Параллельный режим; по умолчанию выключен
+    private final ParallelSettings parallel = new ParallelSettings(TabulatedFunctionReductionService.class,
+            null, TabulatedFunctionOperationService.DEFAULT_PARALLEL_THRESHOLD);
+
+    // Сумма слагаемых term(i) для i в [from, to)
+    private interface RangeSum {
+        void addTo(CompensatedSum sum, int from, int to);
+    }
+
+    public ForkJoinPool getParallelPool() {
+        return parallel.getPool();
+    }
+
+    // Включает параллельный режим на заданном пуле (null - выключает)
+    public void setParallelPool(ForkJoinPool parallelPool) {
+        parallel.setPool(parallelPool);
+    }
+
+    public int getParallelThreshold() {
+        return parallel.getThreshold();
+    }
+
+    public void setParallelThreshold(int parallelThreshold) {
+        parallel.setThreshold(parallelThreshold);
+    }
+
+    // Узлы двух функций на одной сетке - с теми же проверками, что у поэлементных операций
+    private static TableSnapshot[] alignedSamples(TabulatedFunction a, TabulatedFunction b) {
+        if (a.getCount() != b.getCount()) {
+            throw TabulatedFunctionOperationService.differentCount(a.getCount(), b.getCount());
+        }
+        TableSnapshot samplesA = TableSnapshot.of(a);
+        TableSnapshot samplesB = TableSnapshot.of(b);
+        if (samplesA.xValues != samplesB.xValues) {
+            for (int i = 0; i < samplesA.count; i++) {
+                if (samplesA.xValues[i] != samplesB.xValues[i]) {
+                    throw TabulatedFunctionOperationService.differentX(samplesA.xValues[i], samplesB.xValues[i], i);
+                }
+            }
+        }
+        return new TableSnapshot[]{samplesA, samplesB};
+    }
+
+    // Сумма terms слагаемых: блоки по BLOCK_SIZE считаются независимо (параллельно, если включено)
+    // и складываются по порядку
+    private double sum(int terms, RangeSum rangeSum) {
+        int blocks = (terms + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        double[] blockSums = new double[blocks];
+        ParallelRanges.RangeAction action = (fromBlock, toBlock) -> {
+            for (int block = fromBlock; block < toBlock; block++) {
+                CompensatedSum sum = new CompensatedSum();
+                rangeSum.addTo(sum, block * BLOCK_SIZE, Math.min(terms, (block + 1) * BLOCK_SIZE));
+                blockSums[block] = sum.sum();
+            }
+        };
+        ForkJoinPool pool = parallel.poolFor(terms);
+        if (pool != null) {
+            logger.debug("Параллельное суммирование: {} слагаемых, {} блоков", terms, blocks);
+        }
+        ParallelRanges.run(pool, blocks, MIN_PARALLEL_BLOCKS, action);
+
+        CompensatedSum total = new CompensatedSum();
+        for (double blockSum : blockSums) {
+            total.add(blockSum);
+        }
+        return total.sum();
+    }
+
+    // Интеграл по формуле трапеций - точный для кусочно-линейной функции
+    public double integrateTrapezoid(TabulatedFunction function) {
+        TableSnapshot s = TableSnapshot.of(function);
+        logger.debug("Интеграл методом трапеций, точек: {}", s.count);
+        return sum(s.count - 1, (sum, from, to) -> {
+            for (int i = from; i < to; i++) {
+                sum.add(0.5 * (s.xValues[i + 1] - s.xValues[i]) * (s.yValues[i] + s.yValues[i + 1]));
+            }
+        });
+    }
+
+    // Составная формула Симпсона для неравномерной сетки: пары соседних интервалов,
+    // при нечётном числе интервалов последний учитывается поправкой по трём последним точкам
+    public double integrateSimpson(TabulatedFunction function) {
+        TableSnapshot s = TableSnapshot.of(function);
+        int intervals = s.count - 1;
+        logger.debug("Интеграл методом Симпсона, точек: {}", s.count);
+        if (intervals < 2) {
+            return integrateTrapezoid(function);
+        }
+
+        double[] x = s.xValues;
+        double[] y = s.yValues;
+        double result = sum(intervals / 2, (sum, from, to) -> {
+            for (int k = from; k < to; k++) {
+                int i = 2 * k;
+                double h0 = x[i + 1] - x[i];
+                double h1 = x[i + 2] - x[i + 1];
+                double hph = h0 + h1;
+                sum.add(hph / 6 * ((2 - h1 / h0) * y[i] + hph * hph / (h0 * h1) * y[i + 1] + (2 - h0 / h1) * y[i + 2]));
+            }
+        });
+
+        if (intervals % 2 == 1) {
+            int n = intervals;
+            double h0 = x[n - 1] - x[n - 2];
+            double h1 = x[n] - x[n - 1];
+            CompensatedSum tail = new CompensatedSum();
+            tail.add(result);
+            tail.add(y[n] * (2 * h1 * h1 + 3 * h0 * h1) / (6 * (h0 + h1)));
+            tail.add(y[n - 1] * (h1 * h1 + 3 * h1 * h0) / (6 * h0));
+            tail.add(-y[n - 2] * h1 * h1 * h1 / (6 * h0 * (h0 + h1)));
+            result = tail.sum();
+        }
+        return result;
+    }
+
+    // Интеграл |f| по интервалу длины h, где f линейна от a до b: при смене знака
+    // это площади двух треугольников по обе стороны от нуля
+    private static double absIntegral(double h, double a, double b) {
+        double absA = Math.abs(a);
+        double absB = Math.abs(b);
+        if (a * b >= 0) {
+            return 0.5 * h * (absA + absB);
+        }
+        return h * (a * a + b * b) / (2 * (absA + absB));
+    }
+
+    // Интеграл f^2 по интервалу длины h, где f линейна от a до b
+    private static double squareIntegral(double h, double a, double b) {
+        return h * (a * a + a * b + b * b) / 3;
+    }
+
+    // Норма L1: интеграл |f|
+    public double normL1(TabulatedFunction function) {
+        TableSnapshot s = TableSnapshot.of(function);
+        return sum(s.count - 1, (sum, from, to) -> {
+            for (int i = from; i < to; i++) {
+                sum.add(absIntegral(s.xValues[i + 1] - s.xValues[i], s.yValues[i], s.yValues[i + 1]));
+            }
+        });
+    }
+
+    // Норма L2: корень из интеграла f^2
+    public double normL2(TabulatedFunction function) {
+        TableSnapshot s = TableSnapshot.of(function);
+        return Math.sqrt(sum(s.count - 1, (sum, from, to) -> {
+            for (int i = from; i < to; i++) {
+                sum.add(squareIntegral(s.xValues[i + 1] - s.xValues[i], s.yValues[i], s.yValues[i + 1]));
+            }
+        }));
+    }
+
+    // Норма Linf: максимум |y| по узлам
+    public double normLinf(TabulatedFunction function) {
+        TableSnapshot s = TableSnapshot.of(function);
+        int blocks = (s.count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        double[] blockMax = new double[blocks];
+        ParallelRanges.RangeAction action = (fromBlock, toBlock) -> {
+            for (int block = fromBlock; block < toBlock; block++) {
+                double max = 0;
+                int end = Math.min(s.count, (block + 1) * BLOCK_SIZE);
+                for (int i = block * BLOCK_SIZE; i < end; i++) {
+                    max = Math.max(max, Math.abs(s.yValues[i])); // Math.max сохраняет NaN
+                }
+                blockMax[block] = max;
+            }
+        };
+        ParallelRanges.run(parallel.poolFor(s.count), blocks, MIN_PARALLEL_BLOCKS, action);
+
+        double max = 0;
+        for (double value : blockMax) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    // Скалярное произведение: интеграл f * g (сетки должны совпадать); на интервале
+    // произведение двух линейных функций - квадратичная, её интеграл берётся точно
+    public double innerProduct(TabulatedFunction a, TabulatedFunction b) {
+        TableSnapshot[] s = alignedSamples(a, b);
+        double[] x = s[0].xValues;
+        double[] u = s[0].yValues;
+        double[] v = s[1].yValues;
+        return sum(s[0].count - 1, (sum, from, to) -> {
+            for (int i = from; i < to; i++) {
+                sum.add((x[i + 1] - x[i]) * (2 * u[i] * v[i] + u[i] * v[i + 1] + u[i + 1] * v[i] + 2 * u[i + 1] * v[i + 1]) / 6);
+            }
+        });
+    }
+
+    // Расстояние в L2: норма разности функций (сетки должны совпадать)
+    public double distance(TabulatedFunction a, TabulatedFunction b) {
+        TableSnapshot[] s = alignedSamples(a, b);
+        double[] x = s[0].xValues;
+        double[] u = s[0].yValues;
+        double[] v = s[1].yValues;
+        return Math.sqrt(sum(s[0].count - 1, (sum, from, to) -> {
+            for (int i = from; i < to; i++) {
+                sum.add(squareIntegral(x[i + 1] - x[i], u[i] - v[i], u[i + 1] - v[i + 1]));
+            }
+        }));
+    }
+}
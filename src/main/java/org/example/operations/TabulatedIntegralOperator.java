@@ -0,0 +1,138 @@
+package org.example.operations;
+
+import org.example.functions.TabulatedFunction;
+import org.example.functions.factory.ArrayTabulatedFunctionFactory;
+import org.example.functions.factory.TabulatedFunctionFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.concurrent.ForkJoinPool;
+
+// Первообразная табличной функции: F(x_i) = F(x_0) + интеграл f от x_0 до x_i по формуле трапеций.
+// Накопленная сумма считается блоками фиксированного размера: сначала каждый блок - своя префиксная
+// сумма (параллельно, если задан пул), затем по порядку смещения блоков, затем смещения прибавляются
+// к блокам. Разбиение не зависит от числа потоков, поэтому результат тоже.
+public class TabulatedIntegralOperator implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final Logger logger = LoggerFactory.getLogger(TabulatedIntegralOperator.class);
+
+    // Размер блока префиксной суммы
+    static final int BLOCK_SIZE = 1 << 14;
+    // Меньше стольких блоков на задачу не делим
+    private static final int MIN_PARALLEL_BLOCKS = 2;
+
+    // Фабрики не сериализуемы: после десериализации оператор создаёт функции фабрикой по умолчанию
+    private transient TabulatedFunctionFactory factory;
+    private final ParallelSettings parallel = new ParallelSettings(TabulatedIntegralOperator.class,
+            null, TabulatedFunctionOperationService.DEFAULT_PARALLEL_THRESHOLD);
+
+    public TabulatedIntegralOperator() {
+        this.factory = new ArrayTabulatedFunctionFactory();
+        logger.debug("Создан TabulatedIntegralOperator с фабрикой по умолчанию: {}",
+                factory.getClass().getSimpleName());
+    }
+
+    public TabulatedIntegralOperator(TabulatedFunctionFactory factory) {
+        this.factory = factory;
+        logger.debug("Создан TabulatedIntegralOperator с фабрикой: {}",
+                factory.getClass().getSimpleName());
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        factory = new ArrayTabulatedFunctionFactory();
+    }
+
+    public TabulatedFunctionFactory getFactory() {
+        return factory;
+    }
+
+    public void setFactory(TabulatedFunctionFactory factory) {
+        logger.debug("Изменение фабрики: {} -> {}", this.factory.getClass().getSimpleName(), factory.getClass().getSimpleName());
+        this.factory = factory;
+    }
+
+    public ForkJoinPool getParallelPool() {
+        return parallel.getPool();
+    }
+
+    // Включает параллельный режим на заданном пуле (null - выключает)
+    public void setParallelPool(ForkJoinPool parallelPool) {
+        parallel.setPool(parallelPool);
+    }
+
+    public int getParallelThreshold() {
+        return parallel.getThreshold();
+    }
+
+    public void setParallelThreshold(int parallelThreshold) {
+        parallel.setThreshold(parallelThreshold);
+    }
+
+    // Первообразная, равная нулю в левой границе
+    public TabulatedFunction integrate(TabulatedFunction function) {
+        return integrate(function, 0.0);
+    }
+
+    // Первообразная со значением initialValue в левой границе
+    public TabulatedFunction integrate(TabulatedFunction function, double initialValue) {
+        int count = function.getCount();
+        logger.info("Начало вычисления первообразной табличной функции. Точек: {}", count);
+
+        TableSnapshot table = TableSnapshot.of(function);
+        double[] xValues = table.xValues;
+        double[] yValues = table.yValues;
+
+        double[] integral = new double[count];
+        int blocks = (count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        double[] blockTotals = new double[blocks];
+        ForkJoinPool pool = parallel.poolFor(count);
+
+        // 1. Префиксные суммы внутри блоков; блок начинается с трапеции, оканчивающейся в его первой точке
+        ParallelRanges.run(pool, blocks, MIN_PARALLEL_BLOCKS, (fromBlock, toBlock) -> {
+            for (int block = fromBlock; block < toBlock; block++) {
+                int from = block * BLOCK_SIZE;
+                int to = Math.min(count, from + BLOCK_SIZE);
+                CompensatedSum sum = new CompensatedSum();
+                for (int i = from; i < to; i++) {
+                    if (i > 0) {
+                        sum.add(0.5 * (xValues[i] - xValues[i - 1]) * (yValues[i - 1] + yValues[i]));
+                    }
+                    integral[i] = sum.sum();
+                }
+                blockTotals[block] = integral[to - 1];
+            }
+        });
+
+        // 2. Смещения блоков - последовательно и по порядку
+        double[] offsets = new double[blocks];
+        CompensatedSum offset = new CompensatedSum();
+        offset.add(initialValue);
+        for (int block = 0; block < blocks; block++) {
+            offsets[block] = offset.sum();
+            offset.add(blockTotals[block]);
+        }
+
+        // 3. Прибавление смещений
+        ParallelRanges.run(pool, blocks, MIN_PARALLEL_BLOCKS, (fromBlock, toBlock) -> {
+            for (int block = fromBlock; block < toBlock; block++) {
+                double blockOffset = offsets[block];
+                if (blockOffset == 0.0) {
+                    continue;
+                }
+                int to = Math.min(count, (block + 1) * BLOCK_SIZE);
+                for (int i = block * BLOCK_SIZE; i < to; i++) {
+                    integral[i] += blockOffset;
+                }
+            }
+        });
+
+        TabulatedFunction result = factory.createOnGrid(function, integral);
+        logger.info("Первообразная вычислена. Создана функция с {} точками", result.getCount());
+        return result;
+    }
+}
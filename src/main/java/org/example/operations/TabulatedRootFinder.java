@@ -0,0 +1,251 @@
+package org.example.operations;
+
+import org.example.functions.MathFunction;
+import org.example.functions.TabulatedFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+// Поиск всех корней табличной функции.
+// Один проход по Y находит узлы с нулевым значением и интервалы со сменой знака (для больших
+// таблиц - параллельно, блоками фиксированного размера), затем каждый интервал уточняется методом
+// Брента по интерполянту или по заданной MathFunction. Корни, не меняющие знак в узлах
+// (касание оси или два корня в одном интервале), не обнаруживаются.
+public class TabulatedRootFinder {
+    private static final Logger logger = LoggerFactory.getLogger(TabulatedRootFinder.class);
+
+    public static final double DEFAULT_TOLERANCE = 1e-12;
+    public static final int DEFAULT_MAX_ITERATIONS = 100;
+    // Узлов в блоке сканирования; не зависит от числа потоков, поэтому порядок корней детерминирован
+    static final int BLOCK_SIZE = 1 << 14;
+    // Уточнение одного интервала дороже прохода по узлам, поэтому куски мельче
+    private static final int MIN_PARALLEL_BRACKETS = 16;
+    private static final double EPSILON = Math.ulp(1.0);
+
+    private double tolerance = DEFAULT_TOLERANCE;
+    private int maxIterations = DEFAULT_MAX_ITERATIONS;
+
+    // Параллельный режим; по умолчанию выключен
+    private final ParallelSettings parallel = new ParallelSettings(TabulatedRootFinder.class,
+            null, TabulatedFunctionOperationService.DEFAULT_PARALLEL_THRESHOLD);
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    // Допустимая абсолютная погрешность корня по X
+    public void setTolerance(double tolerance) {
+        if (!(tolerance > 0) || Double.isInfinite(tolerance)) {
+            throw new IllegalArgumentException("Допуск должен быть положительным конечным числом: " + tolerance);
+        }
+        this.tolerance = tolerance;
+    }
+
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    public void setMaxIterations(int maxIterations) {
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException("Число итераций должно быть положительным: " + maxIterations);
+        }
+        this.maxIterations = maxIterations;
+    }
+
+    public ForkJoinPool getParallelPool() {
+        return parallel.getPool();
+    }
+
+    // Включает параллельный режим на заданном пуле (null - выключает)
+    public void setParallelPool(ForkJoinPool parallelPool) {
+        parallel.setPool(parallelPool);
+    }
+
+    public int getParallelThreshold() {
+        return parallel.getThreshold();
+    }
+
+    public void setParallelThreshold(int parallelThreshold) {
+        parallel.setThreshold(parallelThreshold);
+    }
+
+    // Корни интерполянта в порядке возрастания
+    public double[] findRoots(TabulatedFunction function) {
+        return findRoots(function, function);
+    }
+
+    // Интервалы ищутся по узлам table, уточняются по function (например, по исходной функции,
+    // из которой построена таблица). Интервал, на концах которого function не меняет знак, пропускается.
+    public double[] findRoots(TabulatedFunction table, MathFunction function) {
+        int count = table.getCount();
+        TableSnapshot snapshot = TableSnapshot.of(table);
+        double[] xValues = snapshot.xValues;
+        double[] yValues = snapshot.yValues;
+
+        ForkJoinPool pool = parallel.poolFor(count);
+        int[] codes = scan(pool, yValues, count);
+        logger.debug("Найдено {} узлов и интервалов-кандидатов среди {} точек", codes.length, count);
+
+        // Концы интервалов берутся из таблицы, только если уточняем по ней самой
+        boolean sameFunction = function == table;
+        double[] roots = new double[codes.length];
+        double tol = tolerance;
+        int iterations = maxIterations;
+        ParallelRanges.run(codes.length >= 2 * MIN_PARALLEL_BRACKETS ? pool : null, codes.length, MIN_PARALLEL_BRACKETS,
+                (from, to) -> {
+                    for (int k = from; k < to; k++) {
+                        int index = codes[k] >>> 1;
+                        if ((codes[k] & 1) == 0) {
+                            roots[k] = xValues[index];
+                            continue;
+                        }
+                        double a = xValues[index];
+                        double b = xValues[index + 1];
+                        double fa = sameFunction ? yValues[index] : function.apply(a);
+                        double fb = sameFunction ? yValues[index + 1] : function.apply(b);
+                        roots[k] = brent(function, a, b, fa, fb, tol, iterations);
+                    }
+                });
+
+        // Убираем пропущенные интервалы (NaN) и совпадения на общих концах соседних интервалов
+        int size = 0;
+        for (double root : roots) {
+            if (!Double.isNaN(root) && (size == 0 || roots[size - 1] != root)) {
+                roots[size++] = root;
+            }
+        }
+        logger.debug("Найдено корней: {}", size);
+        return size == roots.length ? roots : Arrays.copyOf(roots, size);
+    }
+
+    // Коды кандидатов в порядке возрастания X: 2i - узел i с нулевым Y, 2i + 1 - смена знака на [x(i), x(i+1)]
+    private static int[] scan(ForkJoinPool pool, double[] yValues, int count) {
+        int blocks = (count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        int[][] blockCodes = new int[blocks][];
+        int[] blockSizes = new int[blocks];
+
+        ParallelRanges.run(pool, blocks, 1, (fromBlock, toBlock) -> {
+            for (int block = fromBlock; block < toBlock; block++) {
+                int from = block * BLOCK_SIZE;
+                int to = Math.min(from + BLOCK_SIZE, count);
+                int[] codes = new int[16];
+                int size = 0;
+                for (int i = from; i < to; i++) {
+                    double y0 = yValues[i];
+                    if (y0 == 0) {
+                        if (size + 1 > codes.length) {
+                            codes = Arrays.copyOf(codes, codes.length * 2);
+                        }
+                        codes[size++] = 2 * i;
+                    } else if (i + 1 < count) {
+                        double y1 = yValues[i + 1];
+                        if ((y0 < 0 && y1 > 0) || (y0 > 0 && y1 < 0)) {
+                            if (size + 1 > codes.length) {
+                                codes = Arrays.copyOf(codes, codes.length * 2);
+                            }
+                            codes[size++] = 2 * i + 1;
+                        }
+                    }
+                }
+                blockCodes[block] = codes;
+                blockSizes[block] = size;
+            }
+        });
+
+        int total = 0;
+        for (int size : blockSizes) {
+            total += size;
+        }
+        int[] codes = new int[total];
+        int offset = 0;
+        for (int block = 0; block < blocks; block++) {
+            System.arraycopy(blockCodes[block], 0, codes, offset, blockSizes[block]);
+            offset += blockSizes[block];
+        }
+        return codes;
+    }
+
+    // Метод Брента (zeroin): обратная квадратичная интерполяция и секущие с гарантией бисекции.
+    // NaN, если function не меняет знак на [a, b].
+    static double brent(MathFunction function, double a, double b, double fa, double fb, double tolerance, int maxIterations) {
+        if (fa == 0) {
+            return a;
+        }
+        if (fb == 0) {
+            return b;
+        }
+        if ((fa > 0) == (fb > 0) || Double.isNaN(fa) || Double.isNaN(fb)) {
+            return Double.NaN;
+        }
+
+        double c = b;
+        double fc = fb;
+        double d = b - a;
+        double e = d;
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+            if ((fb > 0) == (fc > 0)) {
+                // Корень между a и b: c становится противоположным концом
+                c = a;
+                fc = fa;
+                d = b - a;
+                e = d;
+            }
+            if (Math.abs(fc) < Math.abs(fb)) {
+                a = b;
+                b = c;
+                c = a;
+                fa = fb;
+                fb = fc;
+                fc = fa;
+            }
+
+            double tol = 2 * EPSILON * Math.abs(b) + 0.5 * tolerance;
+            double middle = 0.5 * (c - b);
+            if (Math.abs(middle) <= tol || fb == 0) {
+                return b;
+            }
+
+            if (Math.abs(e) >= tol && Math.abs(fa) > Math.abs(fb)) {
+                double s = fb / fa;
+                double p;
+                double q;
+                if (a == c) {
+                    // Секущая
+                    p = 2 * middle * s;
+                    q = 1 - s;
+                } else {
+                    // Обратная квадратичная интерполяция
+                    double r = fb / fc;
+                    q = fa / fc;
+                    p = s * (2 * middle * q * (q - r) - (b - a) * (r - 1));
+                    q = (q - 1) * (r - 1) * (s - 1);
+                }
+                if (p > 0) {
+                    q = -q;
+                } else {
+                    p = -p;
+                }
+                if (2 * p < Math.min(3 * middle * q - Math.abs(tol * q), Math.abs(e * q))) {
+                    e = d;
+                    d = p / q;
+                } else {
+                    d = middle;
+                    e = d;
+                }
+            } else {
+                // Интерполяция сходится медленно - бисекция
+                d = middle;
+                e = d;
+            }
+
+            a = b;
+            fa = fb;
+            b += Math.abs(d) > tol ? d : Math.copySign(tol, middle);
+            fb = function.apply(b);
+        }
+        logger.debug("Метод Брента не достиг допуска за {} итераций, последнее x={}", maxIterations, b);
+        return b;
+    }
+}
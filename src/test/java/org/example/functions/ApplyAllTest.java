@@ -0,0 +1,106 @@
+package org.example.functions;
+
+import org.junit.Test;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ApplyAllTest {
+
+    private static double[] sortedPoints(int count, double from, double to, long seed) {
+        Random random = new Random(seed);
+        double[] xs = new double[count];
+        for (int i = 0; i < count; i++) {
+            xs[i] = from + (to - from) * random.nextDouble();
+        }
+        Arrays.sort(xs);
+        return xs;
+    }
+
+    private static void assertMatchesApply(MathFunction function, double[] xs) {
+        double[] out = new double[xs.length];
+        function.applyAll(xs, out);
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals("x = " + xs[i], function.apply(xs[i]), out[i], 1e-12);
+        }
+    }
+
+    @Test
+    public void testTabulatedSortedAndUnsortedInput() {
+        double[] xValues = sortedPoints(500, 0, 100, 1);
+        double[] yValues = sortedPoints(500, -5, 5, 2);
+        TabulatedFunction array = new ArrayTabulatedFunction(xValues, yValues);
+        TabulatedFunction list = new LinkedListTabulatedFunction(xValues, yValues);
+
+        double[] sorted = sortedPoints(3000, -10, 110, 3);
+        sorted[100] = xValues[20]; // точные совпадения с узлами
+        sorted[2000] = xValues[480];
+        Arrays.sort(sorted);
+        double[] unsorted = new double[3000];
+        Random random = new Random(4);
+        for (int i = 0; i < unsorted.length; i++) {
+            unsorted[i] = -10 + 120 * random.nextDouble();
+        }
+
+        assertMatchesApply(array, sorted);
+        assertMatchesApply(array, unsorted);
+        assertMatchesApply(list, sorted);
+        assertMatchesApply(list, unsorted);
+        assertMatchesApply(array, new double[]{xValues[0], xValues[499], Double.NaN, xValues[250], xValues[1]});
+        assertMatchesApply(list, new double[]{xValues[0], xValues[499], xValues[250], xValues[1]});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNarrowIntervalThrowsInLargeBatch() {
+        // Большой пакет идёт векторным путём (если он доступен) и должен отвергать интервал уже 1e-10
+        // так же, как скалярный
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(
+                new double[]{0, 1, 1 + 1e-12, 2}, new double[]{0, 1, 2, 3});
+        double[] xs = sortedPoints(1000, 0.5, 1.5, 5);
+        xs[500] = 1 + 0.5e-12;
+        Arrays.sort(xs);
+        function.applyAll(xs, new double[xs.length]);
+    }
+
+    @Test
+    public void testAnalyticFunctions() {
+        double[] xs = {-2.5, -1.0, 0.0, 0.5, 3.0};
+        assertMatchesApply(new SqrFunction(), xs);
+        assertMatchesApply(new ConstantFunction(4.2), xs);
+        assertMatchesApply(new IdentityFunction(), xs);
+        assertMatchesApply(new SqrFunction().andThen(new ArrayTabulatedFunction(new double[]{0, 10}, new double[]{1, 2})), xs);
+    }
+
+    @Test
+    public void testInPlaceAndLongerOutput() {
+        MathFunction composite = new IdentityFunction().andThen(new SqrFunction());
+        double[] xs = {1.0, 2.0, 3.0};
+        composite.applyAll(xs, xs);
+        assertArrayEquals(new double[]{1.0, 4.0, 9.0}, xs, 0.0);
+
+        double[] out = {0, 0, 0, -1};
+        composite.applyAll(new double[]{1.0, 2.0, 3.0}, out);
+        assertArrayEquals(new double[]{1.0, 4.0, 9.0, -1}, out, 0.0);
+
+        assertThrows(IllegalArgumentException.class, () -> composite.applyAll(new double[3], new double[2]));
+    }
+
+    @Test
+    public void testDoubleBuffers() {
+        double[] xs = new double[2500];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = i * 0.01;
+        }
+        DoubleBuffer in = DoubleBuffer.wrap(xs);
+        DoubleBuffer out = DoubleBuffer.allocate(2600);
+        new SqrFunction().applyAll(in, out);
+
+        assertFalse(in.hasRemaining());
+        assertEquals(2500, out.position());
+        assertEquals(24.99 * 24.99, out.get(2499), 1e-12);
+        assertThrows(IllegalArgumentException.class, () -> new SqrFunction().applyAll(DoubleBuffer.allocate(3), DoubleBuffer.allocate(2)));
+    }
+}
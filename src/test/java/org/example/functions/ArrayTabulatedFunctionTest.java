@@ -140,4 +140,21 @@ public class ArrayTabulatedFunctionTest {
         function.remove(0);
         function.remove(0); // Теперь осталась только одна точка
     }
+
+    @Test
+    public void testApplyOnLargeTable() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(x -> 2 * x + 1, 0.0, 1000.0, 100001);
+
+        assertEquals(1, function.apply(0.0), 1e-9);
+        assertEquals(2001, function.apply(1000.0), 1e-9);
+        assertEquals(1001, function.apply(500.0), 1e-9);       // точное совпадение
+        assertEquals(246.8642, function.apply(122.9321), 1e-6); // интерполяция
+        assertEquals(-1, function.apply(-1.0), 1e-9);           // экстраполяция
+        assertEquals(50000, function.indexOfX(500.0));
+        assertEquals(-1, function.indexOfX(500.00001));
+        assertEquals(49999, function.floorIndexOfX(500.0));
+        assertEquals(50000, function.floorIndexOfX(500.005));
+        assertEquals(100001, function.floorIndexOfX(1001.0));
+        assertTrue(Double.isNaN(function.apply(Double.NaN)));
+    }
 }
@@ -0,0 +1,200 @@
+package org.example.functions;
+
+import org.example.operations.TabulatedFunctionOperationService;
+import org.example.operations.TabulatedFunctionReductionService;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class CompiledInterpolationTest {
+
+    private static final double[] X = {-2.0, -0.5, 0.0, 1.5, 3.0, 7.0};
+    private static final double[] Y = {4.0, 1.0, -1.0, 2.5, 0.0, 10.0};
+
+    private static double[] probes() {
+        double[] xs = new double[201];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = -4 + 13.0 * i / 200;
+        }
+        return xs;
+    }
+
+    private static void assertSameValues(TabulatedFunction expected, TabulatedFunction actual) {
+        for (double x : probes()) {
+            assertEquals(expected.apply(x), actual.apply(x), 1e-12);
+        }
+        for (double x : X) {
+            assertEquals(expected.apply(x), actual.apply(x), 0);
+        }
+        double[] xs = probes();
+        double[] out = new double[xs.length];
+        actual.applyAll(xs, out);
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(expected.apply(xs[i]), out[i], 1e-12);
+        }
+        assertTrue(Double.isNaN(actual.apply(Double.NaN)));
+    }
+
+    @Test
+    public void testArrayCompiledMatchesPlain() {
+        ArrayTabulatedFunction compiled = new ArrayTabulatedFunction(X, Y);
+        compiled.setCompiled(true);
+
+        assertTrue(compiled.isCompiled());
+        assertSameValues(new ArrayTabulatedFunction(X, Y), compiled);
+    }
+
+    @Test
+    public void testLinkedListCompiledMatchesPlain() {
+        LinkedListTabulatedFunction compiled = new LinkedListTabulatedFunction(X, Y);
+        compiled.setCompiled(true);
+
+        assertTrue(compiled.isCompiled());
+        assertSameValues(new LinkedListTabulatedFunction(X, Y), compiled);
+    }
+
+    @Test
+    public void testArrayInvalidatedByMutations() {
+        ArrayTabulatedFunction compiled = new ArrayTabulatedFunction(X, Y);
+        ArrayTabulatedFunction plain = new ArrayTabulatedFunction(X, Y);
+        compiled.setCompiled(true);
+        compiled.apply(0.7);
+
+        compiled.setY(3, -5.0);
+        plain.setY(3, -5.0);
+        assertSameValues(plain, compiled);
+
+        compiled.insert(2.0, 8.0);
+        plain.insert(2.0, 8.0);
+        assertSameValues(plain, compiled);
+
+        compiled.remove(1);
+        plain.remove(1);
+        assertSameValues(plain, compiled);
+
+        compiled.replaceAllY((x, y) -> y * 2);
+        plain.replaceAllY((x, y) -> y * 2);
+        assertSameValues(plain, compiled);
+
+        PointCursor cursor = compiled.cursor();
+        cursor.next();
+        cursor.setY(100.0);
+        plain.setY(0, 100.0);
+        assertSameValues(plain, compiled);
+    }
+
+    @Test
+    public void testArrayInvalidatedByInPlaceServiceOperation() {
+        ArrayTabulatedFunction compiled = new ArrayTabulatedFunction(X, Y);
+        compiled.setCompiled(true);
+        compiled.apply(0.7);
+
+        // Сервис пишет прямо в массив Y через yValuesView
+        new TabulatedFunctionOperationService().scaleInPlace(compiled, 3.0);
+
+        ArrayTabulatedFunction expected = new ArrayTabulatedFunction(X, Y);
+        expected.replaceAllY((x, y) -> 3 * y);
+        assertSameValues(expected, compiled);
+    }
+
+    @Test
+    public void testArrayInvalidatedByInPlaceBinaryOperation() {
+        ArrayTabulatedFunction compiled = new ArrayTabulatedFunction(X, Y);
+        compiled.setCompiled(true);
+        compiled.apply(0.7);
+
+        new TabulatedFunctionOperationService().addInPlace(compiled, new ArrayTabulatedFunction(X, Y));
+
+        ArrayTabulatedFunction expected = new ArrayTabulatedFunction(X, Y);
+        expected.replaceAllY((x, y) -> 2 * y);
+        assertSameValues(expected, compiled);
+    }
+
+    @Test
+    public void testReadingViewKeepsCompiledTable() {
+        ArrayTabulatedFunction compiled = new ArrayTabulatedFunction(X, Y);
+        compiled.setCompiled(true);
+        double before = compiled.apply(0.75);
+
+        // Операции, только читающие Y, не сбрасывают таблицу наклонов
+        new TabulatedFunctionOperationService().add(compiled, compiled);
+        new TabulatedFunctionReductionService().integrateTrapezoid(compiled);
+
+        // Запись без yValuesChanged таблицей не видна - значит, она не перестраивалась
+        compiled.yValuesView()[3] = 100.0;
+        assertEquals(before, compiled.apply(0.75), 0);
+
+        compiled.yValuesChanged();
+        ArrayTabulatedFunction expected = new ArrayTabulatedFunction(X, Y);
+        expected.setY(3, 100.0);
+        assertSameValues(expected, compiled);
+    }
+
+    @Test
+    public void testLinkedListInvalidatedByMutations() {
+        LinkedListTabulatedFunction compiled = new LinkedListTabulatedFunction(X, Y);
+        LinkedListTabulatedFunction plain = new LinkedListTabulatedFunction(X, Y);
+        compiled.setCompiled(true);
+        compiled.apply(0.7);
+
+        compiled.setY(2, 6.0);
+        plain.setY(2, 6.0);
+        assertSameValues(plain, compiled);
+
+        compiled.insert(5.0, -3.0);
+        plain.insert(5.0, -3.0);
+        assertSameValues(plain, compiled);
+
+        compiled.remove(0);
+        plain.remove(0);
+        assertSameValues(plain, compiled);
+
+        compiled.replaceAllY((x, y) -> y - x);
+        plain.replaceAllY((x, y) -> y - x);
+        assertSameValues(plain, compiled);
+
+        PointCursor cursor = compiled.cursor();
+        cursor.next();
+        cursor.next();
+        cursor.setY(-7.0);
+        plain.setY(1, -7.0);
+        assertSameValues(plain, compiled);
+    }
+
+    @Test
+    public void testSwitchingModeBack() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(X, Y);
+        function.setCompiled(true);
+        double compiledValue = function.apply(0.75);
+        function.setCompiled(false);
+
+        assertFalse(function.isCompiled());
+        assertEquals(compiledValue, function.apply(0.75), 1e-12);
+    }
+
+    @Test
+    public void testZeroWidthIntervalDoesNotThrow() {
+        // В обычном режиме интерполяция по интервалу нулевой ширины бросает исключение,
+        // в скомпилированном такой интервал просто никогда не выбирается
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(
+                new double[]{0, 1, 1, 2}, new double[]{0, 1, 5, 6});
+        function.setCompiled(true);
+
+        assertEquals(0.5, function.apply(0.5), 1e-15);
+        assertEquals(1.0, function.apply(1.0), 0);
+        assertEquals(5.5, function.apply(1.5), 1e-15);
+    }
+
+    @Test
+    public void testAccurateFarFromOrigin() {
+        // Форма y(k) + slope·(x - x(k)) не теряет точность при больших X
+        double[] xValues = {1e9, 1e9 + 1e-3, 1e9 + 2e-3};
+        double[] yValues = {1.0, 2.0, 1.0};
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(xValues, yValues);
+        ArrayTabulatedFunction compiled = new ArrayTabulatedFunction(xValues, yValues);
+        compiled.setCompiled(true);
+
+        double x = 1e9 + 0.5e-3;
+        assertEquals(function.apply(x), compiled.apply(x), 1e-6);
+    }
+}
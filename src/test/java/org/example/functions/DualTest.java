@@ -0,0 +1,75 @@
+package org.example.functions;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class DualTest {
+
+    @Test
+    public void testVariableAndConstant() {
+        assertEquals(new Dual(2.0, 1.0), Dual.variable(2.0));
+        assertEquals(new Dual(2.0, 0.0), Dual.constant(2.0));
+    }
+
+    @Test
+    public void testArithmeticRules() {
+        Dual x = Dual.variable(3.0);
+
+        // (x + 1)(x - 2) = x² - x - 2, производная 2x - 1 = 5
+        Dual product = x.add(1).multiply(x.subtract(2));
+        assertEquals(4.0, product.getValue(), 1e-15);
+        assertEquals(5.0, product.getDerivative(), 1e-15);
+
+        // 1 / x, производная -1/x²
+        Dual reciprocal = Dual.constant(1).divide(x);
+        assertEquals(1.0 / 3, reciprocal.getValue(), 1e-15);
+        assertEquals(-1.0 / 9, reciprocal.getDerivative(), 1e-15);
+
+        Dual scaled = x.multiply(2).divide(4).negate();
+        assertEquals(-1.5, scaled.getValue(), 1e-15);
+        assertEquals(-0.5, scaled.getDerivative(), 1e-15);
+    }
+
+    @Test
+    public void testElementaryFunctions() {
+        Dual x = Dual.variable(0.7);
+
+        assertEquals(Math.cos(0.7), x.sin().getDerivative(), 1e-15);
+        assertEquals(-Math.sin(0.7), x.cos().getDerivative(), 1e-15);
+        assertEquals(Math.exp(0.7), x.exp().getDerivative(), 1e-15);
+        assertEquals(1 / 0.7, x.log().getDerivative(), 1e-15);
+        assertEquals(0.5 / Math.sqrt(0.7), x.sqrt().getDerivative(), 1e-15);
+        assertEquals(1.4, x.sqr().getDerivative(), 1e-15);
+    }
+
+    @Test
+    public void testLambdaDifferentiableFunction() {
+        DifferentiableFunction f = x -> x.sqr().multiply(x).add(1); // x³ + 1
+
+        assertEquals(9.0, f.apply(2.0), 1e-15);
+        assertEquals(12.0, f.derivative(2.0), 1e-15);
+    }
+
+    @Test
+    public void testCompositeOfDifferentiableFunctions() {
+        // (x²)² = x⁴, производная 4x³
+        CompositeFunction quartic = new SqrFunction().andThen(new SqrFunction());
+
+        assertTrue(quartic instanceof DifferentiableCompositeFunction);
+        assertEquals(32.0, ((DifferentiableFunction) quartic).derivative(2.0), 1e-15);
+        assertEquals(16.0, quartic.apply(2.0), 0);
+        DifferentiableFunction constantSquared = new DifferentiableCompositeFunction(new ConstantFunction(5), new SqrFunction());
+        assertEquals(0.0, constantSquared.derivative(3.0), 0);
+        assertEquals(1.0, new IdentityFunction().derivative(7.0), 0);
+    }
+
+    @Test
+    public void testCompositeWithPlainFunctionIsNotDifferentiable() {
+        CompositeFunction composite = new SqrFunction().andThen(Math::sin);
+
+        assertFalse(composite instanceof DifferentiableFunction);
+        assertFalse(DifferentiableFunction.isDifferentiable(composite));
+        assertFalse(DifferentiableFunction.isDifferentiable(new CompositeFunction(Math::exp, new SqrFunction())));
+        assertEquals(Math.sin(4.0), composite.apply(2.0), 0);
+    }
+}
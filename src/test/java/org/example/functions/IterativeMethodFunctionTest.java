@@ -24,4 +24,143 @@ public class IterativeMethodFunctionTest {
         double expected = 2.0;
         assertEquals(expected, result, DELTA);
     }
-}
\ No newline at end of file
+
+    // x - 0.01(x² - 2): неподвижная точка √2, коэффициент сжатия ≈ 0.97 - простая итерация медленная
+    private static final MathFunction SLOW_PHI = x -> x - 0.01 * (x * x - 2);
+
+    @Test
+    public void testPicardSolutionReport() {
+        IterativeMethodFunction solver = new IterativeMethodFunction(SLOW_PHI);
+        IterativeMethodFunction.Solution solution = solver.solve(1.0);
+
+        assertTrue(solution.isConverged());
+        assertEquals(Math.sqrt(2), solution.getRoot(), 1e-8);
+        assertEquals(solution.getIterations(), solution.getEvaluations());
+        assertTrue(solution.getResidual() < 1e-10);
+        assertEquals(solution.getRoot(), solver.apply(1.0), 0);
+    }
+
+    @Test
+    public void testAcceleratedSchemesNeedFarFewerEvaluations() {
+        int picard = new IterativeMethodFunction(SLOW_PHI).solve(1.0).getEvaluations();
+
+        for (FixedPointAcceleration acceleration : new FixedPointAcceleration[]{
+                FixedPointAcceleration.STEFFENSEN, FixedPointAcceleration.ANDERSON}) {
+            IterativeMethodFunction solver = new IterativeMethodFunction(SLOW_PHI, 1000, 1e-10, acceleration);
+            IterativeMethodFunction.Solution solution = solver.solve(1.0);
+
+            assertTrue(acceleration.toString(), solution.isConverged());
+            assertEquals(acceleration.toString(), Math.sqrt(2), solution.getRoot(), 1e-10);
+            assertTrue(acceleration + ": " + solution.getEvaluations() + " vs " + picard,
+                    solution.getEvaluations() * 10 < picard);
+        }
+    }
+
+    @Test
+    public void testAitkenConvergesFaster() {
+        int picard = new IterativeMethodFunction(SLOW_PHI).solve(1.0).getEvaluations();
+        IterativeMethodFunction.Solution aitken =
+                new IterativeMethodFunction(SLOW_PHI, 1000, 1e-10, FixedPointAcceleration.AITKEN).solve(1.0);
+
+        assertTrue(aitken.isConverged());
+        assertEquals(Math.sqrt(2), aitken.getRoot(), 1e-9);
+        assertTrue(aitken.getEvaluations() < picard);
+    }
+
+    @Test
+    public void testAndersonDepthOneAndDeeper() {
+        MathFunction cos = Math::cos;
+        for (int depth = 1; depth <= 5; depth++) {
+            IterativeMethodFunction solver = new IterativeMethodFunction(cos, 1000, 1e-12,
+                    FixedPointAcceleration.ANDERSON, depth);
+            IterativeMethodFunction.Solution solution = solver.solve(0.0);
+
+            assertTrue(solution.isConverged());
+            assertEquals(0.7390851332151607, solution.getRoot(), 1e-11);
+            assertEquals(depth, solver.getAndersonDepth());
+        }
+    }
+
+    @Test
+    public void testLinearMapSolvedInFewSteps() {
+        // Для линейной phi Стеффенсен точен за один шаг
+        MathFunction linearPhi = x -> 0.5 * x + 1;
+        IterativeMethodFunction.Solution solution =
+                new IterativeMethodFunction(linearPhi, 1000, 1e-10, FixedPointAcceleration.STEFFENSEN).solve(0.0);
+
+        assertEquals(2.0, solution.getRoot(), DELTA);
+        assertTrue(solution.getEvaluations() <= 5);
+    }
+
+    @Test
+    public void testNotConvergedReported() {
+        // phi(x) = x + 1 не имеет неподвижной точки
+        MathFunction shift = x -> x + 1;
+        for (FixedPointAcceleration acceleration : FixedPointAcceleration.values()) {
+            IterativeMethodFunction.Solution solution =
+                    new IterativeMethodFunction(shift, 51, 1e-10, acceleration).solve(0.0);
+
+            assertFalse(acceleration.toString(), solution.isConverged());
+            assertEquals(acceleration.toString(), 51, solution.getIterations());
+            assertTrue(acceleration.toString(), solution.getEvaluations() <= 2 * 51);
+            assertEquals(acceleration.toString(), 1.0, solution.getResidual(), 0);
+        }
+    }
+
+    @Test
+    public void testIterationsCountedAlikeWithAndWithoutConvergence() {
+        // maxIterations - число шагов при любой схеме: лимит ровно в n шагов ещё даёт сходимость,
+        // лимит n - 1 - нет, и в обоих случаях отчёт о шагах совпадает с лимитом
+        for (FixedPointAcceleration acceleration : FixedPointAcceleration.values()) {
+            int steps = new IterativeMethodFunction(SLOW_PHI, 1000, 1e-10, acceleration).solve(1.0).getIterations();
+            assertTrue(acceleration.toString(), steps > 1);
+
+            IterativeMethodFunction.Solution enough =
+                    new IterativeMethodFunction(SLOW_PHI, steps, 1e-10, acceleration).solve(1.0);
+            assertTrue(acceleration.toString(), enough.isConverged());
+            assertEquals(acceleration.toString(), steps, enough.getIterations());
+
+            IterativeMethodFunction.Solution shortOfSteps =
+                    new IterativeMethodFunction(SLOW_PHI, steps - 1, 1e-10, acceleration).solve(1.0);
+            assertFalse(acceleration.toString(), shortOfSteps.isConverged());
+            assertEquals(acceleration.toString(), steps - 1, shortOfSteps.getIterations());
+            assertTrue(acceleration.toString(), shortOfSteps.getEvaluations() < 2 * steps);
+        }
+    }
+
+    @Test
+    public void testNotConvergedResidualBelongsToReportedRoot() {
+        // Без сходимости возвращается phi(x) последнего приближения, невязка - |phi(x) - x| для того же x
+        MathFunction linearPhi = x -> 0.5 * x + 1;
+        for (FixedPointAcceleration acceleration : new FixedPointAcceleration[]{
+                FixedPointAcceleration.NONE, FixedPointAcceleration.STEFFENSEN, FixedPointAcceleration.ANDERSON}) {
+            IterativeMethodFunction.Solution solution =
+                    new IterativeMethodFunction(linearPhi, 1, 1e-10, acceleration).solve(0.0);
+            assertFalse(acceleration.toString(), solution.isConverged());
+            assertEquals(acceleration.toString(), 1.0, solution.getRoot(), 0);
+            assertEquals(acceleration.toString(), 1.0, solution.getResidual(), 0);
+        }
+    }
+
+    @Test
+    public void testImmediateConvergenceForAllSchemes() {
+        for (FixedPointAcceleration acceleration : FixedPointAcceleration.values()) {
+            IterativeMethodFunction solver = new IterativeMethodFunction(new IdentityFunction(), 1000, 1e-10, acceleration);
+            IterativeMethodFunction.Solution solution = solver.solve(5.0);
+
+            assertTrue(solution.isConverged());
+            assertEquals(5.0, solution.getRoot(), 0);
+            assertEquals(1, solution.getEvaluations());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidAndersonDepthThrows() {
+        new IterativeMethodFunction(SLOW_PHI, 1000, 1e-10, FixedPointAcceleration.ANDERSON, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullAccelerationThrows() {
+        new IterativeMethodFunction(SLOW_PHI, 1000, 1e-10, null);
+    }
+}
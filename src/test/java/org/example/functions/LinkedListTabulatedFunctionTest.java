@@ -202,6 +202,61 @@ public class LinkedListTabulatedFunctionTest {
         function.remove(0);
         function.remove(0); // Теперь осталась только одна точка
     }
-}
 
+    @Test
+    public void testIndexedAccessMatchesArrayFunction() {
+        java.util.Random random = new java.util.Random(7);
+        double[] xValues = new double[200];
+        double[] yValues = new double[200];
+        for (int i = 0; i < xValues.length; i++) {
+            xValues[i] = i * 0.5;
+            yValues[i] = random.nextDouble();
+        }
+        LinkedListTabulatedFunction list = new LinkedListTabulatedFunction(xValues, yValues);
+        ArrayTabulatedFunction array = new ArrayTabulatedFunction(xValues, yValues);
+
+        // Случайные вставки и удаления, после каждой - сверка индексного доступа и поиска по X
+        for (int step = 0; step < 2000; step++) {
+            if (random.nextInt(3) == 0 && list.getCount() > 2) {
+                int index = random.nextInt(list.getCount());
+                list.remove(index);
+                array.remove(index);
+            } else {
+                double x = Math.round((random.nextDouble() * 120 - 10) * 4) / 4.0;
+                double y = random.nextDouble();
+                list.insert(x, y);
+                array.insert(x, y);
+            }
+
+            assertEquals(array.getCount(), list.getCount());
+            int index = random.nextInt(list.getCount());
+            assertEquals(array.getX(index), list.getX(index), 0.0);
+            assertEquals(array.getY(index), list.getY(index), 0.0);
+            double x = random.nextDouble() * 120 - 10;
+            assertEquals(array.apply(x), list.apply(x), 1e-12);
+            assertEquals(array.indexOfX(array.getX(index)), list.indexOfX(array.getX(index)));
+            if (x >= list.leftBound() && x <= list.rightBound()) {
+                assertEquals(array.floorIndexOfX(x), list.floorIndexOfX(x));
+            }
+        }
+
+        int index = 0;
+        for (Point point : list) {
+            assertEquals(array.getX(index), point.x, 0.0);
+            index++;
+        }
+        assertEquals(array.getCount(), index);
+    }
 
+    @Test
+    public void testSetYThroughIndex() {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(x -> 0.0, 0.0, 999.0, 1000);
+        for (int i = 0; i < function.getCount(); i++) {
+            function.setY(i, 2 * function.getX(i));
+        }
+        assertEquals(500.0, function.apply(250.0), 1e-9);
+        assertEquals(1998.0, function.getY(999), 1e-9);
+        assertEquals(777, function.indexOfX(777.0));
+        assertEquals(777, function.floorIndexOfX(777.5));
+    }
+}
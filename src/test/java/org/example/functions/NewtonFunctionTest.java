@@ -34,4 +34,22 @@ public class NewtonFunctionTest {
         //Корни: x = ±2
         assertEquals(2, root1, 0.0001);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testApplyWithAutomaticDerivative() {
+        // x² - 4 без отдельно заданной производной
+        DifferentiableFunction quadratic = x -> x.sqr().subtract(4);
+        NewtonFunction newton = new NewtonFunction(quadratic, 1e-12, 100);
+        assertEquals(2.0, newton.apply(3.0), 1e-12);
+
+        // e^x - 2, корень ln(2)
+        NewtonFunction exp = new NewtonFunction((DifferentiableFunction) x -> x.exp().subtract(2), 1e-12, 100);
+        assertEquals(Math.log(2), exp.apply(1.0), 1e-12);
+
+        // Граф из готовых функций: (x²)², кратный корень 0. Сходимость линейная, и метод
+        // останавливается, когда производная падает ниже порога, а |f(x)| - ниже допуска
+        NewtonFunction quartic = new NewtonFunction(
+                new DifferentiableCompositeFunction(new SqrFunction(), new SqrFunction()), 1e-9, 200);
+        assertEquals(0.0, quartic.apply(1.0), 1e-3);
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.functions;
+
+import org.example.exceptions.InterpolationException;
+import org.example.functions.factory.OffHeapTabulatedFunctionFactory;
+import org.example.operations.TabulatedDifferentialOperator;
+import org.example.operations.TabulatedFunctionOperationService;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class OffHeapTabulatedFunctionTest {
+
+    @Test
+    public void testBasicAccess() {
+        try (OffHeapTabulatedFunction function = new OffHeapTabulatedFunction(new double[]{1.0, 2.0, 3.0}, new double[]{10.0, 20.0, 30.0})) {
+            assertEquals(3, function.getCount());
+            assertEquals(2.0, function.getX(1), 1e-12);
+            assertEquals(30.0, function.getY(2), 1e-12);
+            assertEquals(1, function.indexOfX(2.0));
+            assertEquals(-1, function.indexOfX(2.5));
+            assertEquals(0, function.indexOfY(10.0));
+            assertEquals(1, function.floorIndexOfX(2.5));
+            assertEquals(3, function.floorIndexOfX(4.0));
+            assertEquals(25.0, function.apply(2.5), 1e-12);
+            assertEquals(5.0, function.apply(0.5), 1e-12);
+            assertEquals(35.0, function.apply(3.5), 1e-12);
+            assertThrows(IllegalArgumentException.class, () -> function.getY(3));
+            assertThrows(InterpolationException.class, () -> function.interpolate(3.5, 0));
+
+            function.setY(0, 0.0);
+            assertEquals(10.0, function.apply(1.5), 1e-12);
+        }
+    }
+
+    @Test
+    public void testInsertAndRemove() {
+        try (OffHeapTabulatedFunction function = new OffHeapTabulatedFunction(x -> 2 * x, 0.0, 4.0, 5)) {
+            for (int i = 0; i < 20; i++) {
+                function.insert(4.5 + i, 0.0); // несколько раз расширяет память
+            }
+            function.insert(0.5, 1.0);
+            function.insert(2.0, 7.0);
+            assertEquals(26, function.getCount());
+            assertEquals(0.5, function.getX(1), 1e-12);
+            assertEquals(7.0, function.getY(3), 1e-12);
+            assertEquals(23.5, function.rightBound(), 1e-12);
+
+            function.remove(1);
+            function.remove(0);
+            assertEquals(24, function.getCount());
+            assertEquals(1.0, function.leftBound(), 1e-12);
+
+            int index = 0;
+            for (Point point : function) {
+                assertEquals(function.getX(index), point.x, 0.0);
+                index++;
+            }
+            assertEquals(24, index);
+        }
+    }
+
+    @Test
+    public void testClose() {
+        OffHeapTabulatedFunction function = new OffHeapTabulatedFunction(new double[]{1.0, 2.0}, new double[]{1.0, 2.0});
+        function.close();
+        function.close();
+        assertTrue(function.isClosed());
+        assertThrows(IllegalStateException.class, () -> function.apply(1.5));
+    }
+
+    @Test
+    public void testOperationsProduceOffHeapResults() {
+        OffHeapTabulatedFunctionFactory factory = new OffHeapTabulatedFunctionFactory();
+        TabulatedFunction a = new ArrayTabulatedFunction(new double[]{0.0, 1.0, 2.0}, new double[]{0.0, 1.0, 4.0});
+        TabulatedFunction b = new ArrayTabulatedFunction(new double[]{0.0, 1.0, 2.0}, new double[]{1.0, 1.0, 1.0});
+
+        TabulatedFunction sum = new TabulatedFunctionOperationService(factory).add(a, b);
+        TabulatedFunction derivative = new TabulatedDifferentialOperator(factory).derive(a);
+        try (OffHeapTabulatedFunction offHeapSum = (OffHeapTabulatedFunction) sum;
+             OffHeapTabulatedFunction offHeapDerivative = (OffHeapTabulatedFunction) derivative) {
+            assertEquals(5.0, offHeapSum.getY(2), 1e-12);
+            assertEquals(2.0, offHeapDerivative.getY(1), 1e-12);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.functions;
+
+import org.example.concurrent.SynchronizedTabulatedFunction;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class PointCursorTest {
+
+    private static final double[] X = {-2.0, -0.5, 0.0, 1.0, 3.5, 4.0};
+    private static final double[] Y = {4.0, 0.25, 0.0, 1.0, 12.25, 16.0};
+
+    private static List<TabulatedFunction> allImplementations() {
+        List<TabulatedFunction> functions = new ArrayList<>();
+        functions.add(new ArrayTabulatedFunction(X, Y));
+        functions.add(new LinkedListTabulatedFunction(X, Y));
+        functions.add(new UniformTabulatedFunction(X, Y));
+        functions.add(new UniformTabulatedFunction(new SqrFunction(), 0.0, 5.0, 6));
+        functions.add(new OffHeapTabulatedFunction(X, Y));
+        functions.add(new StrictTabulatedFunction(new ArrayTabulatedFunction(X, Y)));
+        functions.add(new UnmodifiableTabulatedFunction(new LinkedListTabulatedFunction(X, Y)));
+        functions.add(new SynchronizedTabulatedFunction(new LinkedListTabulatedFunction(X, Y)));
+        return functions;
+    }
+
+    @Test
+    public void testForEachPointVisitsPointsInOrder() {
+        for (TabulatedFunction function : allImplementations()) {
+            String name = function.getClass().getSimpleName();
+            int[] visited = {0};
+            function.forEachPoint((x, y) -> {
+                int i = visited[0]++;
+                assertEquals(name, function.getX(i), x, 0.0);
+                assertEquals(name, function.getY(i), y, 0.0);
+            });
+            assertEquals(name, function.getCount(), visited[0]);
+        }
+    }
+
+    @Test
+    public void testCursorMatchesIndexedAccess() {
+        for (TabulatedFunction function : allImplementations()) {
+            String name = function.getClass().getSimpleName();
+            PointCursor cursor = function.cursor();
+            int expected = 0;
+            while (cursor.next()) {
+                assertEquals(name, expected, cursor.getIndex());
+                assertEquals(name, function.getX(expected), cursor.getX(), 0.0);
+                assertEquals(name, function.getY(expected), cursor.getY(), 0.0);
+                expected++;
+            }
+            assertEquals(name, function.getCount(), expected);
+            assertFalse(name, cursor.next());
+        }
+    }
+
+    @Test
+    public void testCursorResetAllowsSecondPass() {
+        for (TabulatedFunction function : allImplementations()) {
+            PointCursor cursor = function.cursor();
+            double firstPass = 0;
+            while (cursor.next()) {
+                firstPass += cursor.getX() * cursor.getY();
+            }
+            cursor.reset();
+            double secondPass = 0;
+            while (cursor.next()) {
+                secondPass += cursor.getX() * cursor.getY();
+            }
+            assertEquals(function.getClass().getSimpleName(), firstPass, secondPass, 0.0);
+        }
+    }
+
+    @Test
+    public void testCursorSetYWritesThrough() {
+        TabulatedFunction[] functions = {
+                new ArrayTabulatedFunction(X, Y),
+                new LinkedListTabulatedFunction(X, Y),
+                new UniformTabulatedFunction(new SqrFunction(), 0.0, 5.0, 6),
+                new OffHeapTabulatedFunction(X, Y)
+        };
+        for (TabulatedFunction function : functions) {
+            PointCursor cursor = function.cursor();
+            while (cursor.next()) {
+                cursor.setY(cursor.getY() + cursor.getIndex());
+            }
+            for (int i = 0; i < function.getCount(); i++) {
+                double original = functions[2] == function ? function.getX(i) * function.getX(i) : Y[i];
+                assertEquals(original + i, function.getY(i), 1e-12);
+            }
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiableCursorRejectsSetY() {
+        PointCursor cursor = new UnmodifiableTabulatedFunction(new ArrayTabulatedFunction(X, Y)).cursor();
+        assertTrue(cursor.next());
+        cursor.setY(100.0);
+    }
+
+    @Test
+    public void testLinkedListCursorAfterInsertAndRemove() {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(X, Y);
+        function.insert(2.0, 4.0);
+        function.remove(0);
+        PointCursor cursor = function.cursor();
+        int index = 0;
+        while (cursor.next()) {
+            assertEquals(function.getX(index), cursor.getX(), 0.0);
+            index++;
+        }
+        assertEquals(X.length, index);
+    }
+
+    @Test
+    public void testToStringUsesAllPoints() {
+        TabulatedFunction function = new ArrayTabulatedFunction(new double[]{0.0, 1.0}, new double[]{2.0, 3.0});
+        assertEquals("ArrayTabulatedFunction size = 2\n[0.0; 2.0]\n[1.0; 3.0]", function.toString());
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.functions;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class SortedArraySearchTest {
+
+    @Test
+    public void testLowerBound() {
+        double[] values = {1.0, 2.0, 2.0, 3.0, 5.0};
+
+        assertEquals(0, SortedArraySearch.lowerBound(values, 0, 5, 0.5));
+        assertEquals(0, SortedArraySearch.lowerBound(values, 0, 5, 1.0));
+        assertEquals(1, SortedArraySearch.lowerBound(values, 0, 5, 2.0)); // самый левый из одинаковых
+        assertEquals(3, SortedArraySearch.lowerBound(values, 0, 5, 2.5));
+        assertEquals(4, SortedArraySearch.lowerBound(values, 0, 5, 5.0));
+        assertEquals(5, SortedArraySearch.lowerBound(values, 0, 5, 6.0));
+        assertEquals(3, SortedArraySearch.lowerBound(values, 0, 3, 4.0)); // учитывается только диапазон
+    }
+
+    @Test
+    public void testInterpolationMatchesBinaryOnUniformGrid() {
+        double[] values = new double[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 0.5 * i;
+        }
+        Random random = new Random(1);
+        for (int i = 0; i < 10000; i++) {
+            double x = -10 + 520 * random.nextDouble();
+            assertEquals(SortedArraySearch.lowerBound(values, 0, values.length, x),
+                    SortedArraySearch.interpolationLowerBound(values, 0, values.length, x));
+        }
+        assertEquals(10, SortedArraySearch.interpolationLowerBound(values, 0, values.length, 5.0));
+    }
+
+    @Test
+    public void testInterpolationMatchesBinaryOnSkewedGrid() {
+        double[] values = new double[500];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(i * 0.05);
+        }
+        values[100] = values[101]; // повтор значения
+        Random random = new Random(2);
+        for (int i = 0; i < 10000; i++) {
+            double x = Math.exp(26 * random.nextDouble());
+            assertEquals(SortedArraySearch.lowerBound(values, 0, values.length, x),
+                    SortedArraySearch.interpolationLowerBound(values, 0, values.length, x));
+        }
+        assertEquals(100, SortedArraySearch.interpolationLowerBound(values, 0, values.length, values[101]));
+    }
+
+    @Test
+    public void testNaNDoesNotLoop() {
+        double[] values = {1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0, 10.0, 11.0, 12.0};
+        int index = SortedArraySearch.interpolationLowerBound(values, 0, values.length, Double.NaN);
+        assertTrue(index >= 0 && index <= values.length);
+    }
+}
@@ -0,0 +1,201 @@
+package org.example.functions;
+
+import org.example.exceptions.ArrayIsNotSortedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class SplineTabulatedFunctionTest {
+
+    private static final SplineTabulatedFunction.Type NATURAL = SplineTabulatedFunction.Type.NATURAL_CUBIC;
+    private static final SplineTabulatedFunction.Type PCHIP = SplineTabulatedFunction.Type.PCHIP;
+
+    private static double maxError(MathFunction approximation, MathFunction exact, double from, double to) {
+        double error = 0;
+        for (int i = 0; i <= 1000; i++) {
+            double x = from + (to - from) * i / 1000;
+            error = Math.max(error, Math.abs(approximation.apply(x) - exact.apply(x)));
+        }
+        return error;
+    }
+
+    @Test
+    public void testPassesThroughNodes() {
+        double[] xValues = {0.0, 0.5, 1.5, 2.0, 4.0};
+        double[] yValues = {1.0, -2.0, 3.0, 0.5, 2.0};
+        for (SplineTabulatedFunction.Type type : SplineTabulatedFunction.Type.values()) {
+            SplineTabulatedFunction spline = new SplineTabulatedFunction(xValues, yValues, type);
+            for (int i = 0; i < xValues.length; i++) {
+                assertEquals(yValues[i], spline.apply(xValues[i]), 0);
+                // Полином интервала в правом узле даёт то же значение
+                if (i > 0) {
+                    assertEquals(yValues[i], spline.interpolate(xValues[i], i - 1), 1e-12);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testReproducesLinearFunction() {
+        MathFunction linear = x -> 3 * x - 1;
+        for (SplineTabulatedFunction.Type type : SplineTabulatedFunction.Type.values()) {
+            SplineTabulatedFunction spline = new SplineTabulatedFunction(linear, -2, 5, 8, type);
+            assertEquals(0, maxError(spline, linear, -3, 6), 1e-12);
+        }
+    }
+
+    @Test
+    public void testFarMoreAccurateThanLinearOnSameTable() {
+        MathFunction sin = Math::sin;
+        double linear = maxError(new ArrayTabulatedFunction(sin, 0, Math.PI, 21), sin, 0, Math.PI);
+        double natural = maxError(new SplineTabulatedFunction(sin, 0, Math.PI, 21, NATURAL), sin, 0, Math.PI);
+        double pchip = maxError(new SplineTabulatedFunction(sin, 0, Math.PI, 21, PCHIP), sin, 0, Math.PI);
+
+        // Для sin вторая производная на концах [0, π] нулевая - естественный сплайн почти точен
+        assertTrue(natural * 100 < linear);
+        assertTrue(pchip < linear);
+    }
+
+    @Test
+    public void testNaturalSplineIsC2() {
+        SplineTabulatedFunction spline = new SplineTabulatedFunction(
+                new double[]{0, 1, 3, 4, 7}, new double[]{0, 2, 1, 5, 3}, NATURAL);
+        double h = 1e-6;
+        for (double node : new double[]{1, 3, 4}) {
+            assertEquals(spline.derivative(node - h), spline.derivative(node + h), 1e-4);
+        }
+        // Естественные краевые условия: вторая производная на концах равна нулю
+        double left = (spline.derivative(h) - spline.derivative(0)) / h;
+        assertEquals(0, left, 1e-4);
+    }
+
+    @Test
+    public void testPchipPreservesMonotonicity() {
+        // Ступенька: естественный сплайн даёт выбросы, PCHIP - нет
+        double[] xValues = {0, 1, 2, 3, 4, 5};
+        double[] yValues = {0, 0, 0, 1, 1, 1};
+        SplineTabulatedFunction pchip = new SplineTabulatedFunction(xValues, yValues, PCHIP);
+        SplineTabulatedFunction natural = new SplineTabulatedFunction(xValues, yValues, NATURAL);
+
+        double previous = pchip.apply(0);
+        boolean naturalOvershoots = false;
+        for (int i = 1; i <= 500; i++) {
+            double x = 5.0 * i / 500;
+            double value = pchip.apply(x);
+            assertTrue(value >= previous - 1e-15);
+            assertTrue(value >= 0 && value <= 1);
+            previous = value;
+            double naturalValue = natural.apply(x);
+            naturalOvershoots |= naturalValue < -1e-3 || naturalValue > 1 + 1e-3;
+        }
+        assertTrue(naturalOvershoots);
+    }
+
+    @Test
+    public void testTwoPointsIsLinear() {
+        for (SplineTabulatedFunction.Type type : SplineTabulatedFunction.Type.values()) {
+            SplineTabulatedFunction spline = new SplineTabulatedFunction(new double[]{1, 3}, new double[]{2, 6}, type);
+            assertEquals(4.0, spline.apply(2.0), 1e-15);
+            assertEquals(0.0, spline.apply(0.0), 1e-15);
+            assertEquals(10.0, spline.apply(5.0), 1e-15);
+        }
+    }
+
+    @Test
+    public void testExtrapolationContinuesEndTangent() {
+        SplineTabulatedFunction spline = new SplineTabulatedFunction(Math::exp, 0, 1, 11, NATURAL);
+        double rightSlope = spline.derivative(1.0);
+
+        assertEquals(spline.apply(1.0) + 0.5 * rightSlope, spline.apply(1.5), 1e-12);
+        assertEquals(spline.apply(0.0) - 0.5 * spline.derivative(0.0), spline.apply(-0.5), 1e-12);
+    }
+
+    @Test
+    public void testApplyAllMatchesApply() {
+        SplineTabulatedFunction spline = new SplineTabulatedFunction(Math::cos, -3, 3, 15, PCHIP);
+        double[] xs = new double[101];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = -4 + 8.0 * i / 100;
+        }
+        xs[50] = Double.NaN;
+        double[] out = new double[xs.length];
+        spline.applyAll(xs, out);
+
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(spline.apply(xs[i]), out[i], 0);
+        }
+    }
+
+    @Test
+    public void testSetYRebuildsCoefficients() {
+        SplineTabulatedFunction spline = new SplineTabulatedFunction(x -> x, 0, 4, 5, NATURAL);
+        assertEquals(1.5, spline.apply(1.5), 1e-12);
+
+        spline.setY(2, 10.0);
+        SplineTabulatedFunction expected = new SplineTabulatedFunction(
+                new double[]{0, 1, 2, 3, 4}, new double[]{0, 1, 10, 3, 4}, NATURAL);
+        assertEquals(expected.apply(1.5), spline.apply(1.5), 1e-12);
+
+        spline.replaceAllY((x, y) -> 2 * x);
+        assertEquals(3.0, spline.apply(1.5), 1e-12);
+    }
+
+    @Test
+    public void testSerializationRecomputesCoefficients() throws Exception {
+        SplineTabulatedFunction spline = new SplineTabulatedFunction(Math::sin, 0, 3, 10, PCHIP);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(spline);
+        }
+        SplineTabulatedFunction restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (SplineTabulatedFunction) in.readObject();
+        }
+
+        assertEquals(PCHIP, restored.getType());
+        assertEquals(spline.apply(1.234), restored.apply(1.234), 0);
+        assertEquals(spline.derivative(2.5), restored.derivative(2.5), 0);
+    }
+
+    @Test
+    public void testIndexAndBounds() {
+        SplineTabulatedFunction spline = new SplineTabulatedFunction(
+                new double[]{-1, 0, 2}, new double[]{5, 6, 7}, NATURAL);
+
+        assertEquals(3, spline.getCount());
+        assertEquals(-1, spline.leftBound(), 0);
+        assertEquals(2, spline.rightBound(), 0);
+        assertEquals(1, spline.indexOfX(0));
+        assertEquals(-1, spline.indexOfX(1));
+        assertEquals(2, spline.indexOfY(7));
+        assertEquals(1, spline.floorIndexOfX(1.0));
+
+        int points = 0;
+        for (Point point : spline) {
+            assertEquals(spline.getX(points), point.x, 0);
+            points++;
+        }
+        assertEquals(3, points);
+    }
+
+    @Test(expected = ArrayIsNotSortedException.class)
+    public void testDuplicateXThrows() {
+        new SplineTabulatedFunction(new double[]{0, 1, 1, 2}, new double[]{0, 1, 2, 3}, NATURAL);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullTypeThrows() {
+        new SplineTabulatedFunction(new double[]{0, 1}, new double[]{0, 1}, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooFewPointsThrows() {
+        new SplineTabulatedFunction(new double[]{0}, new double[]{0}, PCHIP);
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.functions;
+
+import org.example.exceptions.InterpolationException;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class UniformTabulatedFunctionTest {
+
+    @Test
+    public void testSameGridAsArrayFunction() {
+        MathFunction source = x -> x * x;
+        ArrayTabulatedFunction array = new ArrayTabulatedFunction(source, -1.3, 7.9, 101);
+        UniformTabulatedFunction uniform = new UniformTabulatedFunction(source, -1.3, 7.9, 101);
+
+        assertTrue(uniform.isUniform());
+        assertEquals(array.getCount(), uniform.getCount());
+        for (int i = 0; i < array.getCount(); i++) {
+            assertEquals(array.getX(i), uniform.getX(i), 0.0);
+            assertEquals(array.getY(i), uniform.getY(i), 0.0);
+            assertEquals(i, uniform.indexOfX(array.getX(i)));
+        }
+        for (double x = -3; x < 10; x += 0.0137) {
+            assertEquals(array.apply(x), uniform.apply(x), 1e-12);
+            if (x >= uniform.leftBound()) {
+                assertEquals(array.floorIndexOfX(x), uniform.floorIndexOfX(x));
+            }
+        }
+    }
+
+    @Test
+    public void testArraysConstructorDetectsUniformGrid() {
+        ArrayTabulatedFunction array = new ArrayTabulatedFunction(Math::sin, 0.1, 0.7, 7);
+        double[] xValues = new double[7];
+        double[] yValues = new double[7];
+        for (int i = 0; i < 7; i++) {
+            xValues[i] = array.getX(i);
+            yValues[i] = array.getY(i);
+        }
+
+        UniformTabulatedFunction uniform = new UniformTabulatedFunction(xValues, yValues);
+        assertTrue(uniform.isUniform());
+        for (int i = 0; i < 7; i++) {
+            assertEquals(xValues[i], uniform.getX(i), 0.0);
+        }
+
+        UniformTabulatedFunction irregular = new UniformTabulatedFunction(new double[]{1.0, 2.0, 4.0}, new double[]{1.0, 2.0, 3.0});
+        assertFalse(irregular.isUniform());
+        assertEquals(2.5, irregular.apply(3.0), 1e-12);
+    }
+
+    @Test
+    public void testApplyAndBounds() {
+        UniformTabulatedFunction function = new UniformTabulatedFunction(new double[]{1.0, 2.0, 3.0}, new double[]{10.0, 20.0, 30.0});
+
+        assertEquals(20.0, function.apply(2.0), 1e-12);
+        assertEquals(25.0, function.apply(2.5), 1e-12);
+        assertEquals(5.0, function.apply(0.5), 1e-12);
+        assertEquals(35.0, function.apply(3.5), 1e-12);
+        assertEquals(1, function.floorIndexOfX(2.5));
+        assertEquals(3, function.floorIndexOfX(4.0));
+        assertEquals(-1, function.indexOfX(2.5));
+        assertEquals(2, function.indexOfY(30.0));
+        assertThrows(IllegalArgumentException.class, () -> function.getX(3));
+        assertThrows(IllegalArgumentException.class, () -> function.floorIndexOfX(0.5));
+        assertThrows(InterpolationException.class, () -> function.interpolate(3.5, 0));
+    }
+
+    @Test
+    public void testInsertKeepingUniformity() {
+        UniformTabulatedFunction function = new UniformTabulatedFunction(new double[]{1.0, 2.0, 3.0}, new double[]{10.0, 20.0, 30.0});
+
+        function.insert(2.0, 21.0);
+        function.insert(4.0, 40.0);
+        assertTrue(function.isUniform());
+        assertEquals(4, function.getCount());
+        assertEquals(21.0, function.getY(1), 1e-12);
+        assertEquals(35.0, function.apply(3.5), 1e-12);
+
+        function.remove(3);
+        assertTrue(function.isUniform());
+        assertEquals(3.0, function.rightBound(), 1e-12);
+    }
+
+    @Test
+    public void testInsertBreakingUniformityConverts() {
+        UniformTabulatedFunction function = new UniformTabulatedFunction(new double[]{1.0, 2.0, 3.0}, new double[]{10.0, 20.0, 30.0});
+
+        function.insert(2.5, 0.0);
+        assertFalse(function.isUniform());
+        assertEquals(4, function.getCount());
+        assertEquals(2.5, function.getX(2), 1e-12);
+        assertEquals(10.0, function.apply(2.25), 1e-12);
+
+        function.remove(0);
+        assertEquals(3, function.getCount());
+        assertEquals(2.0, function.leftBound(), 1e-12);
+
+        int count = 0;
+        for (Point point : function) {
+            assertEquals(function.getX(count), point.x, 0.0);
+            count++;
+        }
+        assertEquals(3, count);
+    }
+}
@@ -2,7 +2,9 @@ package org.example.functions.factory;
 
 import org.example.functions.ArrayTabulatedFunction;
 import org.example.functions.LinkedListTabulatedFunction;
+import org.example.functions.SplineTabulatedFunction;
 import org.example.functions.TabulatedFunction;
+import org.example.functions.UniformTabulatedFunction;
 
 import org.junit.Test;
 
@@ -180,6 +182,39 @@ public class TabulatedFunctionFactoryTest {
         // Проверяем корректные вызовы
         assertEquals(6.0, function1.apply(3.0), 1e-10);
     }
-}
 
+    @Test
+    public void testUniformFactoryCreate() {
+        TabulatedFunctionFactory factory = new UniformTabulatedFunctionFactory();
+
+        TabulatedFunction uniform = factory.create(new double[]{0.0, 0.5, 1.0}, new double[]{1.0, 2.0, 3.0});
+        assertTrue(uniform instanceof UniformTabulatedFunction);
+        assertTrue(((UniformTabulatedFunction) uniform).isUniform());
+        assertEquals(2.5, uniform.apply(0.75), 1e-12);
+
+        TabulatedFunction irregular = factory.create(new double[]{0.0, 0.5, 2.0}, new double[]{1.0, 2.0, 3.0});
+        assertFalse(((UniformTabulatedFunction) irregular).isUniform());
+        assertEquals(2.5, irregular.apply(1.25), 1e-12);
+    }
 
+    @Test
+    public void testSplineFactory() {
+        double[] xValues = {0.0, 1.0, 2.0, 3.0};
+        double[] yValues = {0.0, 1.0, 0.0, 1.0};
+
+        TabulatedFunction natural = new SplineTabulatedFunctionFactory().create(xValues, yValues);
+        TabulatedFunction pchip = new SplineTabulatedFunctionFactory(SplineTabulatedFunction.Type.PCHIP)
+                .create(xValues, yValues);
+
+        assertEquals(SplineTabulatedFunction.Type.NATURAL_CUBIC, ((SplineTabulatedFunction) natural).getType());
+        assertEquals(SplineTabulatedFunction.Type.PCHIP, ((SplineTabulatedFunction) pchip).getType());
+        assertEquals(1.0, natural.apply(1.0), 0);
+        // Узел 1 - локальный максимум, у PCHIP производная там нулевая и выброса нет
+        assertTrue(pchip.apply(0.9) <= 1.0);
+        assertTrue(natural.apply(0.9) != pchip.apply(0.9));
+
+        TabulatedFunction onGrid = new SplineTabulatedFunctionFactory().createOnGrid(natural, new double[]{1, 2, 3, 4});
+        assertTrue(onGrid instanceof SplineTabulatedFunction);
+        assertEquals(2.5, onGrid.apply(1.5), 1e-12);
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.io;
+
+import org.example.functions.ArrayTabulatedFunction;
+import org.example.functions.TabulatedFunction;
+import org.example.functions.factory.ArrayTabulatedFunctionFactory;
+import org.junit.Test;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.*;
+
+public class MappedTabulatedFunctionTest {
+
+    private Path writeFunction(TabulatedFunction function) throws IOException {
+        Path path = Files.createTempFile("mapped-function", ".bin");
+        path.toFile().deleteOnExit();
+        try (OutputStream stream = Files.newOutputStream(path);
+             BufferedOutputStream buffered = new BufferedOutputStream(stream)) {
+            FunctionsIO.writeTabulatedFunction(buffered, function);
+        }
+        return path;
+    }
+
+    @Test
+    public void testReadOnlyMapping() throws IOException {
+        ArrayTabulatedFunction source = new ArrayTabulatedFunction(Math::sin, 0.0, 10.0, 1001);
+        Path path = writeFunction(source);
+
+        try (MappedTabulatedFunction mapped = FunctionsIO.mapTabulatedFunction(path, false)) {
+            assertEquals(1001, mapped.getCount());
+            assertFalse(mapped.isWritable());
+            assertEquals(source.getX(500), mapped.getX(500), 0.0);
+            assertEquals(source.getY(1000), mapped.getY(1000), 0.0);
+            assertEquals(0.0, mapped.leftBound(), 0.0);
+            assertEquals(10.0, mapped.rightBound(), 1e-12);
+            for (double x = -1; x < 11; x += 0.0371) {
+                assertEquals(source.apply(x), mapped.apply(x), 1e-12);
+            }
+            assertEquals(500, mapped.indexOfX(source.getX(500)));
+            assertEquals(-1, mapped.indexOfX(5.00001));
+            assertThrows(UnsupportedOperationException.class, () -> mapped.setY(0, 1.0));
+        }
+    }
+
+    @Test
+    public void testWriteThrough() throws IOException {
+        Path path = writeFunction(new ArrayTabulatedFunction(new double[]{1.0, 2.0, 3.0}, new double[]{10.0, 20.0, 30.0}));
+
+        try (MappedTabulatedFunction mapped = MappedTabulatedFunction.open(path, true)) {
+            mapped.setY(1, 0.0);
+            assertEquals(5.0, mapped.apply(1.5), 1e-12);
+            mapped.force();
+        }
+
+        try (InputStream stream = Files.newInputStream(path);
+             BufferedInputStream buffered = new BufferedInputStream(stream)) {
+            TabulatedFunction reread = FunctionsIO.readTabulatedFunction(buffered, new ArrayTabulatedFunctionFactory());
+            assertEquals(0.0, reread.getY(1), 0.0);
+            assertEquals(30.0, reread.getY(2), 0.0);
+        }
+    }
+
+    @Test
+    public void testTruncatedFile() throws IOException {
+        Path path = Files.createTempFile("mapped-function", ".bin");
+        path.toFile().deleteOnExit();
+        Files.write(path, new byte[]{0, 0, 0, 5, 1, 2, 3});
+
+        assertThrows(IOException.class, () -> MappedTabulatedFunction.open(path));
+    }
+
+    @Test
+    public void testClosedMapping() throws IOException {
+        Path path = writeFunction(new ArrayTabulatedFunction(new double[]{1.0, 2.0}, new double[]{1.0, 2.0}));
+        MappedTabulatedFunction mapped = MappedTabulatedFunction.open(path);
+        mapped.close();
+        mapped.close();
+        assertThrows(IllegalStateException.class, () -> mapped.getY(0));
+    }
+}
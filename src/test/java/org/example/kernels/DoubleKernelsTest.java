@@ -0,0 +1,79 @@
+package org.example.kernels;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class DoubleKernelsTest {
+
+    // Сборка запускает тесты с jdk.incubator.vector (argLine в pom.xml), поэтому выбраны векторные ядра,
+    // и они должны давать те же биты, что и скалярные
+    @Test
+    public void testSelectedMatchesScalar() {
+        DoubleKernels scalar = DoubleKernels.scalar();
+        DoubleKernels selected = DoubleKernels.get();
+        assertTrue("Векторные ядра не выбраны: тесты запущены без --add-modules jdk.incubator.vector",
+                selected.isVectorized());
+        Random random = new Random(3);
+
+        int size = 1037;
+        double[] a = new double[size];
+        double[] b = new double[size];
+        int[] floor = new int[size];
+        double[] tableX = new double[size + 1];
+        double[] tableY = new double[size + 1];
+        for (int i = 0; i <= size; i++) {
+            tableX[i] = i + random.nextDouble() * 0.5;
+            tableY[i] = random.nextGaussian();
+        }
+        for (int i = 0; i < size; i++) {
+            a[i] = random.nextGaussian();
+            b[i] = random.nextGaussian();
+            floor[i] = random.nextInt(size);
+        }
+        double[] xs = new double[size];
+        for (int i = 0; i < size; i++) {
+            xs[i] = tableX[floor[i]] + random.nextDouble() * (tableX[floor[i] + 1] - tableX[floor[i]]);
+        }
+
+        double[] expected = new double[size];
+        double[] actual = new double[size];
+
+        scalar.add(a, b, expected, 3, size);
+        selected.add(a, b, actual, 3, size);
+        assertArrayEquals(expected, actual, 0.0);
+
+        scalar.sub(a, b, expected, 0, size);
+        selected.sub(a, b, actual, 0, size);
+        assertArrayEquals(expected, actual, 0.0);
+
+        scalar.mult(a, b, expected, 0, size - 5);
+        selected.mult(a, b, actual, 0, size - 5);
+        assertArrayEquals(expected, actual, 0.0);
+
+        scalar.div(a, b, expected, 0, size);
+        selected.div(a, b, actual, 0, size);
+        assertArrayEquals(expected, actual, 0.0);
+
+        scalar.interpolate(xs, floor, tableX, tableY, expected, 0, size);
+        selected.interpolate(xs, floor, tableX, tableY, actual, 0, size);
+        assertArrayEquals(expected, actual, 0.0);
+
+        // floor отсчитывается от начала диапазона
+        int from = 100;
+        int[] shiftedFloor = Arrays.copyOfRange(floor, from, size);
+        selected.interpolate(xs, shiftedFloor, tableX, tableY, actual, from, size);
+        scalar.interpolate(xs, shiftedFloor, tableX, tableY, expected, from, size);
+        assertArrayEquals(expected, actual, 0.0);
+    }
+
+    @Test
+    public void testScalarInterpolate() {
+        double[] out = new double[2];
+        DoubleKernels.scalar().interpolate(new double[]{0.5, 2.5}, new int[]{0, 1}, new double[]{0, 1, 3}, new double[]{0, 2, 0}, out, 0, 2);
+        assertArrayEquals(new double[]{1.0, 0.5}, out, 1e-12);
+    }
+}
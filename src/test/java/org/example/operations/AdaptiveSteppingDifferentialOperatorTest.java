@@ -0,0 +1,113 @@
+package org.example.operations;
+
+import org.example.functions.MathFunction;
+import org.example.functions.SqrFunction;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class AdaptiveSteppingDifferentialOperatorTest {
+
+    @Test
+    public void testSqrConvergesAfterTwoLevels() {
+        AdaptiveSteppingDifferentialOperator operator = new AdaptiveSteppingDifferentialOperator(0.1, 1e-10);
+
+        // Центральная разность для x² точна, поэтому хватает двух шагов - четырёх вызовов
+        AdaptiveSteppingDifferentialOperator.Estimate estimate = operator.estimate(new SqrFunction(), 3.0);
+        assertEquals(6.0, estimate.getValue(), 1e-12);
+        assertEquals(4, estimate.getEvaluations());
+        assertTrue(estimate.isConverged());
+    }
+
+    @Test
+    public void testSinMatchesCosWithinTolerance() {
+        AdaptiveSteppingDifferentialOperator operator = new AdaptiveSteppingDifferentialOperator(0.5, 1e-9);
+        MathFunction derivative = operator.derive(Math::sin);
+
+        for (double x = -2; x <= 2; x += 0.25) {
+            assertEquals(Math.cos(x), derivative.apply(x), 1e-9);
+        }
+    }
+
+    @Test
+    public void testReportedEvaluationsMatchActualCalls() {
+        AtomicInteger calls = new AtomicInteger();
+        MathFunction exp = x -> {
+            calls.incrementAndGet();
+            return Math.exp(x);
+        };
+        AdaptiveSteppingDifferentialOperator operator = new AdaptiveSteppingDifferentialOperator(0.5, 1e-10);
+        AdaptiveSteppingDifferentialOperator.AdaptiveDerivative derivative = operator.derive(exp);
+
+        AdaptiveSteppingDifferentialOperator.Estimate first = derivative.estimate(1.0);
+        assertEquals(Math.E, first.getValue(), 1e-10);
+        assertEquals(calls.get(), first.getEvaluations());
+
+        derivative.apply(0.0);
+        assertEquals(calls.get(), derivative.getEvaluationCount());
+        assertEquals(2, derivative.getCallCount());
+    }
+
+    @Test
+    public void testLooserToleranceNeedsFewerEvaluations() {
+        MathFunction exp = Math::exp;
+        int loose = new AdaptiveSteppingDifferentialOperator(0.5, 1e-3).estimate(exp, 1.0).getEvaluations();
+        int tight = new AdaptiveSteppingDifferentialOperator(0.5, 1e-11).estimate(exp, 1.0).getEvaluations();
+
+        assertTrue(loose < tight);
+    }
+
+    @Test
+    public void testMoreAccurateThanFixedStep() {
+        MathFunction exp = Math::exp;
+        double fixed = new MiddleSteppingDifferentialOperator(0.01).derive(exp).apply(1.0);
+        AdaptiveSteppingDifferentialOperator.Estimate adaptive =
+                new AdaptiveSteppingDifferentialOperator(0.01, 1e-12).estimate(exp, 1.0);
+
+        assertTrue(Math.abs(adaptive.getValue() - Math.E) < Math.abs(fixed - Math.E));
+    }
+
+    @Test
+    public void testNotConvergedWhenLevelsRunOut() {
+        // Шаг 1.0 захватывает излом sqrt(|x - 0.3|), и за два уровня допуск недостижим
+        AdaptiveSteppingDifferentialOperator operator = new AdaptiveSteppingDifferentialOperator(1.0, 1e-14, 2);
+        AdaptiveSteppingDifferentialOperator.Estimate estimate = operator.estimate(x -> Math.sqrt(Math.abs(x - 0.3)), 0.0);
+
+        assertFalse(estimate.isConverged());
+        assertEquals(4, estimate.getEvaluations());
+    }
+
+    @Test
+    public void testSetters() {
+        AdaptiveSteppingDifferentialOperator operator = new AdaptiveSteppingDifferentialOperator(0.1, 1e-6);
+        operator.setTolerance(1e-8);
+        operator.setMaxLevels(5);
+        operator.setStep(0.2);
+
+        assertEquals(1e-8, operator.getTolerance(), 0);
+        assertEquals(5, operator.getMaxLevels());
+        assertEquals(0.2, operator.getStep(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveToleranceThrows() {
+        new AdaptiveSteppingDifferentialOperator(0.1, 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNaNToleranceThrows() {
+        new AdaptiveSteppingDifferentialOperator(0.1, Double.NaN);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooFewLevelsThrows() {
+        new AdaptiveSteppingDifferentialOperator(0.1, 1e-6, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidStepThrows() {
+        new AdaptiveSteppingDifferentialOperator(-0.1, 1e-6);
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.operations;
+
+import org.example.functions.CompositeFunction;
+import org.example.functions.ConstantFunction;
+import org.example.functions.DifferentiableFunction;
+import org.example.functions.Dual;
+import org.example.functions.IdentityFunction;
+import org.example.functions.MathFunction;
+import org.example.functions.SqrFunction;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class AutomaticDifferentialOperatorTest {
+
+    private final AutomaticDifferentialOperator operator = new AutomaticDifferentialOperator();
+
+    @Test
+    public void testSqrIsExact() {
+        MathFunction derivative = operator.derive(new SqrFunction());
+
+        // В отличие от разностных операторов, ответ точен, а не приближён с шагом
+        assertEquals(0.0, derivative.apply(0.0), 0);
+        assertEquals(2.0, derivative.apply(1.0), 0);
+        assertEquals(2e8, derivative.apply(1e8), 0);
+    }
+
+    @Test
+    public void testChainRuleThroughAndThen() {
+        // ((x²)²)² = x⁸, производная 8x⁷
+        CompositeFunction power8 = new SqrFunction().andThen(new SqrFunction()).andThen(new SqrFunction());
+        MathFunction derivative = operator.derive(power8);
+
+        assertEquals(8 * Math.pow(1.5, 7), derivative.apply(1.5), 1e-12);
+    }
+
+    @Test
+    public void testIdentityAndConstant() {
+        assertEquals(1.0, operator.derive(new IdentityFunction()).apply(42.0), 0);
+        assertEquals(0.0, operator.derive(new ConstantFunction(3.0)).apply(42.0), 0);
+    }
+
+    @Test
+    public void testSingleEvaluationPerPoint() {
+        int[] calls = {0};
+        DifferentiableFunction counted = x -> {
+            calls[0]++;
+            return x.sin();
+        };
+        MathFunction derivative = operator.derive(counted);
+
+        assertEquals(Math.cos(0.3), derivative.apply(0.3), 1e-15);
+        assertEquals(1, calls[0]);
+    }
+
+    @Test
+    public void testValueAndDerivative() {
+        Dual result = operator.valueAndDerivative(new SqrFunction().andThen(new ConstantFunction(1.0)), 4.0);
+
+        assertEquals(1.0, result.getValue(), 0);
+        assertEquals(0.0, result.getDerivative(), 0);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testPlainLambdaIsRejected() {
+        operator.derive(x -> x * x);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testCompositeWithPlainPartIsRejected() {
+        MathFunction plain = Math::exp;
+        operator.derive(plain.andThen(new SqrFunction()));
+    }
+}
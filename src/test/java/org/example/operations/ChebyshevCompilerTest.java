@@ -0,0 +1,161 @@
+package org.example.operations;
+
+import org.example.functions.MathFunction;
+import org.example.functions.PiecewiseChebyshevFunction;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ChebyshevCompilerTest {
+
+    private static double maxError(MathFunction approximation, MathFunction exact, double from, double to) {
+        double error = 0;
+        for (int i = 0; i <= 2000; i++) {
+            double x = from + (to - from) * i / 2000;
+            error = Math.max(error, Math.abs(approximation.apply(x) - exact.apply(x)));
+        }
+        return error;
+    }
+
+    @Test
+    public void testSmoothFunctionIsOnePiece() {
+        MathFunction exp = Math::exp;
+        PiecewiseChebyshevFunction compiled = new ChebyshevCompiler(1e-14).compile(exp, -1, 1);
+
+        assertTrue(compiled.isConverged());
+        assertEquals(1, compiled.getPieceCount());
+        assertTrue(compiled.getCoefficientCount() < 20);
+        assertEquals(0, maxError(compiled, exp, -1, 1), 1e-14);
+    }
+
+    @Test
+    public void testCoefficientsFarFewerThanEquivalentTable() {
+        MathFunction sin = Math::sin;
+        PiecewiseChebyshevFunction compiled = new ChebyshevCompiler(1e-12).compile(sin, 0, 10);
+
+        // Линейной таблице для 1e-12 на [0, 10] понадобилось бы ~10^7 точек
+        assertTrue(compiled.getCoefficientCount() < 40);
+        assertEquals(0, maxError(compiled, sin, 0, 10), 1e-12);
+        assertEquals(0, compiled.leftBound(), 0);
+        assertEquals(10, compiled.rightBound(), 0);
+    }
+
+    @Test
+    public void testKinkIsIsolatedBySplitting() {
+        MathFunction kink = x -> Math.abs(x - 0.3);
+        PiecewiseChebyshevFunction compiled = new ChebyshevCompiler(1e-8).compile(kink, -1, 1);
+
+        assertTrue(compiled.isConverged());
+        assertTrue(compiled.getPieceCount() > 1);
+        assertEquals(0, maxError(compiled, kink, -1, 1), 1e-8);
+        for (int p = 0; p < compiled.getPieceCount(); p++) {
+            assertTrue(compiled.getBreakpoint(p) < compiled.getBreakpoint(p + 1));
+            assertTrue(compiled.getDegree(p) <= ChebyshevCompiler.DEFAULT_MAX_DEGREE);
+        }
+    }
+
+    @Test
+    public void testExpensiveFunctionEvaluatedOnlyWhileCompiling() {
+        AtomicLong calls = new AtomicLong();
+        // "Дорогая" функция: квадратный корень итерациями Герона
+        MathFunction heron = x -> {
+            calls.incrementAndGet();
+            double root = x;
+            for (int i = 0; i < 60; i++) {
+                root = 0.5 * (root + x / root);
+            }
+            return root;
+        };
+        PiecewiseChebyshevFunction compiled = new ChebyshevCompiler(1e-12).compile(heron, 1, 4);
+
+        assertEquals(calls.get(), compiled.getSourceEvaluations());
+        long afterCompile = calls.get();
+        assertEquals(0, maxError(compiled, Math::sqrt, 1, 4), 1e-12);
+        assertEquals(afterCompile, calls.get());
+    }
+
+    @Test
+    public void testApplyAllMatchesApply() {
+        PiecewiseChebyshevFunction compiled = new ChebyshevCompiler(1e-10).compile(x -> Math.sin(50 * x), 0, 3);
+        assertTrue(compiled.getPieceCount() > 1);
+
+        double[] xs = new double[301];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = -0.5 + 4.0 * i / 300;
+        }
+        xs[100] = Double.NaN;
+        xs[200] = 0.1;
+        double[] out = new double[xs.length];
+        compiled.applyAll(xs, out);
+
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(compiled.apply(xs[i]), out[i], 0);
+        }
+    }
+
+    @Test
+    public void testPieceLimitReportsNotConverged() {
+        ChebyshevCompiler compiler = new ChebyshevCompiler(1e-12);
+        compiler.setMaxPieces(4);
+        compiler.setMaxDegree(16);
+        PiecewiseChebyshevFunction compiled = compiler.compile(Math::sqrt, 0, 1);
+
+        assertFalse(compiled.isConverged());
+        assertTrue(compiled.getPieceCount() <= 4);
+        // Результат всё равно пригоден как приближение
+        assertEquals(0, maxError(compiled, Math::sqrt, 0.5, 1), 1e-6);
+    }
+
+    @Test
+    public void testLowDegreeLimitForcesMorePieces() {
+        MathFunction exp = Math::exp;
+        ChebyshevCompiler compiler = new ChebyshevCompiler(1e-12);
+        compiler.setMaxDegree(8);
+        PiecewiseChebyshevFunction compiled = compiler.compile(exp, 0, 4);
+
+        assertTrue(compiled.isConverged());
+        assertTrue(compiled.getPieceCount() > 1);
+        assertEquals(0, maxError(compiled, exp, 0, 4), 1e-12 * Math.exp(4));
+    }
+
+    @Test
+    public void testChebyshevCoefficientsOfPolynomial() {
+        // x^2 = T0/2 + T2/2, значения в узлах cos(πk/4)
+        int degree = 4;
+        double[] values = new double[degree + 1];
+        for (int k = 0; k <= degree; k++) {
+            double x = Math.cos(Math.PI * k / degree);
+            values[k] = x * x;
+        }
+        double[] coefficients = ChebyshevCompiler.chebyshevCoefficients(values, degree);
+
+        assertArrayEquals(new double[]{0.5, 0, 0.5, 0, 0}, coefficients, 1e-15);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyIntervalThrows() {
+        new ChebyshevCompiler(1e-8).compile(Math::exp, 1, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveToleranceThrows() {
+        new ChebyshevCompiler(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooSmallMaxDegreeThrows() {
+        new ChebyshevCompiler(1e-8).setMaxDegree(2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveMaxPiecesThrows() {
+        new ChebyshevCompiler(1e-8).setMaxPieces(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInconsistentOffsetsThrow() {
+        new PiecewiseChebyshevFunction(new double[]{0, 1}, new double[]{1, 2}, new int[]{0, 3}, true, 0);
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.operations;
+
+import org.example.functions.DifferentiableFunction;
+import org.example.functions.MathFunction;
+import org.example.functions.NewtonFunction;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class NewtonBatchSolverTest {
+
+    // x² - 4: корни ±2, в нуле производная нулевая
+    private static final MathFunction QUADRATIC = x -> x * x - 4;
+    private static final MathFunction QUADRATIC_DERIVATIVE = x -> 2 * x;
+
+    private static double[] guesses(int count) {
+        double[] guesses = new double[count];
+        for (int i = 0; i < count; i++) {
+            guesses[i] = -10 + 20.0 * i / (count - 1);
+        }
+        return guesses;
+    }
+
+    @Test
+    public void testSequentialMatchesApply() {
+        NewtonFunction newton = new NewtonFunction(QUADRATIC, QUADRATIC_DERIVATIVE, 1e-12, 100);
+        NewtonBatchSolver solver = new NewtonBatchSolver();
+        solver.setParallelPool(null);
+
+        double[] guesses = {3.0, -5.0, 0.5, 100.0};
+        NewtonBatchSolver.Result result = solver.solve(newton, guesses);
+
+        assertEquals(4, result.size());
+        for (int i = 0; i < guesses.length; i++) {
+            assertTrue(result.isConverged(i));
+            assertEquals(newton.apply(guesses[i]), result.getRoot(i), 0);
+            assertTrue(result.getIterations(i) > 0);
+        }
+        assertEquals(-2.0, result.getRoot(1), 1e-12);
+    }
+
+    @Test
+    public void testFailureIsDistinguishedFromRootAtZero() {
+        // sin имеет корень в 0, а из x = π/2 производная нулевая
+        NewtonFunction newton = new NewtonFunction(Math::sin, Math::cos, 1e-12, 50);
+        NewtonBatchSolver solver = new NewtonBatchSolver();
+
+        NewtonBatchSolver.Result result = solver.solve(newton, new double[]{0.1, Math.PI / 2});
+
+        assertTrue(result.isConverged(0));
+        assertEquals(0.0, result.getRoot(0), 1e-12);
+        assertFalse(result.isConverged(1));
+        assertEquals(Math.PI / 2, result.getRoot(1), 0);
+        assertEquals(1, result.getConvergedCount());
+    }
+
+    @Test
+    public void testMaxIterationsReported() {
+        // x² + 1 не имеет вещественных корней
+        NewtonFunction newton = new NewtonFunction(x -> x * x + 1, x -> 2 * x, 1e-12, 25);
+        NewtonBatchSolver.Result result = new NewtonBatchSolver().solve(newton, new double[]{0.3});
+
+        assertFalse(result.isConverged(0));
+        assertEquals(25, result.getIterations(0));
+    }
+
+    @Test
+    public void testParallelMatchesSequential() {
+        NewtonFunction newton = new NewtonFunction(QUADRATIC, QUADRATIC_DERIVATIVE, 1e-12, 100);
+        double[] guesses = guesses(20001);
+
+        NewtonBatchSolver sequential = new NewtonBatchSolver();
+        sequential.setParallelPool(null);
+        NewtonBatchSolver.Result expected = sequential.solve(newton, guesses);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            NewtonBatchSolver parallel = new NewtonBatchSolver();
+            parallel.setParallelPool(pool);
+            parallel.setParallelThreshold(16);
+            NewtonBatchSolver.Result actual = parallel.solve(newton, guesses);
+
+            assertArrayEquals(expected.getRoots(), actual.getRoots(), 0);
+            assertArrayEquals(expected.getIterations(), actual.getIterations());
+            assertArrayEquals(expected.getConverged(), actual.getConverged());
+        } finally {
+            pool.shutdown();
+        }
+
+        // Середина сетки - ровно 0, где производная нулевая
+        assertFalse(expected.isConverged(10000));
+        assertEquals(guesses.length - 1, expected.getConvergedCount());
+    }
+
+    @Test
+    public void testAutomaticDerivative() {
+        NewtonFunction newton = new NewtonFunction((DifferentiableFunction) x -> x.exp().subtract(3), 1e-12, 100);
+        NewtonBatchSolver.Result result = new NewtonBatchSolver().solve(newton, new double[]{0.0, 1.0, 2.0});
+
+        for (int i = 0; i < result.size(); i++) {
+            assertTrue(result.isConverged(i));
+            assertEquals(Math.log(3), result.getRoot(i), 1e-12);
+        }
+    }
+
+    @Test
+    public void testEmptyBatch() {
+        NewtonFunction newton = new NewtonFunction(QUADRATIC, QUADRATIC_DERIVATIVE, 1e-12, 100);
+        assertEquals(0, new NewtonBatchSolver().solve(newton, new double[0]).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidThresholdThrows() {
+        new NewtonBatchSolver().setParallelThreshold(0);
+    }
+}
@@ -192,6 +192,135 @@ public class TabulatedDifferentialOperatorTest {
         TabulatedFunction df = op.derive(f);
         assertTrue(df instanceof org.example.functions.ArrayTabulatedFunction);
     }
+
+    @Test
+    public void testStreamingDeriveMatchesArrayDerive() {
+        int count = 1000;
+        ArrayTabulatedFunction array = new ArrayTabulatedFunction(Math::sin, 0.0, 10.0, count);
+        double[] x = new double[count];
+        double[] y = new double[count];
+        for (int i = 0; i < count; i++) {
+            x[i] = array.getX(i);
+            y[i] = array.getY(i);
+        }
+        TabulatedFunction expected = operator.derive(array);
+        TabulatedFunction[] others = {
+                new LinkedListTabulatedFunction(x, y),
+                new SynchronizedTabulatedFunction(new LinkedListTabulatedFunction(x, y)),
+                new org.example.functions.UniformTabulatedFunction(x, y)
+        };
+        for (TabulatedFunction other : others) {
+            TabulatedFunction derived = operator.derive(other);
+            for (int i = 0; i < count; i++) {
+                assertEquals(expected.getX(i), derived.getX(i), 0.0);
+                assertEquals(expected.getY(i), derived.getY(i), 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testDeriveSharesGridOfArrayInput() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(xValues, yValues);
+        TabulatedFunction derived = operator.derive(function);
+        assertTrue(((ArrayTabulatedFunction) derived).hasSameGrid(function));
+    }
+
+    @Test
+    public void testParallelDeriveMatchesSequential() {
+        int count = 200_003;
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(x -> Math.exp(Math.sin(x)), -5.0, 5.0, count);
+        TabulatedFunction expected = operator.derive(function);
+
+        java.util.concurrent.ForkJoinPool pool = new java.util.concurrent.ForkJoinPool(4);
+        try {
+            operator.setParallelPool(pool);
+            operator.setParallelThreshold(1000);
+            TabulatedFunction actual = operator.derive(function);
+            for (int i = 0; i < count; i++) {
+                assertEquals(expected.getY(i), actual.getY(i), 0.0);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testDeriveAllOnNonUniformGrid() {
+        // Шаблон из 5 узлов точен для многочленов до четвёртой степени при любом расположении узлов
+        double[] x = {-1.0, -0.7, 0.1, 0.15, 0.9, 1.4, 2.0, 3.1};
+        double[] y = new double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            y[i] = 2 * x[i] * x[i] * x[i] - x[i] * x[i] + 3;
+        }
+        TabulatedFunction[] derivatives = operator.deriveAll(new LinkedListTabulatedFunction(x, y), 3);
+
+        assertEquals(3, derivatives.length);
+        for (int i = 0; i < x.length; i++) {
+            assertEquals(x[i], derivatives[0].getX(i), 0.0);
+            assertEquals(6 * x[i] * x[i] - 2 * x[i], derivatives[0].getY(i), 1e-9);
+            assertEquals(12 * x[i] - 2, derivatives[1].getY(i), 1e-8);
+            assertEquals(12.0, derivatives[2].getY(i), 1e-7);
+        }
+    }
+
+    @Test
+    public void testDeriveOrderMatchesDeriveAll() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(Math::exp, 0.0, 1.0, 101);
+        TabulatedFunction second = operator.derive(function, 2);
+        TabulatedFunction[] all = operator.deriveAll(function, 2);
+        for (int i = 0; i < function.getCount(); i++) {
+            assertEquals(all[1].getY(i), second.getY(i), 0.0);
+            assertEquals(Math.exp(function.getX(i)), second.getY(i), 1e-3);
+        }
+    }
+
+    @Test
+    public void testDeriveOrderCreatesSingleTable() {
+        int[] created = {0};
+        TabulatedDifferentialOperator counting = new TabulatedDifferentialOperator(new ArrayTabulatedFunctionFactory() {
+            @Override
+            public TabulatedFunction createOnGrid(TabulatedFunction grid, double[] yValues) {
+                created[0]++;
+                return super.createOnGrid(grid, yValues);
+            }
+        });
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(x -> x * x * x * x, 0.0, 2.0, 201);
+
+        TabulatedFunction third = counting.derive(function, 3);
+
+        assertEquals(1, created[0]);
+        for (int i = 0; i < function.getCount(); i++) {
+            assertEquals(24 * function.getX(i), third.getY(i), 1e-4);
+        }
+    }
+
+    @Test
+    public void testDeriveAllParallelMatchesSequential() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(Math::sin, 0.0, 10.0, 50_000);
+        TabulatedFunction[] expected = operator.deriveAll(function, 2);
+        java.util.concurrent.ForkJoinPool pool = new java.util.concurrent.ForkJoinPool(3);
+        try {
+            operator.setParallelPool(pool);
+            operator.setParallelThreshold(1000);
+            TabulatedFunction[] actual = operator.deriveAll(function, 2);
+            for (int i = 0; i < function.getCount(); i += 7) {
+                assertEquals(expected[0].getY(i), actual[0].getY(i), 0.0);
+                assertEquals(expected[1].getY(i), actual[1].getY(i), 0.0);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDeriveAllNeedsEnoughPoints() {
+        operator.deriveAll(new ArrayTabulatedFunction(new double[]{0.0, 1.0, 2.0}, new double[]{0.0, 1.0, 4.0}), 3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDeriveInvalidOrder() {
+        operator.derive(new ArrayTabulatedFunction(xValues, yValues), 0);
+    }
 }
 
 
@@ -0,0 +1,150 @@
+package org.example.operations;
+
+import org.example.exceptions.InconsistentFunctionsException;
+import org.example.functions.ArrayTabulatedFunction;
+import org.example.functions.LinkedListTabulatedFunction;
+import org.example.functions.TabulatedFunction;
+import org.example.functions.UniformTabulatedFunction;
+import org.example.functions.factory.LinkedListTabulatedFunctionFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TabulatedExpressionTest {
+
+    private static final double[] X = {1.0, 2.0, 3.0, 4.0};
+
+    private TabulatedFunction a;
+    private TabulatedFunction b;
+    private TabulatedFunction c;
+    private TabulatedFunctionOperationService service;
+
+    @Before
+    public void setUp() {
+        a = new ArrayTabulatedFunction(X, new double[]{1.0, 2.0, 3.0, 4.0});
+        b = new LinkedListTabulatedFunction(X, new double[]{10.0, 20.0, 30.0, 40.0});
+        c = new ArrayTabulatedFunction(X, new double[]{0.5, 0.5, 2.0, 8.0});
+        service = new TabulatedFunctionOperationService();
+    }
+
+    private static void assertSameFunction(TabulatedFunction expected, TabulatedFunction actual) {
+        assertEquals(expected.getCount(), actual.getCount());
+        for (int i = 0; i < expected.getCount(); i++) {
+            assertEquals(expected.getX(i), actual.getX(i), 0.0);
+            assertEquals(expected.getY(i), actual.getY(i), 0.0);
+        }
+    }
+
+    @Test
+    public void testMatchesEagerOperations() {
+        TabulatedFunction expected = service.add(service.mult(a, b), c);
+        TabulatedFunction actual = service.expr(a).mult(b).add(c).materialize();
+        assertSameFunction(expected, actual);
+    }
+
+    @Test
+    public void testNestedExpressions() {
+        // (a - c) / (b + a * c)
+        TabulatedFunction expected = service.div(service.sub(a, c), service.add(b, service.mult(a, c)));
+        TabulatedFunction actual = service.expr(a).sub(c)
+                .div(service.expr(b).add(service.expr(a).mult(c)))
+                .materialize();
+        assertSameFunction(expected, actual);
+    }
+
+    @Test
+    public void testRepeatedFunctionAndFactory() {
+        TabulatedFunction actual = service.expr(b).mult(b).sub(b).materialize(new LinkedListTabulatedFunctionFactory());
+        assertTrue(actual instanceof LinkedListTabulatedFunction);
+        for (int i = 0; i < X.length; i++) {
+            double y = b.getY(i);
+            assertEquals(y * y - y, actual.getY(i), 0.0);
+        }
+    }
+
+    @Test
+    public void testExpressionIsLazy() {
+        ArrayTabulatedFunction mutable = new ArrayTabulatedFunction(X, new double[]{1.0, 1.0, 1.0, 1.0});
+        TabulatedExpression expression = service.expr(mutable).add(a);
+        mutable.setY(0, 100.0);
+        assertEquals(101.0, expression.materialize().getY(0), 0.0);
+    }
+
+    @Test
+    public void testUniformOperands() {
+        UniformTabulatedFunction u = new UniformTabulatedFunction(Math::sin, 0.0, 1.0, 101);
+        UniformTabulatedFunction v = new UniformTabulatedFunction(Math::cos, 0.0, 1.0, 101);
+        assertSameFunction(service.mult(service.add(u, v), v), service.expr(u).add(v).mult(v).materialize());
+    }
+
+    @Test
+    public void testDifferentXThrows() {
+        TabulatedFunction shifted = new ArrayTabulatedFunction(new double[]{1.0, 2.0, 3.5, 4.0}, new double[4]);
+        try {
+            service.expr(a).add(b).mult(shifted).materialize();
+            fail("Ожидалось InconsistentFunctionsException");
+        } catch (InconsistentFunctionsException e) {
+            assertTrue(e.getMessage(), e.getMessage().endsWith("в точке 2"));
+        }
+    }
+
+    @Test(expected = InconsistentFunctionsException.class)
+    public void testDifferentCountThrows() {
+        TabulatedFunction shorter = new ArrayTabulatedFunction(new double[]{1.0, 2.0, 3.0}, new double[3]);
+        service.expr(a).add(shorter).materialize();
+    }
+
+    @Test
+    public void testDivisionByZeroGivesInfinity() {
+        TabulatedFunction zero = new ArrayTabulatedFunction(X, new double[4]);
+        TabulatedFunction result = service.expr(a).div(zero).materialize();
+        assertEquals(Double.POSITIVE_INFINITY, result.getY(0), 0.0);
+    }
+
+    @Test
+    public void testUnionAlignmentMatchesEagerOperation() {
+        TabulatedFunction f = new ArrayTabulatedFunction(new double[]{0.0, 1.0, 2.0, 4.0}, new double[]{0.0, 1.0, 4.0, 16.0});
+        TabulatedFunction g = new LinkedListTabulatedFunction(new double[]{0.5, 1.0, 3.0}, new double[]{1.0, 2.0, 6.0});
+        service.setGridAlignment(GridAlignment.UNION);
+
+        TabulatedFunction expected = service.add(f, g);
+        TabulatedFunction actual = service.expr(f).add(g).materialize();
+        assertEquals(6, actual.getCount());
+        assertSameFunction(expected, actual);
+    }
+
+    @Test
+    public void testAlignmentAcrossSeveralGrids() {
+        TabulatedFunction f = new ArrayTabulatedFunction(new double[]{0.0, 1.0, 2.0, 4.0}, new double[]{0.0, 1.0, 4.0, 16.0});
+        TabulatedFunction g = new LinkedListTabulatedFunction(new double[]{0.5, 1.0, 3.0}, new double[]{1.0, 2.0, 6.0});
+        TabulatedFunction h = new ArrayTabulatedFunction(new double[]{1.0, 2.5, 3.0}, new double[]{-1.0, 2.0, 0.5});
+
+        // Сетка результата: объединение всех X, сетка самой левой или самой правой функции
+        GridAlignment[] alignments = {GridAlignment.UNION, GridAlignment.FIRST, GridAlignment.SECOND};
+        double[][] expectedX = {{0.0, 0.5, 1.0, 2.0, 2.5, 3.0, 4.0}, {0.0, 1.0, 2.0, 4.0}, {1.0, 2.5, 3.0}};
+        for (int m = 0; m < alignments.length; m++) {
+            service.setGridAlignment(alignments[m]);
+            TabulatedFunction result = service.expr(f).mult(g).sub(h).materialize();
+            assertEquals(expectedX[m].length, result.getCount());
+            for (int i = 0; i < expectedX[m].length; i++) {
+                double x = expectedX[m][i];
+                assertEquals(x, result.getX(i), 0.0);
+                assertEquals(alignments[m] + ", x = " + x, f.apply(x) * g.apply(x) - h.apply(x), result.getY(i), 1e-12);
+            }
+        }
+    }
+
+    @Test
+    public void testNonStrictAlignmentOnCommonGrid() {
+        service.setGridAlignment(GridAlignment.UNION);
+        assertSameFunction(service.add(service.mult(a, b), c), service.expr(a).mult(b).add(c).materialize());
+    }
+
+    @Test
+    public void testToString() {
+        String text = service.expr(a).mult(b).add(c).toString();
+        assertTrue(text, text.startsWith("((ArrayTabulatedFunction@"));
+        assertTrue(text, text.contains(" * LinkedListTabulatedFunction@"));
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.operations;
+
+import org.example.exceptions.InconsistentFunctionsException;
+import org.example.functions.ArrayTabulatedFunction;
+import org.example.functions.LinkedListTabulatedFunction;
+import org.example.functions.TabulatedFunction;
+import org.example.functions.factory.LinkedListTabulatedFunctionFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TabulatedFunctionOperationServiceAlignmentTest {
+
+    private TabulatedFunction a;
+    private TabulatedFunction b;
+    private TabulatedFunctionOperationService service;
+
+    @Before
+    public void setUp() {
+        a = new ArrayTabulatedFunction(new double[]{0.0, 1.0, 2.0, 4.0}, new double[]{0.0, 1.0, 4.0, 16.0});
+        b = new LinkedListTabulatedFunction(new double[]{0.5, 1.0, 3.0}, new double[]{1.0, 2.0, 6.0});
+        service = new TabulatedFunctionOperationService();
+    }
+
+    @Test(expected = InconsistentFunctionsException.class)
+    public void testStrictIsDefault() {
+        assertEquals(GridAlignment.STRICT, service.getGridAlignment());
+        service.add(a, b);
+    }
+
+    @Test
+    public void testUnionGrid() {
+        service.setGridAlignment(GridAlignment.UNION);
+        TabulatedFunction result = service.add(a, b);
+
+        double[] expectedX = {0.0, 0.5, 1.0, 2.0, 3.0, 4.0};
+        assertEquals(expectedX.length, result.getCount());
+        for (int i = 0; i < expectedX.length; i++) {
+            double x = expectedX[i];
+            assertEquals(x, result.getX(i), 0.0);
+            assertEquals("x = " + x, a.apply(x) + b.apply(x), result.getY(i), 1e-12);
+        }
+    }
+
+    @Test
+    public void testFirstAndSecondGrids() {
+        service.setGridAlignment(GridAlignment.FIRST);
+        TabulatedFunction first = service.mult(a, b);
+        assertEquals(a.getCount(), first.getCount());
+        for (int i = 0; i < a.getCount(); i++) {
+            double x = a.getX(i);
+            assertEquals(x, first.getX(i), 0.0);
+            assertEquals(a.getY(i) * b.apply(x), first.getY(i), 1e-12);
+        }
+
+        service.setGridAlignment(GridAlignment.SECOND);
+        service.setFactory(new LinkedListTabulatedFunctionFactory());
+        TabulatedFunction second = service.sub(a, b);
+        assertTrue(second instanceof LinkedListTabulatedFunction);
+        assertEquals(b.getCount(), second.getCount());
+        for (int i = 0; i < b.getCount(); i++) {
+            double x = b.getX(i);
+            assertEquals(x, second.getX(i), 0.0);
+            assertEquals(a.apply(x) - b.getY(i), second.getY(i), 1e-12);
+        }
+    }
+
+    @Test
+    public void testUnionMatchesApplyOnRandomGrids() {
+        Random random = new Random(7);
+        double[] xA = new double[500];
+        double[] xB = new double[300];
+        double x = -1.0;
+        for (int i = 0; i < xA.length; i++) {
+            x += 0.01 + random.nextDouble();
+            xA[i] = x;
+        }
+        x = 0.0;
+        for (int i = 0; i < xB.length; i++) {
+            x += 0.01 + 2 * random.nextDouble();
+            xB[i] = i % 10 == 0 ? xA[Math.min(i, xA.length - 1)] : x;
+        }
+        java.util.Arrays.sort(xB);
+        double[] yA = new double[xA.length];
+        double[] yB = new double[xB.length];
+        for (int i = 0; i < yA.length; i++) {
+            yA[i] = Math.sin(xA[i]);
+        }
+        for (int i = 0; i < yB.length; i++) {
+            yB[i] = Math.cos(xB[i]) + 2.0;
+        }
+        TabulatedFunction f = new ArrayTabulatedFunction(xA, yA);
+        TabulatedFunction g = new ArrayTabulatedFunction(xB, yB);
+
+        service.setGridAlignment(GridAlignment.UNION);
+        TabulatedFunction result = service.div(f, g);
+        for (int i = 0; i < result.getCount(); i++) {
+            double point = result.getX(i);
+            if (i > 0) {
+                assertTrue(point > result.getX(i - 1));
+            }
+            assertEquals("x = " + point, f.apply(point) / g.apply(point), result.getY(i), 1e-9);
+        }
+    }
+
+    @Test
+    public void testSameGridUsesDirectPath() {
+        service.setGridAlignment(GridAlignment.UNION);
+        TabulatedFunction result = service.add(a, a);
+        assertEquals(a.getCount(), result.getCount());
+        assertEquals(32.0, result.getY(3), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroWidthEdgeIntervalThrowsOnExtrapolation() {
+        // У второй функции два последних X совпадают - экстраполировать вправо до 4.0 не по чему
+        service.setGridAlignment(GridAlignment.UNION);
+        TabulatedFunction degenerate = new LinkedListTabulatedFunction(
+                new double[]{0.5, 3.0, 3.0}, new double[]{1.0, 2.0, 5.0});
+        service.add(a, degenerate);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullAlignment() {
+        service.setGridAlignment(null);
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.operations;
+
+import org.example.concurrent.SynchronizedTabulatedFunction;
+import org.example.exceptions.InconsistentFunctionsException;
+import org.example.functions.ArrayTabulatedFunction;
+import org.example.functions.LinkedListTabulatedFunction;
+import org.example.functions.TabulatedFunction;
+import org.example.functions.UniformTabulatedFunction;
+import org.example.functions.UnmodifiableTabulatedFunction;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class TabulatedFunctionOperationServiceInPlaceTest {
+
+    private static final double[] X = {1.0, 2.0, 3.0, 4.0};
+    private static final double[] Y = {10.0, 20.0, 30.0, 40.0};
+    private static final double[] OTHER_Y = {1.0, 2.0, 4.0, 8.0};
+
+    private TabulatedFunctionOperationService service;
+
+    @Before
+    public void setUp() {
+        service = new TabulatedFunctionOperationService();
+    }
+
+    private static TabulatedFunction[] targets() {
+        return new TabulatedFunction[]{
+                new ArrayTabulatedFunction(X, Y),
+                new LinkedListTabulatedFunction(X, Y),
+                new UniformTabulatedFunction(X, Y),
+                new SynchronizedTabulatedFunction(new LinkedListTabulatedFunction(X, Y))
+        };
+    }
+
+    private static TabulatedFunction[] others() {
+        return new TabulatedFunction[]{
+                new ArrayTabulatedFunction(X, OTHER_Y),
+                new LinkedListTabulatedFunction(X, OTHER_Y)
+        };
+    }
+
+    @Test
+    public void testInPlaceOperationsMatchEager() {
+        for (TabulatedFunction other : others()) {
+            for (TabulatedFunction target : targets()) {
+                String name = target.getClass().getSimpleName() + " / " + other.getClass().getSimpleName();
+                TabulatedFunction expected = service.div(service.mult(service.sub(service.add(target, other), other), other), other);
+
+                assertSame(target, service.addInPlace(target, other));
+                service.subInPlace(target, other);
+                service.multInPlace(target, other);
+                service.divInPlace(target, other);
+                for (int i = 0; i < X.length; i++) {
+                    assertEquals(name, expected.getY(i), target.getY(i), 1e-12);
+                    assertEquals(name, X[i], target.getX(i), 0.0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAccumulateIntoItself() {
+        for (TabulatedFunction target : targets()) {
+            service.addInPlace(target, target);
+            for (int i = 0; i < X.length; i++) {
+                assertEquals(2 * Y[i], target.getY(i), 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testScaleAndTransform() {
+        for (TabulatedFunction target : targets()) {
+            service.scaleInPlace(target, 0.5);
+            service.transformY(target, y -> y + 1.0);
+            for (int i = 0; i < X.length; i++) {
+                assertEquals(0.5 * Y[i] + 1.0, target.getY(i), 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testMismatchLeavesTargetUnchanged() {
+        TabulatedFunction other = new ArrayTabulatedFunction(new double[]{1.0, 2.0, 3.0, 5.0}, OTHER_Y);
+        for (TabulatedFunction target : targets()) {
+            try {
+                service.addInPlace(target, other);
+                fail("Ожидалось InconsistentFunctionsException");
+            } catch (InconsistentFunctionsException e) {
+                assertTrue(e.getMessage().endsWith("в точке 3"));
+            }
+            for (int i = 0; i < X.length; i++) {
+                assertEquals(Y[i], target.getY(i), 0.0);
+            }
+        }
+    }
+
+    @Test(expected = InconsistentFunctionsException.class)
+    public void testDifferentCount() {
+        service.addInPlace(new ArrayTabulatedFunction(X, Y), new ArrayTabulatedFunction(new double[]{1.0, 2.0}, new double[]{1.0, 2.0}));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiableTarget() {
+        service.scaleInPlace(new UnmodifiableTabulatedFunction(new LinkedListTabulatedFunction(X, Y)), 2.0);
+    }
+
+    @Test
+    public void testParallelInPlace() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            service.setParallelPool(pool);
+            service.setParallelThreshold(1000);
+            int count = 100_000;
+            ArrayTabulatedFunction target = new ArrayTabulatedFunction(Math::sin, 0.0, 10.0, count);
+            ArrayTabulatedFunction other = new ArrayTabulatedFunction(Math::cos, 0.0, 10.0, count);
+            service.multInPlace(target, other);
+            for (int i = 0; i < count; i += 997) {
+                double x = target.getX(i);
+                assertEquals(Math.sin(x) * Math.cos(x), target.getY(i), 1e-12);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.operations;
+
+import org.example.exceptions.InconsistentFunctionsException;
+import org.example.functions.ArrayTabulatedFunction;
+import org.example.functions.LinkedListTabulatedFunction;
+import org.example.functions.TabulatedFunction;
+import org.example.functions.UniformTabulatedFunction;
+import org.example.functions.factory.LinkedListTabulatedFunctionFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class TabulatedFunctionOperationServiceParallelTest {
+
+    private static final int COUNT = 200_000;
+
+    private ForkJoinPool pool;
+    private TabulatedFunctionOperationService sequential;
+    private TabulatedFunctionOperationService parallel;
+
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+        sequential = new TabulatedFunctionOperationService();
+        parallel = new TabulatedFunctionOperationService();
+        parallel.setParallelPool(pool);
+        parallel.setParallelThreshold(1000);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    private static double[] grid(int count) {
+        double[] xValues = new double[count];
+        for (int i = 0; i < count; i++) {
+            xValues[i] = i * 0.001;
+        }
+        return xValues;
+    }
+
+    private static double[] values(double[] xValues, java.util.function.DoubleUnaryOperator f) {
+        double[] yValues = new double[xValues.length];
+        for (int i = 0; i < xValues.length; i++) {
+            yValues[i] = f.applyAsDouble(xValues[i]);
+        }
+        return yValues;
+    }
+
+    private static void assertSameFunction(TabulatedFunction expected, TabulatedFunction actual) {
+        assertEquals(expected.getCount(), actual.getCount());
+        for (int i = 0; i < expected.getCount(); i++) {
+            assertEquals(expected.getX(i), actual.getX(i), 0.0);
+            assertEquals(expected.getY(i), actual.getY(i), 0.0);
+        }
+    }
+
+    @Test
+    public void testParallelMatchesSequential() {
+        double[] xValues = grid(COUNT);
+        TabulatedFunction a = new ArrayTabulatedFunction(xValues, values(xValues, Math::sin));
+        TabulatedFunction b = new ArrayTabulatedFunction(xValues, values(xValues, x -> 2.0 + Math.cos(x)));
+
+        assertSameFunction(sequential.add(a, b), parallel.add(a, b));
+        assertSameFunction(sequential.sub(a, b), parallel.sub(a, b));
+        assertSameFunction(sequential.mult(a, b), parallel.mult(a, b));
+        assertSameFunction(sequential.div(a, b), parallel.div(a, b));
+    }
+
+    @Test
+    public void testParallelCursorPathMatchesSequential() {
+        double[] xValues = grid(20_000);
+        TabulatedFunction a = new LinkedListTabulatedFunction(xValues, values(xValues, Math::exp));
+        TabulatedFunction b = new ArrayTabulatedFunction(xValues, values(xValues, x -> x * x));
+        parallel.setFactory(new LinkedListTabulatedFunctionFactory());
+        sequential.setFactory(new LinkedListTabulatedFunctionFactory());
+
+        assertSameFunction(sequential.mult(a, b), parallel.mult(a, b));
+    }
+
+    @Test
+    public void testParallelUniformGrids() {
+        UniformTabulatedFunction a = new UniformTabulatedFunction(Math::sin, 0.0, 10.0, COUNT);
+        UniformTabulatedFunction b = new UniformTabulatedFunction(Math::cos, 0.0, 10.0, COUNT);
+
+        assertSameFunction(sequential.add(a, b), parallel.add(a, b));
+    }
+
+    @Test
+    public void testParallelReportsLowestMismatchingIndex() {
+        double[] xValues = grid(COUNT);
+        double[] otherX = grid(COUNT);
+        // Расхождения в разных кусках: ожидается всегда самое левое
+        otherX[150_123] += 1e-4;
+        otherX[90_001] += 1e-4;
+        otherX[180_000] += 1e-4;
+        TabulatedFunction a = new ArrayTabulatedFunction(xValues, values(xValues, Math::sin));
+        TabulatedFunction b = new ArrayTabulatedFunction(otherX, values(otherX, Math::sin));
+
+        for (int attempt = 0; attempt < 10; attempt++) {
+            try {
+                parallel.add(a, b);
+                fail("Ожидалось InconsistentFunctionsException");
+            } catch (InconsistentFunctionsException e) {
+                assertTrue(e.getMessage(), e.getMessage().endsWith("в точке 90001"));
+            }
+        }
+    }
+
+    @Test
+    public void testBelowThresholdRunsSequentially() {
+        parallel.setParallelThreshold(Integer.MAX_VALUE);
+        double[] xValues = grid(1000);
+        TabulatedFunction a = new ArrayTabulatedFunction(xValues, values(xValues, Math::sin));
+
+        assertSameFunction(sequential.add(a, a), parallel.add(a, a));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidThreshold() {
+        parallel.setParallelThreshold(0);
+    }
+}
@@ -261,4 +261,73 @@ public class TabulatedFunctionOperationServiceTest {
             assertEquals(result1.getY(i), result2.getY(i), 1e-10);
         }
     }
+
+    @Test
+    public void testArrayResultSharesGridWithOperand() {
+        service.setFactory(new ArrayTabulatedFunctionFactory());
+        ArrayTabulatedFunction sum = (ArrayTabulatedFunction) service.add(arrayFunction1, arrayFunction2);
+        ArrayTabulatedFunction product = (ArrayTabulatedFunction) service.mult(sum, arrayFunction1);
+
+        assertTrue(sum.hasSameGrid((ArrayTabulatedFunction) arrayFunction1));
+        assertTrue(product.hasSameGrid(sum));
+        assertEquals(150.0, product.getY(0), 1e-12);
+        assertEquals(3000.0, product.getY(3), 1e-12);
+    }
+
+    @Test
+    public void testInsertIntoSharedGridDoesNotAffectOperand() {
+        service.setFactory(new ArrayTabulatedFunctionFactory());
+        ArrayTabulatedFunction sum = (ArrayTabulatedFunction) service.add(arrayFunction1, arrayFunction2);
+
+        sum.insert(2.5, 100.0);
+        sum.remove(0);
+        assertFalse(sum.hasSameGrid((ArrayTabulatedFunction) arrayFunction1));
+        assertEquals(4, arrayFunction1.getCount());
+        assertEquals(1.0, arrayFunction1.getX(0), 0.0);
+        assertEquals(3.0, arrayFunction1.getX(2), 0.0);
+
+        ((ArrayTabulatedFunction) arrayFunction1).insert(0.5, 7.0);
+        assertEquals(2.0, sum.getX(0), 0.0);
+        assertEquals(2.5, sum.getX(1), 0.0);
+        assertEquals(4, sum.getCount());
+    }
+
+    @Test
+    public void testUniformOperandsKeepUniformGrid() {
+        service.setFactory(new UniformTabulatedFunctionFactory());
+        UniformTabulatedFunction a = new UniformTabulatedFunction(new SqrFunction(), 0.0, 1.0, 11);
+        UniformTabulatedFunction b = new UniformTabulatedFunction(new IdentityFunction(), 0.0, 1.0, 11);
+
+        UniformTabulatedFunction result = (UniformTabulatedFunction) service.sub(a, b);
+        assertTrue(result.isUniform());
+        assertTrue(result.hasSameGrid(a));
+        for (int i = 0; i < result.getCount(); i++) {
+            double x = a.getX(i);
+            assertEquals(x, result.getX(i), 0.0);
+            assertEquals(x * x - x, result.getY(i), 1e-12);
+        }
+    }
+
+    @Test
+    public void testUniformAndArrayOperandsWithArrayFactory() {
+        service.setFactory(new ArrayTabulatedFunctionFactory());
+        UniformTabulatedFunction uniform = new UniformTabulatedFunction(new double[]{1.0, 2.0, 3.0, 4.0}, new double[]{1.0, 1.0, 1.0, 1.0});
+
+        TabulatedFunction result = service.add(uniform, arrayFunction1);
+        assertTrue(result instanceof ArrayTabulatedFunction);
+        assertEquals(3.0, result.getX(2), 0.0);
+        assertEquals(31.0, result.getY(2), 1e-12);
+    }
+
+    @Test(expected = InconsistentFunctionsException.class)
+    public void testDirectPathDetectsDifferentX() {
+        TabulatedFunction other = new ArrayTabulatedFunction(new double[]{1.0, 2.0, 3.5, 4.0}, new double[]{1.0, 2.0, 3.0, 4.0});
+        service.add(arrayFunction1, other);
+    }
+
+    @Test(expected = InconsistentFunctionsException.class)
+    public void testDirectPathDetectsDifferentUniformGrids() {
+        service.add(new UniformTabulatedFunction(new SqrFunction(), 0.0, 1.0, 5),
+                new UniformTabulatedFunction(new SqrFunction(), 0.0, 2.0, 5));
+    }
 }
\ No newline at end of file
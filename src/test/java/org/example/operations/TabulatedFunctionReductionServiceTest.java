@@ -0,0 +1,154 @@
+package org.example.operations;
+
+import org.example.exceptions.InconsistentFunctionsException;
+import org.example.functions.ArrayTabulatedFunction;
+import org.example.functions.LinkedListTabulatedFunction;
+import org.example.functions.TabulatedFunction;
+import org.example.functions.UniformTabulatedFunction;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class TabulatedFunctionReductionServiceTest {
+
+    private TabulatedFunctionReductionService service;
+
+    @Before
+    public void setUp() {
+        service = new TabulatedFunctionReductionService();
+    }
+
+    @Test
+    public void testTrapezoidIsExactForPiecewiseLinear() {
+        TabulatedFunction function = new LinkedListTabulatedFunction(new double[]{0.0, 1.0, 3.0}, new double[]{0.0, 2.0, 2.0});
+        assertEquals(5.0, service.integrateTrapezoid(function), 1e-15);
+    }
+
+    @Test
+    public void testSimpsonOnNonUniformGrid() {
+        // На неравномерной сетке формула Симпсона точна для квадратичных функций - и при нечётном числе интервалов
+        double[] even = {0.0, 0.3, 1.0, 1.2, 2.0};
+        double[] odd = {0.0, 0.3, 1.0, 1.2, 1.7, 2.0};
+        for (double[] x : new double[][]{even, odd}) {
+            double[] y = new double[x.length];
+            for (int i = 0; i < x.length; i++) {
+                y[i] = x[i] * x[i] - x[i];
+            }
+            assertEquals(2.0 / 3.0, service.integrateSimpson(new ArrayTabulatedFunction(x, y)), 1e-12);
+        }
+        assertEquals(0.5, service.integrateSimpson(new ArrayTabulatedFunction(new double[]{0.0, 1.0}, new double[]{0.0, 1.0})), 0.0);
+    }
+
+    @Test
+    public void testSimpsonConvergesOnUniformFunction() {
+        TabulatedFunction function = new UniformTabulatedFunction(Math::sin, 0.0, Math.PI, 1001);
+        assertEquals(2.0, service.integrateSimpson(function), 1e-11);
+        assertEquals(2.0, service.integrateTrapezoid(function), 1e-5);
+    }
+
+    @Test
+    public void testNorms() {
+        TabulatedFunction function = new ArrayTabulatedFunction(new double[]{0.0, 1.0, 2.0}, new double[]{-1.0, 3.0, -1.0});
+        // На каждом интервале f проходит через ноль в x = 0.25 (или 1.75): |f| - два треугольника 1/8 и 9/8
+        assertEquals(2.5, service.normL1(function), 1e-12);
+        // Интеграл f^2 на интервале: h (a^2 + ab + b^2) / 3 = 7/3
+        assertEquals(Math.sqrt(14.0 / 3.0), service.normL2(function), 1e-12);
+        assertEquals(3.0, service.normLinf(function), 0.0);
+    }
+
+    @Test
+    public void testNormsMatchFineSampling() {
+        // Нормы таблицы совпадают с интегралами её кусочно-линейной интерполяции, посчитанными по мелкой сетке
+        double[] x = {0.0, 0.4, 1.0, 1.5, 3.0};
+        TabulatedFunction function = new ArrayTabulatedFunction(x, new double[]{2.0, -1.0, -0.5, 1.5, 0.0});
+        TabulatedFunction other = new ArrayTabulatedFunction(x, new double[]{-1.0, 0.5, 2.0, 1.0, -2.0});
+        int count = 300_001;
+        TabulatedFunction fineF = new UniformTabulatedFunction(function, 0.0, 3.0, count);
+        TabulatedFunction fineG = new UniformTabulatedFunction(other, 0.0, 3.0, count);
+
+        assertEquals(service.normL1(fineF), service.normL1(function), 1e-9);
+        assertEquals(service.normL2(fineF), service.normL2(function), 1e-9);
+        assertEquals(service.innerProduct(fineF, fineG), service.innerProduct(function, other), 1e-9);
+        assertEquals(service.distance(fineF, fineG), service.distance(function, other), 1e-9);
+    }
+
+    @Test
+    public void testLinfKeepsNaN() {
+        TabulatedFunction function = new ArrayTabulatedFunction(new double[]{0.0, 1.0, 2.0}, new double[]{5.0, Double.NaN, 1.0});
+        assertTrue(Double.isNaN(service.normLinf(function)));
+    }
+
+    @Test
+    public void testInnerProductAndDistance() {
+        double[] x = {0.0, 1.0, 2.0};
+        TabulatedFunction a = new ArrayTabulatedFunction(x, new double[]{1.0, 2.0, 3.0});
+        TabulatedFunction b = new LinkedListTabulatedFunction(x, new double[]{2.0, 2.0, 0.0});
+        // a * b = (1 + t) * 2 на [0, 1] и (2 + t) * 2 (1 - t) на [1, 2]
+        assertEquals(3.0 + 7.0 / 3.0, service.innerProduct(a, b), 1e-12);
+        // a - b = t - 1 на [0, 1] и 3t на [1, 2]
+        assertEquals(Math.sqrt(1.0 / 3.0 + 3.0), service.distance(a, b), 1e-12);
+        assertEquals(0.0, service.distance(a, a), 0.0);
+    }
+
+    @Test(expected = InconsistentFunctionsException.class)
+    public void testInnerProductDifferentX() {
+        service.innerProduct(new ArrayTabulatedFunction(new double[]{0.0, 1.0}, new double[]{1.0, 1.0}),
+                new ArrayTabulatedFunction(new double[]{0.0, 2.0}, new double[]{1.0, 1.0}));
+    }
+
+    @Test(expected = InconsistentFunctionsException.class)
+    public void testDistanceDifferentCount() {
+        service.distance(new ArrayTabulatedFunction(new double[]{0.0, 1.0}, new double[]{1.0, 1.0}),
+                new ArrayTabulatedFunction(new double[]{0.0, 1.0, 2.0}, new double[]{1.0, 1.0, 1.0}));
+    }
+
+    @Test
+    public void testResultDoesNotDependOnThreadCount() {
+        int count = 300_001;
+        double[] x = new double[count];
+        double[] y = new double[count];
+        Random random = new Random(1);
+        for (int i = 0; i < count; i++) {
+            x[i] = i * 1e-3;
+            y[i] = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(12));
+        }
+        TabulatedFunction function = new ArrayTabulatedFunction(x, y);
+        TabulatedFunction other = new LinkedListTabulatedFunction(x, y);
+
+        double trapezoid = service.integrateTrapezoid(function);
+        double simpson = service.integrateSimpson(function);
+        double l2 = service.normL2(function);
+        double linf = service.normLinf(function);
+        double inner = service.innerProduct(function, other);
+
+        for (int threads : new int[]{1, 2, 3, 8}) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                service.setParallelPool(pool);
+                service.setParallelThreshold(1000);
+                assertEquals(trapezoid, service.integrateTrapezoid(function), 0.0);
+                assertEquals(simpson, service.integrateSimpson(function), 0.0);
+                assertEquals(l2, service.normL2(function), 0.0);
+                assertEquals(linf, service.normLinf(function), 0.0);
+                assertEquals(inner, service.innerProduct(function, other), 0.0);
+            } finally {
+                service.setParallelPool(null);
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    public void testCompensatedSum() {
+        CompensatedSum sum = new CompensatedSum();
+        sum.add(1.0);
+        sum.add(1e100);
+        sum.add(1.0);
+        sum.add(-1e100);
+        assertEquals(2.0, sum.sum(), 0.0);
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.operations;
+
+import org.example.functions.ArrayTabulatedFunction;
+import org.example.functions.LinkedListTabulatedFunction;
+import org.example.functions.TabulatedFunction;
+import org.example.functions.UniformTabulatedFunction;
+import org.example.functions.factory.ArrayTabulatedFunctionFactory;
+import org.example.functions.factory.LinkedListTabulatedFunctionFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class TabulatedIntegralOperatorTest {
+
+    private TabulatedIntegralOperator operator;
+
+    @Before
+    public void setUp() {
+        operator = new TabulatedIntegralOperator();
+    }
+
+    @Test
+    public void testPiecewiseLinearIsExact() {
+        TabulatedFunction function = new ArrayTabulatedFunction(new double[]{0.0, 1.0, 3.0, 4.0}, new double[]{0.0, 2.0, 2.0, 0.0});
+        TabulatedFunction integral = operator.integrate(function);
+
+        assertEquals(4, integral.getCount());
+        assertEquals(0.0, integral.getY(0), 0.0);
+        assertEquals(1.0, integral.getY(1), 1e-15);
+        assertEquals(5.0, integral.getY(2), 1e-15);
+        assertEquals(6.0, integral.getY(3), 1e-15);
+        assertEquals(3.0, integral.getX(2), 0.0);
+    }
+
+    @Test
+    public void testInitialValueAndFactory() {
+        operator.setFactory(new LinkedListTabulatedFunctionFactory());
+        TabulatedFunction function = new LinkedListTabulatedFunction(new double[]{1.0, 2.0, 3.0}, new double[]{1.0, 1.0, 1.0});
+        TabulatedFunction integral = operator.integrate(function, 10.0);
+
+        assertTrue(integral instanceof LinkedListTabulatedFunction);
+        assertEquals(10.0, integral.getY(0), 0.0);
+        assertEquals(12.0, integral.getY(2), 0.0);
+    }
+
+    @Test
+    public void testSineAcrossSeveralBlocks() {
+        int count = 3 * TabulatedIntegralOperator.BLOCK_SIZE + 17;
+        TabulatedFunction function = new UniformTabulatedFunction(Math::sin, 0.0, Math.PI, count);
+        TabulatedFunction integral = operator.integrate(function);
+
+        for (int i = 0; i < count; i += 1001) {
+            double x = integral.getX(i);
+            assertEquals(1.0 - Math.cos(x), integral.getY(i), 1e-8);
+        }
+        assertEquals(2.0, integral.getY(count - 1), 1e-8);
+    }
+
+    @Test
+    public void testParallelScanMatchesSequential() {
+        int count = 500_000;
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(x -> Math.exp(-x) * Math.cos(7 * x), 0.0, 20.0, count);
+        TabulatedFunction expected = operator.integrate(function);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            operator.setParallelPool(pool);
+            operator.setParallelThreshold(1000);
+            TabulatedFunction actual = operator.integrate(function);
+            for (int i = 0; i < count; i++) {
+                assertEquals(expected.getY(i), actual.getY(i), 0.0);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testDeriveOfIntegral() {
+        TabulatedFunction function = new ArrayTabulatedFunction(new double[]{0.0, 1.0, 2.0, 3.0, 4.0}, new double[]{1.0, 3.0, 5.0, 7.0, 9.0});
+        TabulatedFunction derived = new TabulatedDifferentialOperator().derive(operator.integrate(function));
+
+        for (int i = 1; i < function.getCount() - 1; i++) {
+            assertEquals(function.getY(i), derived.getY(i), 1e-12);
+        }
+    }
+
+    @Test
+    public void testSerializationKeepsThresholdAndRestoresDefaultFactory() throws Exception {
+        TabulatedIntegralOperator original = new TabulatedIntegralOperator(new LinkedListTabulatedFunctionFactory());
+        original.setParallelThreshold(123);
+        original.setParallelPool(ForkJoinPool.commonPool());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(original);
+        }
+        TabulatedIntegralOperator restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (TabulatedIntegralOperator) in.readObject();
+        }
+
+        assertEquals(123, restored.getParallelThreshold());
+        assertNull(restored.getParallelPool());
+        assertTrue(restored.getFactory() instanceof ArrayTabulatedFunctionFactory);
+        TabulatedFunction function = new ArrayTabulatedFunction(new double[]{0.0, 1.0, 2.0}, new double[]{1.0, 1.0, 1.0});
+        assertEquals(2.0, restored.integrate(function).getY(2), 0.0);
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.operations;
+
+import org.example.functions.ArrayTabulatedFunction;
+import org.example.functions.LinkedListTabulatedFunction;
+import org.example.functions.MathFunction;
+import org.example.functions.TabulatedFunction;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class TabulatedRootFinderTest {
+
+    @Test
+    public void testLinearInterpolantRoots() {
+        // Смена знака на [0, 1] и [2, 3], нулевой узел в x = 4
+        TabulatedFunction function = new ArrayTabulatedFunction(
+                new double[]{0, 1, 2, 3, 4, 5}, new double[]{-1, 3, 1, -1, 0, 2});
+
+        double[] roots = new TabulatedRootFinder().findRoots(function);
+
+        assertArrayEquals(new double[]{0.25, 2.5, 4.0}, roots, 1e-12);
+    }
+
+    @Test
+    public void testSinRootsSortedAgainstUnderlyingFunction() {
+        MathFunction sin = Math::sin;
+        TabulatedFunction table = new LinkedListTabulatedFunction(sin, -10, 10, 41);
+
+        double[] roots = new TabulatedRootFinder().findRoots(table, sin);
+
+        // Корни kπ на [-10, 10]: k = -3..3
+        assertEquals(7, roots.length);
+        for (int i = 0; i < roots.length; i++) {
+            assertEquals((i - 3) * Math.PI, roots[i], 1e-12);
+        }
+    }
+
+    @Test
+    public void testInterpolantDiffersFromUnderlyingFunction() {
+        MathFunction cubic = x -> x * x * x - 2;
+        TabulatedFunction table = new ArrayTabulatedFunction(cubic, 0, 3, 4);
+
+        double interpolated = new TabulatedRootFinder().findRoots(table)[0];
+        double exact = new TabulatedRootFinder().findRoots(table, cubic)[0];
+
+        // Интерполянт на [1, 2]: -1 + 7(x - 1), корень 8/7
+        assertEquals(8.0 / 7, interpolated, 1e-12);
+        assertEquals(Math.cbrt(2), exact, 1e-12);
+    }
+
+    @Test
+    public void testNoRoots() {
+        TabulatedFunction function = new ArrayTabulatedFunction(new double[]{0, 1, 2}, new double[]{1, 2, 3});
+        assertEquals(0, new TabulatedRootFinder().findRoots(function).length);
+    }
+
+    @Test
+    public void testBracketSkippedWhenFunctionDoesNotChangeSign() {
+        TabulatedFunction table = new ArrayTabulatedFunction(new double[]{0, 1}, new double[]{-1, 1});
+        MathFunction positive = x -> 1 + x;
+
+        assertEquals(0, new TabulatedRootFinder().findRoots(table, positive).length);
+    }
+
+    @Test
+    public void testParallelMatchesSequential() {
+        MathFunction sin = x -> Math.sin(50 * x);
+        TabulatedFunction table = new ArrayTabulatedFunction(sin, 0.001, 20, 100_000);
+
+        TabulatedRootFinder sequential = new TabulatedRootFinder();
+        double[] expected = sequential.findRoots(table, sin);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            TabulatedRootFinder parallel = new TabulatedRootFinder();
+            parallel.setParallelPool(pool);
+            parallel.setParallelThreshold(1000);
+            double[] actual = parallel.findRoots(table, sin);
+
+            assertArrayEquals(expected, actual, 0);
+        } finally {
+            pool.shutdown();
+        }
+
+        // Корни kπ/50 при k = 1..318
+        assertEquals(318, expected.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals((i + 1) * Math.PI / 50, expected[i], 1e-12);
+            if (i > 0) {
+                assertTrue(expected[i] > expected[i - 1]);
+            }
+        }
+    }
+
+    @Test
+    public void testBrentConvergesOnHardFunction() {
+        // Почти плоская около корня функция: бисекционная страховка Брента
+        MathFunction flat = x -> Math.signum(x - 0.3) * Math.pow(Math.abs(x - 0.3), 5);
+        double root = TabulatedRootFinder.brent(flat, 0, 1, flat.apply(0), flat.apply(1), 1e-12, 200);
+
+        assertEquals(0.3, root, 1e-10);
+    }
+
+    @Test
+    public void testToleranceSetters() {
+        TabulatedRootFinder finder = new TabulatedRootFinder();
+        finder.setTolerance(1e-6);
+        finder.setMaxIterations(10);
+
+        assertEquals(1e-6, finder.getTolerance(), 0);
+        assertEquals(10, finder.getMaxIterations());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidToleranceThrows() {
+        new TabulatedRootFinder().setTolerance(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaxIterationsThrows() {
+        new TabulatedRootFinder().setMaxIterations(0);
+    }
+}